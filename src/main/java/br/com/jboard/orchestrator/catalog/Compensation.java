@@ -0,0 +1,11 @@
+package br.com.jboard.orchestrator.catalog;
+
+public record Compensation(long min, long max, String currency, CompensationPeriod period) {
+    public long annualMin() {
+        return period.annualize(min);
+    }
+
+    public long annualMax() {
+        return period.annualize(max);
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.jboard.orchestrator.catalog;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class CompensationParser {
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(?<!\\d|\\d[.,])(\\d{1,3}(?:[.,]\\d{3}){1,4}|\\d{1,15})(?:[.,](\\d{1,2}))?(?![.,]?\\d)"
+                    + "\\s?(k|mil|mi|m)?(?![\\p{L}])",
+            Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    private static final Pattern OVERLONG_AMOUNT = Pattern.compile("\\d{16,}|\\d(?:[.,]\\d{3}){5,}");
+    private static final String[][] CURRENCIES = {
+            {"R$", "BRL"}, {"BRL", "BRL"}, {"CA$", "CAD"}, {"C$", "CAD"}, {"CAD", "CAD"}, {"AU$", "AUD"},
+            {"A$", "AUD"}, {"AUD", "AUD"}, {"US$", "USD"}, {"USD", "USD"}, {"€", "EUR"}, {"EUR", "EUR"},
+            {"£", "GBP"}, {"GBP", "GBP"}, {"$", "USD"}
+    };
+    private static final List<Map.Entry<String, CompensationPeriod>> PERIODS = List.of(
+            Map.entry("/hr", CompensationPeriod.HOUR), Map.entry("/h", CompensationPeriod.HOUR),
+            Map.entry("per hour", CompensationPeriod.HOUR), Map.entry("hourly", CompensationPeriod.HOUR),
+            Map.entry("por hora", CompensationPeriod.HOUR),
+            Map.entry("/day", CompensationPeriod.DAY), Map.entry("per day", CompensationPeriod.DAY),
+            Map.entry("daily", CompensationPeriod.DAY), Map.entry("/dia", CompensationPeriod.DAY),
+            Map.entry("por dia", CompensationPeriod.DAY),
+            Map.entry("/mo", CompensationPeriod.MONTH), Map.entry("per month", CompensationPeriod.MONTH),
+            Map.entry("monthly", CompensationPeriod.MONTH), Map.entry("/mês", CompensationPeriod.MONTH),
+            Map.entry("/mes", CompensationPeriod.MONTH), Map.entry("por mês", CompensationPeriod.MONTH),
+            Map.entry("mensal", CompensationPeriod.MONTH),
+            Map.entry("/yr", CompensationPeriod.YEAR), Map.entry("/year", CompensationPeriod.YEAR),
+            Map.entry("per year", CompensationPeriod.YEAR), Map.entry("annual", CompensationPeriod.YEAR),
+            Map.entry("yearly", CompensationPeriod.YEAR), Map.entry("/ano", CompensationPeriod.YEAR),
+            Map.entry("por ano", CompensationPeriod.YEAR), Map.entry("anual", CompensationPeriod.YEAR));
+    private static final long MAX_HOURLY = 1_000;
+    private static final long MAX_MONTHLY_BRL = 100_000;
+    private static final long MAX_AMOUNT = 1_000_000_000_000L;
+
+    private CompensationParser() {
+    }
+
+    public static Compensation parse(String summary) {
+        if (summary == null || summary.isBlank()) return null;
+
+        String text = summary.split("[•|]", 2)[0];
+        if (OVERLONG_AMOUNT.matcher(text).find()) return null;
+        Matcher matcher = AMOUNT.matcher(text);
+        long[] amounts = new long[2];
+        boolean[] scaled = new boolean[2];
+        int count = 0;
+        int firstAmountAt = -1;
+        long min;
+        long max;
+        try {
+            while (count < 2 && matcher.find()) {
+                if (firstAmountAt < 0) firstAmountAt = matcher.start();
+                amounts[count] = amountOf(matcher);
+                scaled[count] = matcher.group(3) != null;
+                count++;
+            }
+            if (count == 0) return null;
+
+            min = amounts[0];
+            max = count == 2 ? amounts[1] : amounts[0];
+            if (count == 2 && !scaled[0] && scaled[1]) {
+                long scaledMin = Math.multiplyExact(min, multiplierOf(matcher.group(3)));
+                if (scaledMin <= max) min = scaledMin;
+            }
+        } catch (NumberFormatException | ArithmeticException ex) {
+            return null;
+        }
+        if (min <= 0 || max < min || max > MAX_AMOUNT) return null;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        String currency = currencyOf(text, firstAmountAt);
+        CompensationPeriod period = periodOf(lower, currency, max);
+        return new Compensation(min, max, currency, period);
+    }
+
+    private static long amountOf(Matcher matcher) {
+        long whole = Long.parseLong(matcher.group(1).replace(".", "").replace(",", ""));
+        String fraction = matcher.group(2);
+        long multiplier = matcher.group(3) == null ? 1 : multiplierOf(matcher.group(3));
+        long value = Math.multiplyExact(whole, multiplier);
+        if (fraction == null) return value;
+        return Math.addExact(value, Math.round(Double.parseDouble("0." + fraction) * multiplier));
+    }
+
+    private static long multiplierOf(String suffix) {
+        return switch (suffix.toLowerCase(Locale.ROOT)) {
+            case "k", "mil" -> 1_000;
+            default -> 1_000_000;
+        };
+    }
+
+    private static String currencyOf(String text, int firstAmountAt) {
+        String upper = text.toUpperCase(Locale.ROOT);
+        String prefix = upper.substring(0, firstAmountAt);
+        for (String[] currency : CURRENCIES) {
+            if (prefix.contains(currency[0])) return currency[1];
+        }
+        for (String[] currency : CURRENCIES) {
+            if (upper.contains(currency[0])) return currency[1];
+        }
+        return null;
+    }
+
+    private static CompensationPeriod periodOf(String lower, String currency, long max) {
+        for (Map.Entry<String, CompensationPeriod> period : PERIODS) {
+            if (lower.contains(period.getKey())) return period.getValue();
+        }
+        if (max < MAX_HOURLY) return CompensationPeriod.HOUR;
+        if ("BRL".equals(currency) && max < MAX_MONTHLY_BRL) return CompensationPeriod.MONTH;
+        return CompensationPeriod.YEAR;
+    }
+}
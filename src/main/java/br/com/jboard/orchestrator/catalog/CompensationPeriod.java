@@ -0,0 +1,31 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.Getter;
+
+@Getter
+public enum CompensationPeriod {
+    HOUR("hour", 2080),
+    DAY("day", 260),
+    MONTH("month", 12),
+    YEAR("year", 1);
+
+    private final String param;
+    private final int perYear;
+
+    CompensationPeriod(String param, int perYear) {
+        this.param = param;
+        this.perYear = perYear;
+    }
+
+    public long annualize(long amount) {
+        return amount == JobDates.MISSING ? JobDates.MISSING : amount * perYear;
+    }
+
+    public static CompensationPeriod fromParam(String param) {
+        for (CompensationPeriod period : values()) {
+            if (period.param.equalsIgnoreCase(param)) return period;
+        }
+        throw new BadRequestException("salaryPeriod inválido: " + param);
+    }
+}
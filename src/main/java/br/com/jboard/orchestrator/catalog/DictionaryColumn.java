@@ -0,0 +1,70 @@
+package br.com.jboard.orchestrator.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class DictionaryColumn {
+    private final String[] values;
+    private final int[] codes;
+
+    private DictionaryColumn(String[] values, int[] codes) {
+        this.values = values;
+        this.codes = codes;
+    }
+
+    public String get(int ordinal) {
+        int code = codes[ordinal];
+        return code < 0 ? null : values[code];
+    }
+
+    public int code(int ordinal) {
+        return codes[ordinal];
+    }
+
+    public String value(int code) {
+        return values[code];
+    }
+
+    public int cardinality() {
+        return values.length;
+    }
+
+    long estimatedBytes() {
+        long dictionary = 16L + 4L * values.length;
+        for (String value : values) dictionary += 40L + value.length();
+        return dictionary + 16L + 4L * codes.length;
+    }
+
+    static final class Builder {
+        private final Map<String, Integer> codesByValue = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private int[] codes;
+        private int count;
+
+        Builder(int capacity) {
+            this.codes = new int[Math.max(1, capacity)];
+        }
+
+        void add(String value) {
+            if (count == codes.length) codes = Arrays.copyOf(codes, codes.length * 2);
+            if (value == null) {
+                codes[count++] = -1;
+                return;
+            }
+            Integer code = codesByValue.get(value);
+            if (code == null) {
+                code = values.size();
+                codesByValue.put(value, code);
+                values.add(value);
+            }
+            codes[count++] = code;
+        }
+
+        DictionaryColumn build() {
+            return new DictionaryColumn(values.toArray(new String[0]), count == codes.length ? codes : Arrays.copyOf(codes, count));
+        }
+    }
+}
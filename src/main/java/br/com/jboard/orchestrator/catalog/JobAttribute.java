@@ -0,0 +1,6 @@
+package br.com.jboard.orchestrator.catalog;
+
+@FunctionalInterface
+public interface JobAttribute {
+    String valueOf(JobStore store, int ordinal);
+}
@@ -0,0 +1,151 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.clients.JobClient;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class JobCatalog {
+    private final JobClient jobClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobSnapshotFile snapshotFile;
+    private final JobDeduplicator deduplicator;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile JobSnapshot snapshot;
+    private volatile boolean stale;
+
+    public JobCatalog(JobClient jobClient, ApplicationEventPublisher eventPublisher, JobSnapshotFile snapshotFile,
+                      JobDeduplicator deduplicator) {
+        this.jobClient = jobClient;
+        this.eventPublisher = eventPublisher;
+        this.snapshotFile = snapshotFile;
+        this.deduplicator = deduplicator;
+    }
+
+    public JobSnapshot getSnapshot() {
+        JobSnapshot current = snapshot;
+        if (current != null) return current;
+
+        refreshLock.lock();
+        try {
+            if (snapshot == null && !restore()) {
+                log.info("Catálogo de vagas ainda não carregado, carregando sob demanda");
+                refresh();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.jobs.catalog.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception ex) {
+            stale = snapshot != null;
+            log.error("Erro ao atualizar catálogo de vagas, mantendo versão {}: {}", currentVersion(), ex.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void restoreOnStartup() {
+        refreshLock.lock();
+        try {
+            if (snapshot == null) restore();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    private boolean restore() {
+        Optional<JobSnapshotFile.Restored> restored = snapshotFile.read();
+        if (restored.isEmpty()) return false;
+
+        long start = System.nanoTime();
+        JobSnapshotFile.Restored file = restored.get();
+        JobSnapshot next = withoutExpired(new JobSnapshot(file.version(), file.store(), file.loadedAt(), null));
+        snapshot = next;
+        stale = true;
+        log.info("Catálogo de vagas versão {} restaurado do disco com {} vagas em {} ms, carregado em {}",
+                next.getVersion(), next.size(), (System.nanoTime() - start) / 1_000_000, file.loadedAt());
+        eventPublisher.publishEvent(new JobCatalogRefreshedEvent(null, next));
+        return true;
+    }
+
+    private JobSnapshot withoutExpired(JobSnapshot next) {
+        RoaringBitmap expired = next.expiredAt(Instant.now().toEpochMilli());
+        if (expired.isEmpty()) return next;
+
+        log.info("Removendo {} vagas com prazo de candidatura encerrado", expired.getCardinality());
+        return next.withoutOrdinals(next.getVersion(), expired);
+    }
+
+    private void persist(JobSnapshot next) {
+        try {
+            snapshotFile.write(next);
+        } catch (IOException ex) {
+            log.error("Erro ao gravar snapshot do catálogo de vagas versão {}: {}", next.getVersion(), ex.getMessage());
+        }
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            JobStore jobs = deduplicator.deduplicate(jobClient.getJobs());
+            JobSnapshot previous = snapshot;
+            JobSnapshot next = withoutExpired(new JobSnapshot(currentVersion() + 1, jobs, Instant.now(), previous));
+
+            snapshot = next;
+            log.info("Catálogo de vagas atualizado para a versão {} com {} vagas (~{} KB em colunas)",
+                    next.getVersion(), next.size(), next.getStore().estimatedBytes() / 1024);
+            stale = false;
+            eventPublisher.publishEvent(new JobCatalogRefreshedEvent(previous, next));
+            persist(next);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public boolean expire(JobStore store, RoaringBitmap ordinals) {
+        if (!refreshLock.tryLock()) return false;
+        try {
+            JobSnapshot previous = snapshot;
+            if (previous == null || previous.getStore() != store) return true;
+
+            RoaringBitmap expired = RoaringBitmap.and(previous.getLive(), ordinals);
+            if (expired.isEmpty()) return true;
+
+            JobSnapshot next = previous.withoutOrdinals(previous.getVersion() + 1, expired);
+            snapshot = next;
+            log.info("{} vagas expiradas removidas do catálogo, versão {} com {} vagas",
+                    expired.getCardinality(), next.getVersion(), next.size());
+            eventPublisher.publishEvent(new JobCatalogRefreshedEvent(previous, next));
+            persist(next);
+            return true;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private long currentVersion() {
+        JobSnapshot current = snapshot;
+        return current == null ? 0 : current.getVersion();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public record JobCatalogDiff(long fromVersion, long toVersion, List<Job> added, List<Job> updated, List<String> removed) {
+
+    public static JobCatalogDiff between(JobSnapshot previous, JobSnapshot current) {
+        JobStore previousStore = previous.getStore();
+        Map<String, Integer> previousOrdinals = new HashMap<>(previousStore.size() * 4 / 3 + 1);
+        for (int i = 0; i < previousStore.size(); i++) {
+            if (!previous.isLive(i)) continue;
+            previousOrdinals.putIfAbsent(previousStore.id(i), i);
+        }
+
+        List<Job> added = new ArrayList<>();
+        List<Job> updated = new ArrayList<>();
+        boolean[] seen = new boolean[previousStore.size()];
+        JobStore currentStore = current.getStore();
+        for (int i = 0; i < currentStore.size(); i++) {
+            if (!current.isLive(i)) continue;
+            Integer previousOrdinal = previousOrdinals.get(currentStore.id(i));
+            if (previousOrdinal == null) {
+                added.add(currentStore.job(i));
+            } else if (!seen[previousOrdinal]) {
+                seen[previousOrdinal] = true;
+                if (previous.contentHash(previousOrdinal) != current.contentHash(i)) updated.add(currentStore.job(i));
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (int i = 0; i < seen.length; i++) {
+            if (seen[i] || !previous.isLive(i)) continue;
+            String id = previousStore.id(i);
+            if (previousOrdinals.get(id) == i) removed.add(id);
+        }
+
+        return new JobCatalogDiff(previous.getVersion(), current.getVersion(),
+                List.copyOf(added), List.copyOf(updated), List.copyOf(removed));
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.jboard.orchestrator.catalog;
+
+public record JobCatalogRefreshedEvent(JobSnapshot previous, JobSnapshot current, JobCatalogDiff diff) {
+
+    public JobCatalogRefreshedEvent(JobSnapshot previous, JobSnapshot current) {
+        this(previous, current, previous == null ? null : JobCatalogDiff.between(previous, current));
+    }
+}
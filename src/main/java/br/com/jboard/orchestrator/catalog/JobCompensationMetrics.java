@@ -0,0 +1,40 @@
+package br.com.jboard.orchestrator.catalog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class JobCompensationMetrics {
+    static final String METRIC_NAME = "jboard.catalog.compensation";
+
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final AtomicInteger unparsed = new AtomicInteger();
+
+    public JobCompensationMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder(METRIC_NAME, parsed, AtomicInteger::get)
+                .tag("status", "parsed")
+                .description("Jobs whose compensation summary was parsed into a salary range")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME, unparsed, AtomicInteger::get)
+                .tag("status", "unparsed")
+                .description("Jobs whose compensation summary could not be parsed")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        JobStore store = event.current().getStore();
+        parsed.set(store.parsedCompensations());
+        unparsed.set(store.unparsedCompensations());
+        if (store.unparsedCompensations() > 0) {
+            log.warn("{} faixas salariais não reconhecidas na versão {}", store.unparsedCompensations(),
+                    event.current().getVersion());
+        }
+    }
+}
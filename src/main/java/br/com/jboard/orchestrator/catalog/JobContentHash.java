@@ -0,0 +1,55 @@
+package br.com.jboard.orchestrator.catalog;
+
+final class JobContentHash {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private JobContentHash() {
+    }
+
+    static long of(JobStore store, int ordinal) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, store.id(ordinal));
+        hash = mix(hash, store.title(ordinal));
+        hash = mix(hash, store.updatedAt(ordinal));
+        hash = mix(hash, store.employmentType(ordinal));
+        hash = mix(hash, store.publishedDate(ordinal));
+        hash = mix(hash, store.applicationDeadline(ordinal));
+        hash = mix(hash, store.compensationTierSummary(ordinal));
+        hash = mix(hash, store.workplaceType(ordinal));
+        hash = mix(hash, store.officeLocation(ordinal));
+        hash = mix(hash, store.company(ordinal));
+        hash = mix(hash, store.url(ordinal));
+        hash = mix(hash, store.seniorityLevel(ordinal));
+        hash = mix(hash, store.field(ordinal));
+        String friendly = store.brazilianFriendlyValue(ordinal);
+        if (friendly != null) {
+            hash = mix(hash, Boolean.parseBoolean(friendly) ? "1" : "0");
+            hash = mix(hash, store.brazilianFriendlyReason(ordinal));
+        }
+        if (store.duplicates(ordinal) > 0) {
+            hash = mix(hash, Integer.toString(store.duplicates(ordinal)));
+        }
+        return hash;
+    }
+
+    static long of(String... values) {
+        long hash = FNV_OFFSET;
+        for (String value : values) {
+            hash = mix(hash, value);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xff) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return (hash ^ 0xfe) * FNV_PRIME;
+    }
+}
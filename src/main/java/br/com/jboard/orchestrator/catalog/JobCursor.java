@@ -0,0 +1,34 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record JobCursor(JobSortKey sortKey, SortDirection direction, String value, String id) {
+    private static final char SEPARATOR = '\u0000';
+    private static final String NULL_MARKER = "\u0001";
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR
+                + (value == null ? NULL_MARKER : value) + SEPARATOR
+                + (id == null ? NULL_MARKER : id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 4) throw new BadRequestException("Cursor inválido");
+
+            return new JobCursor(
+                    JobSortKey.valueOf(parts[0]),
+                    SortDirection.valueOf(parts[1]),
+                    NULL_MARKER.equals(parts[2]) ? null : parts[2],
+                    NULL_MARKER.equals(parts[3]) ? null : parts[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.jboard.orchestrator.catalog;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+public final class JobDates {
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private JobDates() {
+    }
+
+    public static long toEpochMillis(String value) {
+        if (value == null || value.isBlank()) return MISSING;
+
+        String text = value.trim();
+        try {
+            if (text.length() <= 10) {
+                return LocalDate.parse(text).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+            }
+            if (text.endsWith("Z")) {
+                return Instant.parse(text).toEpochMilli();
+            }
+            if (hasOffset(text)) {
+                return OffsetDateTime.parse(text).toInstant().toEpochMilli();
+            }
+            return LocalDateTime.parse(text).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } catch (DateTimeParseException ex) {
+            return MISSING;
+        }
+    }
+
+    public static long toExpiryMillis(String deadline) {
+        if (deadline == null || deadline.isBlank()) return MISSING;
+
+        String text = deadline.trim();
+        if (text.length() <= 10) {
+            long startOfDay = toEpochMillis(text);
+            return startOfDay == MISSING ? MISSING : startOfDay + Duration.ofDays(1).toMillis();
+        }
+        return toEpochMillis(text);
+    }
+
+    private static boolean hasOffset(String text) {
+        int time = text.indexOf('T');
+        return time > 0 && (text.indexOf('+', time) > 0 || text.indexOf('-', time) > 0);
+    }
+}
@@ -0,0 +1,223 @@
+package br.com.jboard.orchestrator.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+@Slf4j
+@Component
+public class JobDeduplicator {
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    private static final int MAX_REPRESENTATIVES = 8;
+    private static final long[] SEEDS = new SplittableRandom(0x4A42L).longs(HASHES).toArray();
+
+    private final boolean enabled;
+    private final double similarity;
+
+    public JobDeduplicator(@Value("${app.jobs.dedup.enabled:true}") boolean enabled,
+                           @Value("${app.jobs.dedup.similarity:0.8}") double similarity) {
+        this.enabled = enabled;
+        this.similarity = similarity;
+    }
+
+    public JobStore deduplicate(JobStore store) {
+        int size = store.size();
+        if (!enabled || size < 2) return store;
+
+        long start = System.nanoTime();
+        String[] companies = folded(store.getCompanies());
+        String[] seniorityLevels = folded(store.getSeniorityLevels());
+        String[] locations = folded(store.getOfficeLocations());
+        int[] signatures = new int[size * HASHES];
+        long[] guards = new long[size];
+        int[] signed = new int[size];
+        int signedCount = 0;
+        for (int i = 0; i < size; i++) {
+            String company = valueAt(companies, store.getCompanies(), i);
+            guards[i] = JobContentHash.of(company, valueAt(seniorityLevels, store.getSeniorityLevels(), i));
+            if (sign(store.title(i), company, valueAt(locations, store.getOfficeLocations(), i), signatures, i * HASHES)) {
+                signed[signedCount++] = i;
+            }
+        }
+
+        int[] parent = new int[size];
+        for (int i = 0; i < size; i++) parent[i] = i;
+        long[] bucketed = new long[signedCount];
+        int[] representatives = new int[MAX_REPRESENTATIVES];
+        for (int band = 0; band < BANDS; band++) {
+            for (int i = 0; i < signedCount; i++) {
+                int job = signed[i];
+                bucketed[i] = ((long) bandHash(signatures, job, band, guards[job]) << 32) | job;
+            }
+            Arrays.sort(bucketed);
+
+            int runStart = 0;
+            while (runStart < signedCount) {
+                int runEnd = runStart + 1;
+                while (runEnd < signedCount && (bucketed[runEnd] >>> 32) == (bucketed[runStart] >>> 32)) runEnd++;
+                if (runEnd - runStart > 1) {
+                    mergeRun(bucketed, runStart, runEnd, band, signatures, guards, parent, representatives);
+                }
+                runStart = runEnd;
+            }
+        }
+
+        int[] canonical = new int[size];
+        int groups = canonicalOrdinals(store, parent, canonical);
+        log.info("Deduplicação de vagas: {} vagas agrupadas em {} em {} ms", size, groups,
+                (System.nanoTime() - start) / 1_000_000);
+        return groups == size ? store : store.withCanonical(canonical);
+    }
+
+    private static String[] folded(DictionaryColumn column) {
+        String[] folded = new String[column.cardinality()];
+        for (int code = 0; code < folded.length; code++) {
+            folded[code] = JobTextAnalyzer.fold(column.value(code)).trim();
+        }
+        return folded;
+    }
+
+    private static String valueAt(String[] folded, DictionaryColumn column, int ordinal) {
+        int code = column.code(ordinal);
+        return code < 0 ? "" : folded[code];
+    }
+
+    private void mergeRun(long[] bucketed, int from, int to, int band, int[] signatures, long[] guards, int[] parent,
+                          int[] representatives) {
+        int count = 0;
+        for (int position = from; position < to; position++) {
+            int candidate = (int) bucketed[position];
+            boolean matched = false;
+            for (int r = 0; r < count && !matched; r++) {
+                int representative = representatives[r];
+                if (guards[representative] != guards[candidate]
+                        || !sameBand(signatures, representative, candidate, band)) continue;
+                matched = true;
+                if (estimatedSimilarity(signatures, representative, candidate) >= similarity) {
+                    union(parent, representative, candidate);
+                }
+            }
+            if (!matched && count < MAX_REPRESENTATIVES) representatives[count++] = candidate;
+        }
+    }
+
+    private static int canonicalOrdinals(JobStore store, int[] parent, int[] canonical) {
+        int size = store.size();
+        int[] byRoot = new int[size];
+        Arrays.fill(byRoot, -1);
+        for (int i = 0; i < size; i++) {
+            int root = find(parent, i);
+            if (byRoot[root] < 0 || precedes(store, i, byRoot[root])) byRoot[root] = i;
+        }
+
+        int groups = 0;
+        for (int i = 0; i < size; i++) {
+            canonical[i] = byRoot[find(parent, i)];
+            if (canonical[i] == i) groups++;
+        }
+        return groups;
+    }
+
+    private static boolean precedes(JobStore store, int candidate, int current) {
+        long candidateExpiry = expiresAt(store, candidate);
+        long currentExpiry = expiresAt(store, current);
+        if (candidateExpiry != currentExpiry) return candidateExpiry > currentExpiry;
+        return precedes(store.id(candidate), store.id(current));
+    }
+
+    private static long expiresAt(JobStore store, int ordinal) {
+        long expiresAt = store.expiresAtMillis(ordinal);
+        return expiresAt == JobDates.MISSING ? Long.MAX_VALUE : expiresAt;
+    }
+
+    private static boolean precedes(String id, String current) {
+        if (id == null) return false;
+        if (current == null) return true;
+        return id.length() != current.length() ? id.length() < current.length() : id.compareTo(current) < 0;
+    }
+
+    private static boolean sign(String title, String company, String location, int[] signatures, int offset) {
+        Arrays.fill(signatures, offset, offset + HASHES, Integer.MAX_VALUE);
+        List<String> tokens = JobTextAnalyzer.tokenize(title);
+        if (tokens.isEmpty()) return false;
+
+        for (String token : tokens) {
+            if (token.length() <= 3) {
+                addShingle(signatures, offset, shingleHash('t', token, 0, token.length()));
+                continue;
+            }
+            for (int i = 0; i + 3 <= token.length(); i++) {
+                addShingle(signatures, offset, shingleHash('t', token, i, i + 3));
+            }
+        }
+        if (!company.isEmpty()) addShingle(signatures, offset, shingleHash('c', company, 0, company.length()));
+        if (!location.isEmpty()) addShingle(signatures, offset, shingleHash('l', location, 0, location.length()));
+        return true;
+    }
+
+    private static void addShingle(int[] signatures, int offset, long shingle) {
+        for (int i = 0; i < HASHES; i++) {
+            int value = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+            if (value < signatures[offset + i]) signatures[offset + i] = value;
+        }
+    }
+
+    private static long shingleHash(char kind, String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L ^ kind;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private static int bandHash(int[] signatures, int job, int band, long guard) {
+        long hash = guard ^ band;
+        int offset = job * HASHES + band * ROWS;
+        for (int row = 0; row < ROWS; row++) {
+            hash = mix(hash ^ signatures[offset + row]);
+        }
+        return (int) (hash >>> 32);
+    }
+
+    private static boolean sameBand(int[] signatures, int left, int right, int band) {
+        int leftOffset = left * HASHES + band * ROWS;
+        int rightOffset = right * HASHES + band * ROWS;
+        return Arrays.equals(signatures, leftOffset, leftOffset + ROWS, signatures, rightOffset, rightOffset + ROWS);
+    }
+
+    private static double estimatedSimilarity(int[] signatures, int left, int right) {
+        int leftOffset = left * HASHES;
+        int rightOffset = right * HASHES;
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (signatures[leftOffset + i] == signatures[rightOffset + i]) equal++;
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private static void union(int[] parent, int left, int right) {
+        int leftRoot = find(parent, left);
+        int rightRoot = find(parent, right);
+        if (leftRoot != rightRoot) parent[Math.max(leftRoot, rightRoot)] = Math.min(leftRoot, rightRoot);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.jboard.orchestrator.catalog;
+
+public record JobEntry(JobStore store, int ordinal, long contentHash, long version) {
+    public String etag() {
+        return "\"" + Long.toHexString(contentHash) + "\"";
+    }
+}
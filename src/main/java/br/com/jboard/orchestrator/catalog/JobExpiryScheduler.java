@@ -0,0 +1,109 @@
+package br.com.jboard.orchestrator.catalog;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class JobExpiryScheduler {
+    private final JobCatalog jobCatalog;
+    private final long tickMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("job-expiry").daemon().factory());
+
+    private JobStore store;
+    private TimingWheel wheel;
+    private long originMillis;
+    private RoaringBitmap pending = new RoaringBitmap();
+
+    public JobExpiryScheduler(JobCatalog jobCatalog, @Value("${app.jobs.expiry.tick-ms:1000}") long tickMillis) {
+        this.jobCatalog = jobCatalog;
+        this.tickMillis = Math.max(1, tickMillis);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        schedule(event.current(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        executor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void tick() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (RuntimeException ex) {
+            log.error("Erro ao expirar vagas com prazo de candidatura encerrado: {}", ex.getMessage());
+        }
+    }
+
+    void schedule(JobSnapshot snapshot, long nowMillis) {
+        lock.lock();
+        try {
+            if (snapshot.getStore() == store) return;
+
+            JobStore nextStore = snapshot.getStore();
+            TimingWheel nextWheel = new TimingWheel();
+            PeekableIntIterator ordinals = snapshot.getLive().getIntIterator();
+            while (ordinals.hasNext()) {
+                int ordinal = ordinals.next();
+                long expiresAt = nextStore.expiresAtMillis(ordinal);
+                if (expiresAt != JobDates.MISSING) {
+                    nextWheel.schedule(Math.ceilDiv(expiresAt - nowMillis, tickMillis), ordinal);
+                }
+            }
+
+            store = nextStore;
+            wheel = nextWheel;
+            originMillis = nowMillis;
+            pending = new RoaringBitmap();
+            log.info("{} prazos de candidatura agendados para expiração na versão {}", nextWheel.size(), snapshot.getVersion());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void tick(long nowMillis) {
+        RoaringBitmap due;
+        JobStore dueStore;
+        lock.lock();
+        try {
+            if (wheel == null) return;
+            due = pending;
+            pending = new RoaringBitmap();
+            wheel.advance((nowMillis - originMillis) / tickMillis, due::add);
+            dueStore = store;
+        } finally {
+            lock.unlock();
+        }
+
+        if (due.isEmpty() || jobCatalog.expire(dueStore, due)) return;
+
+        log.debug("Catálogo de vagas em atualização, adiando expiração de {} vagas", due.getCardinality());
+        lock.lock();
+        try {
+            if (store == dueStore) pending.or(due);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+public enum JobFacet {
+    FIELD("field", JobStore::field),
+    SENIORITY_LEVEL("seniorityLevel", JobStore::seniorityLevel),
+    WORKPLACE_TYPE("workplaceType", JobStore::workplaceType),
+    EMPLOYMENT_TYPE("employmentType", JobStore::employmentType),
+    COMPANY("company", JobStore::company),
+    BRAZILIAN_FRIENDLY("brazilianFriendly", JobStore::brazilianFriendlyValue),
+    SALARY_CURRENCY("salaryCurrency", JobStore::salaryCurrency);
+
+    private final String param;
+    private final JobAttribute extractor;
+
+    JobFacet(String param, JobAttribute extractor) {
+        this.param = param;
+        this.extractor = extractor;
+    }
+
+    public String valueOf(JobStore store, int ordinal) {
+        return extractor.valueOf(store, ordinal);
+    }
+
+    public static String normalize(String value) {
+        if (value == null) return null;
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    public static JobFacet fromParam(String param) {
+        for (JobFacet facet : values()) {
+            if (facet.param.equalsIgnoreCase(param)) return facet;
+        }
+        throw new BadRequestException("groupBy inválido: " + param);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+public final class JobFacetIndex {
+    private static final RoaringBitmap NONE = new RoaringBitmap();
+    private static final JobFacet[] FACETS = JobFacet.values();
+
+    private final RoaringBitmap all;
+    private final Map<JobFacet, Map<String, Integer>> codesByValue = new EnumMap<>(JobFacet.class);
+    private final Map<JobFacet, String[]> labels = new EnumMap<>(JobFacet.class);
+    private final Map<JobFacet, RoaringBitmap[]> bitmaps = new EnumMap<>(JobFacet.class);
+    private final int[][] codes;
+
+    public JobFacetIndex(JobStore store) {
+        int size = store.size();
+        this.all = RoaringBitmap.bitmapOfRange(0, size);
+        this.codes = new int[FACETS.length][];
+
+        for (JobFacet facet : FACETS) {
+            Map<String, Integer> byValue = new HashMap<>();
+            Map<String, String> normalized = new HashMap<>();
+            List<String> facetLabels = new ArrayList<>();
+            List<RoaringBitmap> facetBitmaps = new ArrayList<>();
+            int[] facetCodes = new int[size];
+
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                String raw = facet.valueOf(store, ordinal);
+                String key = raw == null ? null : normalized.computeIfAbsent(raw, JobFacet::normalize);
+                if (key == null) {
+                    facetCodes[ordinal] = -1;
+                    continue;
+                }
+
+                Integer code = byValue.get(key);
+                if (code == null) {
+                    code = facetLabels.size();
+                    byValue.put(key, code);
+                    facetLabels.add(raw.trim());
+                    facetBitmaps.add(new RoaringBitmap());
+                }
+                facetCodes[ordinal] = code;
+                facetBitmaps.get(code).add(ordinal);
+            }
+
+            facetBitmaps.forEach(RoaringBitmap::runOptimize);
+            codesByValue.put(facet, byValue);
+            labels.put(facet, facetLabels.toArray(new String[0]));
+            bitmaps.put(facet, facetBitmaps.toArray(new RoaringBitmap[0]));
+            codes[facet.ordinal()] = facetCodes;
+        }
+    }
+
+    public RoaringBitmap getAll() {
+        return all;
+    }
+
+    public RoaringBitmap filter(JobFilter filter) {
+        if (!filter.hasFacets()) return all;
+
+        RoaringBitmap result = null;
+        for (Map.Entry<JobFacet, SortedSet<String>> entry : filter.getValues().entrySet()) {
+            RoaringBitmap facetMatches = union(entry.getKey(), entry.getValue());
+            result = result == null ? facetMatches : RoaringBitmap.and(result, facetMatches);
+            if (result.isEmpty()) break;
+        }
+        return result;
+    }
+
+    public Map<JobFacet, int[]> count(RoaringBitmap matches) {
+        int[][] counts = new int[FACETS.length][];
+        for (JobFacet facet : FACETS) {
+            counts[facet.ordinal()] = new int[labels.get(facet).length];
+        }
+
+        PeekableIntIterator iterator = matches.getIntIterator();
+        while (iterator.hasNext()) {
+            int ordinal = iterator.next();
+            for (int f = 0; f < FACETS.length; f++) {
+                int code = codes[f][ordinal];
+                if (code >= 0) counts[f][code]++;
+            }
+        }
+
+        Map<JobFacet, int[]> result = new EnumMap<>(JobFacet.class);
+        for (JobFacet facet : FACETS) {
+            result.put(facet, counts[facet.ordinal()]);
+        }
+        return result;
+    }
+
+    public String label(JobFacet facet, int code) {
+        return labels.get(facet)[code];
+    }
+
+    public int code(JobFacet facet, int ordinal) {
+        return codes[facet.ordinal()][ordinal];
+    }
+
+    public int cardinality(JobFacet facet) {
+        return labels.get(facet).length;
+    }
+
+    private RoaringBitmap union(JobFacet facet, SortedSet<String> values) {
+        Map<String, Integer> byValue = codesByValue.get(facet);
+        RoaringBitmap[] facetBitmaps = bitmaps.get(facet);
+        List<RoaringBitmap> selected = new ArrayList<>(values.size());
+        for (String value : values) {
+            Integer code = byValue.get(value);
+            if (code != null) selected.add(facetBitmaps[code]);
+        }
+
+        if (selected.isEmpty()) return NONE;
+        if (selected.size() == 1) return selected.get(0);
+        return FastAggregation.or(selected.toArray(new RoaringBitmap[0]));
+    }
+}
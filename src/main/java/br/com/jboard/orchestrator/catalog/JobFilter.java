@@ -0,0 +1,205 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+public final class JobFilter {
+    private static final JobFilter EMPTY = new JobFilter(new EnumMap<>(JobFacet.class), null, null, null, null, null);
+
+    private final Map<JobFacet, SortedSet<String>> values;
+    private final Duration postedWithin;
+    private final Long publishedAfter;
+    private final Long deadlineAfter;
+    private final Long salaryAtLeast;
+    private final Long salaryAtMost;
+
+    private JobFilter(Map<JobFacet, SortedSet<String>> values, Duration postedWithin, Long publishedAfter,
+                      Long deadlineAfter, Long salaryAtLeast, Long salaryAtMost) {
+        this.values = values;
+        this.postedWithin = postedWithin;
+        this.publishedAfter = publishedAfter;
+        this.deadlineAfter = deadlineAfter;
+        this.salaryAtLeast = salaryAtLeast;
+        this.salaryAtMost = salaryAtMost;
+    }
+
+    public static JobFilter empty() {
+        return EMPTY;
+    }
+
+    public static JobFilter from(JobQueryDTO query) {
+        return from(query, Instant.now());
+    }
+
+    public static JobFilter from(JobQueryDTO query, Instant now) {
+        Map<JobFacet, SortedSet<String>> values = new EnumMap<>(JobFacet.class);
+        put(values, JobFacet.FIELD, query.getField());
+        put(values, JobFacet.SENIORITY_LEVEL, query.getSeniorityLevel());
+        put(values, JobFacet.WORKPLACE_TYPE, query.getWorkplaceType());
+        put(values, JobFacet.EMPLOYMENT_TYPE, query.getEmploymentType());
+        put(values, JobFacet.COMPANY, query.getCompany());
+        if (query.getBrazilianFriendly() != null) {
+            put(values, JobFacet.BRAZILIAN_FRIENDLY, Collections.singletonList(query.getBrazilianFriendly().toString()));
+        }
+        Duration postedWithin = query.getPostedWithin() == null ? null : postedWithin(query.getPostedWithin());
+        Long publishedAfter = postedWithin == null ? null : publishedAfterOrReject(postedWithin, now);
+        Long deadlineAfter = query.getDeadlineAfter() == null ? null : deadlineAfter(query.getDeadlineAfter());
+        put(values, JobFacet.SALARY_CURRENCY, query.getSalaryCurrency());
+
+        CompensationPeriod period = query.getSalaryPeriod() == null
+                ? CompensationPeriod.YEAR
+                : CompensationPeriod.fromParam(query.getSalaryPeriod().trim());
+        Long salaryAtLeast = query.getMinSalary() == null ? null : period.annualize(query.getMinSalary());
+        Long salaryAtMost = query.getMaxSalary() == null ? null : period.annualize(query.getMaxSalary());
+        if (salaryAtLeast != null && salaryAtMost != null && salaryAtLeast > salaryAtMost) {
+            throw new BadRequestException("minSalary não pode ser maior que maxSalary");
+        }
+
+        JobFilter filter = new JobFilter(values, postedWithin, publishedAfter, deadlineAfter, salaryAtLeast, salaryAtMost);
+        return filter.isEmpty() ? EMPTY : filter;
+    }
+
+    private static Duration postedWithin(String value) {
+        Duration window = parseWindow(value.trim());
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new BadRequestException("postedWithin inválido");
+        }
+        return window;
+    }
+
+    private static long publishedAfterOrReject(Duration postedWithin, Instant now) {
+        try {
+            return publishedAfter(postedWithin, now);
+        } catch (DateTimeException | ArithmeticException ex) {
+            throw new BadRequestException("postedWithin inválido");
+        }
+    }
+
+    private static long publishedAfter(Duration postedWithin, Instant now) {
+        return now.truncatedTo(ChronoUnit.MINUTES).minus(postedWithin).toEpochMilli();
+    }
+
+    private static Duration parseWindow(String value) {
+        if (value.length() < 2) return null;
+        if (value.charAt(0) == 'P' || value.charAt(0) == 'p') {
+            try {
+                return Duration.parse(value);
+            } catch (DateTimeParseException ex) {
+                return null;
+            }
+        }
+
+        long amount;
+        try {
+            amount = Long.parseLong(value.substring(0, value.length() - 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        try {
+            return switch (Character.toLowerCase(value.charAt(value.length() - 1))) {
+                case 'd' -> Duration.ofDays(amount);
+                case 'h' -> Duration.ofHours(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                default -> null;
+            };
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    private static long deadlineAfter(String value) {
+        long millis = JobDates.toEpochMillis(value.trim());
+        if (millis == JobDates.MISSING) throw new BadRequestException("deadlineAfter inválido");
+        return millis;
+    }
+
+    private static void put(Map<JobFacet, SortedSet<String>> values, JobFacet facet, Collection<String> raw) {
+        if (raw == null) return;
+
+        SortedSet<String> normalized = new TreeSet<>();
+        for (String value : raw) {
+            String key = JobFacet.normalize(value);
+            if (key != null) normalized.add(key);
+        }
+        if (!normalized.isEmpty()) values.put(facet, Collections.unmodifiableSortedSet(normalized));
+    }
+
+    public JobFilter relativeTo(Instant now) {
+        if (postedWithin == null) return this;
+        return new JobFilter(values, postedWithin, publishedAfter(postedWithin, now), deadlineAfter, salaryAtLeast,
+                salaryAtMost);
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty() && publishedAfter == null && deadlineAfter == null
+                && salaryAtLeast == null && salaryAtMost == null;
+    }
+
+    public boolean hasFacets() {
+        return !values.isEmpty();
+    }
+
+    public Duration getPostedWithin() {
+        return postedWithin;
+    }
+
+    public Long getPublishedAfter() {
+        return publishedAfter;
+    }
+
+    public Long getDeadlineAfter() {
+        return deadlineAfter;
+    }
+
+    public Long getSalaryAtLeast() {
+        return salaryAtLeast;
+    }
+
+    public Long getSalaryAtMost() {
+        return salaryAtMost;
+    }
+
+    public Map<JobFacet, SortedSet<String>> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof JobFilter filter
+                && values.equals(filter.values)
+                && Objects.equals(publishedAfter, filter.publishedAfter)
+                && Objects.equals(deadlineAfter, filter.deadlineAfter)
+                && Objects.equals(salaryAtLeast, filter.salaryAtLeast)
+                && Objects.equals(salaryAtMost, filter.salaryAtMost);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(values, publishedAfter, deadlineAfter, salaryAtLeast, salaryAtMost);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(values.toString());
+        if (publishedAfter != null || deadlineAfter != null) {
+            text.append("|publishedAfter=").append(publishedAfter).append("|deadlineAfter=").append(deadlineAfter);
+        }
+        if (salaryAtLeast != null || salaryAtMost != null) {
+            text.append("|salaryAtLeast=").append(salaryAtLeast).append("|salaryAtMost=").append(salaryAtMost);
+        }
+        return text.toString();
+    }
+}
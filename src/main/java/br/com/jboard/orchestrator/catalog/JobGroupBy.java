@@ -0,0 +1,79 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class JobGroupBy {
+    public static final int MAX_DIMENSIONS = 2;
+
+    private static final int CODE_BITS = 20;
+    private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+    private static final int PERIOD_SHIFT = CODE_BITS * MAX_DIMENSIONS;
+    private static final long PERIOD_OFFSET = 1L << 22;
+
+    private JobGroupBy() {
+    }
+
+    public static List<Group> count(JobSnapshot snapshot, RoaringBitmap matches, List<JobFacet> facets,
+                                    TimeBucket interval) {
+        if (facets.size() > MAX_DIMENSIONS) throw new IllegalArgumentException("Too many group-by dimensions");
+
+        JobFacetIndex facetIndex = snapshot.getFacetIndex();
+        for (JobFacet facet : facets) {
+            if (facetIndex.cardinality(facet) >= CODE_MASK) {
+                throw new IllegalStateException("Too many distinct values to group by " + facet.getParam());
+            }
+        }
+
+        JobStore store = snapshot.getStore();
+        long[] keys = new long[matches.getCardinality()];
+        int size = 0;
+        PeekableIntIterator ordinals = matches.getIntIterator();
+        while (ordinals.hasNext()) {
+            int ordinal = ordinals.next();
+            long key = 0;
+            for (int d = 0; d < facets.size(); d++) {
+                key |= (long) (facetIndex.code(facets.get(d), ordinal) + 1) << (CODE_BITS * (MAX_DIMENSIONS - 1 - d));
+            }
+            if (interval != null) key |= period(interval, store.publishedDateMillis(ordinal)) << PERIOD_SHIFT;
+            keys[size++] = key;
+        }
+        Arrays.sort(keys, 0, size);
+
+        List<Group> groups = new ArrayList<>();
+        int start = 0;
+        while (start < size) {
+            int end = start + 1;
+            while (end < size && keys[end] == keys[start]) end++;
+            groups.add(group(facetIndex, facets, interval, keys[start], end - start));
+            start = end;
+        }
+        return groups;
+    }
+
+    private static long period(TimeBucket interval, long epochMillis) {
+        long bucket = interval.bucketOf(epochMillis);
+        if (bucket == JobDates.MISSING || Math.abs(bucket) >= PERIOD_OFFSET) return 0;
+        return bucket + PERIOD_OFFSET;
+    }
+
+    private static Group group(JobFacetIndex facetIndex, List<JobFacet> facets, TimeBucket interval, long key,
+                               int count) {
+        String[] labels = new String[facets.size()];
+        for (int d = 0; d < facets.size(); d++) {
+            int code = (int) ((key >>> (CODE_BITS * (MAX_DIMENSIONS - 1 - d))) & CODE_MASK) - 1;
+            labels[d] = code < 0 ? null : facetIndex.label(facets.get(d), code);
+        }
+
+        long period = key >>> PERIOD_SHIFT;
+        String periodLabel = interval == null || period == 0 ? null : interval.label(period - PERIOD_OFFSET);
+        return new Group(Arrays.asList(labels), periodLabel, count);
+    }
+
+    public record Group(List<String> labels, String period, int count) {
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.jboard.orchestrator.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class JobIdIndex {
+    static final int MISSING = -1;
+
+    private final TextColumn ids;
+    private final int[] slots;
+    private final int[] hashes;
+    private final int mask;
+
+    JobIdIndex(JobStore store) {
+        this.ids = store.getIds();
+        int capacity = Integer.highestOneBit(Math.max(2, store.size() * 2 - 1)) << 1;
+        this.slots = new int[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(slots, MISSING);
+
+        for (int ordinal = 0; ordinal < store.size(); ordinal++) {
+            String id = store.id(ordinal);
+            if (id != null && find(id) == MISSING) insert(id, ordinal);
+        }
+    }
+
+    int ordinalOf(String id) {
+        return id == null ? MISSING : find(id);
+    }
+
+    private int find(String id) {
+        int hash = hash(id);
+        byte[] key = null;
+        for (int slot = hash & mask; slots[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (hashes[slot] != hash) continue;
+            if (key == null) key = id.getBytes(StandardCharsets.UTF_8);
+            if (ids.matches(slots[slot], key)) return slots[slot];
+        }
+        return MISSING;
+    }
+
+    private void insert(String id, int ordinal) {
+        int hash = hash(id);
+        int slot = hash & mask;
+        while (slots[slot] != MISSING) slot = (slot + 1) & mask;
+        slots[slot] = ordinal;
+        hashes[slot] = hash;
+    }
+
+    private static int hash(String id) {
+        int hash = id.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
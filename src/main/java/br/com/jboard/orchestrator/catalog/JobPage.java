@@ -0,0 +1,128 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import lombok.Getter;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public final class JobPage {
+    @Getter
+    private final JobStore store;
+    private final Supplier<PrimitiveIterator.OfInt> ordinals;
+    @Getter
+    private final MetaDTO meta;
+    @Getter
+    private final long version;
+
+    private JobPage(JobStore store, Supplier<PrimitiveIterator.OfInt> ordinals, MetaDTO meta) {
+        this(store, ordinals, meta, 0);
+    }
+
+    private JobPage(JobStore store, Supplier<PrimitiveIterator.OfInt> ordinals, MetaDTO meta, long version) {
+        this.store = store;
+        this.ordinals = ordinals;
+        this.meta = meta;
+        this.version = version;
+    }
+
+    public static JobPage all(JobStore store, MetaDTO meta) {
+        return new JobPage(store, () -> IntStream.range(0, store.size()).iterator(), meta);
+    }
+
+    public static JobPage live(JobSnapshot snapshot) {
+        MetaDTO meta = new MetaDTO(snapshot.size());
+        return snapshot.isFullyLive()
+                ? all(snapshot.getStore(), meta)
+                : ofMatches(snapshot.getStore(), snapshot.getLive(), meta);
+    }
+
+    public static JobPage ofOrdinals(JobStore store, int[] ordinals, MetaDTO meta) {
+        return new JobPage(store, () -> Arrays.stream(ordinals).iterator(), meta);
+    }
+
+    public static JobPage ofMatches(JobStore store, RoaringBitmap matches, MetaDTO meta) {
+        return new JobPage(store, () -> new BitmapIterator(matches.getIntIterator()), meta);
+    }
+
+    public static JobPage ofOrdering(JobStore store, int[] ordering, int start, RoaringBitmap matches, MetaDTO meta) {
+        return new JobPage(store, () -> new FilteredOrderingIterator(ordering, start, matches), meta);
+    }
+
+    public JobPage withVersion(long version) {
+        return new JobPage(store, ordinals, meta, version);
+    }
+
+    public JobIterator iterator() {
+        return new JobIterator(ordinals.get());
+    }
+
+    public final class JobIterator {
+        private final PrimitiveIterator.OfInt delegate;
+
+        private JobIterator(PrimitiveIterator.OfInt delegate) {
+            this.delegate = delegate;
+        }
+
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        public int nextOrdinal() {
+            return delegate.nextInt();
+        }
+    }
+
+    private static final class BitmapIterator implements PrimitiveIterator.OfInt {
+        private final PeekableIntIterator delegate;
+
+        private BitmapIterator(PeekableIntIterator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return delegate.next();
+        }
+    }
+
+    private static final class FilteredOrderingIterator implements PrimitiveIterator.OfInt {
+        private final int[] ordering;
+        private final RoaringBitmap matches;
+        private int position;
+
+        private FilteredOrderingIterator(int[] ordering, int start, RoaringBitmap matches) {
+            this.ordering = ordering;
+            this.matches = matches;
+            this.position = start;
+            advance();
+        }
+
+        private void advance() {
+            while (position < ordering.length && !matches.contains(ordering[position])) position++;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < ordering.length;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int ordinal = ordering[position++];
+            advance();
+            return ordinal;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package br.com.jboard.orchestrator.catalog;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+public final class JobPercolator {
+    private static final JobFacet[] FACETS = JobFacet.values();
+    private static final int MAX_COMBINATIONS = 32;
+    private static final int BOUNDS = 4;
+    private static final long NO_BOUND = Long.MIN_VALUE;
+    private static final int UNKNOWN = -1;
+    private static final int[] NONE = new int[0];
+
+    private final Query[] queries;
+    private final List<Map<String, Integer>> facetValues = new ArrayList<>(FACETS.length);
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final int[] constraintStart;
+    private final int[] constraintFacet;
+    private final int[] valueStart;
+    private final int[] values;
+    private final int[] termStart;
+    private final int[] terms;
+    private final long[] bounds;
+    private final Map<String, int[]> byFacets;
+    private final int[] facetMasks;
+    private final int[][] byTerm;
+    private final int[] unanchored;
+
+    public JobPercolator(List<Query> queries) {
+        this.queries = queries.toArray(Query[]::new);
+        for (int i = 0; i < FACETS.length; i++) facetValues.add(new HashMap<>());
+        int count = this.queries.length;
+        this.constraintStart = new int[count + 1];
+        this.termStart = new int[count + 1];
+        this.bounds = new long[count * BOUNDS];
+        IntList constraintFacets = new IntList();
+        IntList constraintValues = new IntList();
+        IntList valueStarts = new IntList();
+        IntList queryTerms = new IntList();
+        Map<String, IntList> facetPostings = new HashMap<>();
+        List<IntList> termPostings = new ArrayList<>();
+        Set<Integer> masks = new TreeSet<>();
+        IntList rest = new IntList();
+
+        for (int id = 0; id < count; id++) {
+            Query query = this.queries[id];
+            Map<JobFacet, SortedSet<String>> facets = query.filter.getValues();
+            facets.forEach((facet, allowed) -> {
+                constraintFacets.add(facet.ordinal());
+                valueStarts.add(constraintValues.size());
+                int[] ids = allowed.stream().mapToInt(value -> intern(facetValues.get(facet.ordinal()), value))
+                        .sorted().toArray();
+                for (int value : ids) constraintValues.add(value);
+            });
+            constraintStart[id + 1] = constraintFacets.size();
+            for (String term : query.terms) queryTerms.add(intern(termIds, term));
+            termStart[id + 1] = queryTerms.size();
+            bound(id, 0, query.filter.getPostedWithin() == null ? null : query.filter.getPostedWithin().toMillis());
+            bound(id, 1, query.filter.getDeadlineAfter());
+            bound(id, 2, query.filter.getSalaryAtLeast());
+            bound(id, 3, query.filter.getSalaryAtMost());
+
+            boolean facetsFirst = facets.size() > 1 || query.terms.isEmpty() || facets.containsKey(JobFacet.COMPANY);
+            if (!facets.isEmpty() && facetsFirst) {
+                JobFacet[] keyed = keyedFacets(facets);
+                masks.add(mask(keyed));
+                for (String key : facetKeys(keyed, facets)) {
+                    facetPostings.computeIfAbsent(key, k -> new IntList()).add(id);
+                }
+            } else if (!query.terms.isEmpty()) {
+                for (int t = termStart[id]; t < termStart[id + 1]; t++) {
+                    while (termPostings.size() <= queryTerms.get(t)) termPostings.add(new IntList());
+                    termPostings.get(queryTerms.get(t)).add(id);
+                }
+            } else {
+                rest.add(id);
+            }
+        }
+        valueStarts.add(constraintValues.size());
+
+        this.constraintFacet = constraintFacets.toArray();
+        this.valueStart = valueStarts.toArray();
+        this.values = constraintValues.toArray();
+        this.terms = queryTerms.toArray();
+        this.byFacets = new HashMap<>(facetPostings.size() * 4 / 3 + 1);
+        facetPostings.forEach((key, ids) -> byFacets.put(key, ids.toArray()));
+        this.facetMasks = masks.stream().mapToInt(Integer::intValue).toArray();
+        this.byTerm = termPostings.stream().map(IntList::toArray).toArray(int[][]::new);
+        this.unanchored = rest.toArray();
+    }
+
+    private static int intern(Map<String, Integer> dictionary, String value) {
+        return dictionary.computeIfAbsent(value, key -> dictionary.size());
+    }
+
+    private void bound(int id, int slot, Long value) {
+        bounds[id * BOUNDS + slot] = value == null ? NO_BOUND : value;
+    }
+
+    private static JobFacet[] keyedFacets(Map<JobFacet, SortedSet<String>> facets) {
+        JobFacet[] bySize = facets.keySet().toArray(JobFacet[]::new);
+        Arrays.sort(bySize, Comparator.comparingInt(facet -> facets.get(facet).size()));
+
+        int count = 1;
+        int combinations = facets.get(bySize[0]).size();
+        while (count < bySize.length && combinations * facets.get(bySize[count]).size() <= MAX_COMBINATIONS) {
+            combinations *= facets.get(bySize[count++]).size();
+        }
+        JobFacet[] keyed = Arrays.copyOf(bySize, count);
+        Arrays.sort(keyed);
+        return keyed;
+    }
+
+    private static List<String> facetKeys(JobFacet[] keyed, Map<JobFacet, SortedSet<String>> facets) {
+        List<String> keys = List.of("");
+        for (JobFacet facet : keyed) {
+            List<String> expanded = new ArrayList<>();
+            for (String prefix : keys) {
+                for (String value : facets.get(facet)) {
+                    StringBuilder key = new StringBuilder(prefix);
+                    appendFacet(key, facet, value);
+                    expanded.add(key.toString());
+                }
+            }
+            keys = expanded;
+        }
+        return keys;
+    }
+
+    private static void appendFacet(StringBuilder key, JobFacet facet, String value) {
+        key.append((char) ('A' + facet.ordinal())).append(value).append('\u0001');
+    }
+
+    private static int mask(JobFacet[] facets) {
+        int mask = 0;
+        for (JobFacet facet : facets) mask |= 1 << facet.ordinal();
+        return mask;
+    }
+
+    public int size() {
+        return queries.length;
+    }
+
+    public List<Match> percolate(JobStore store, int[] ordinals) {
+        return percolate(store, ordinals, Instant.now());
+    }
+
+    public List<Match> percolate(JobStore store, int[] ordinals, Instant now) {
+        long publishedFloor = now.truncatedTo(ChronoUnit.MINUTES).toEpochMilli();
+        List<Match> matches = new ArrayList<>();
+        int[] visited = new int[queries.length];
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < ordinals.length; i++) {
+            int ordinal = ordinals[i];
+            int stamp = i + 1;
+            Document document = document(store, ordinal);
+
+            for (int mask : facetMasks) {
+                if (document.facetKey(mask, key)) {
+                    collect(byFacets.getOrDefault(key.toString(), NONE), document, ordinal, stamp, visited,
+                            publishedFloor, matches);
+                }
+            }
+            for (int term : document.terms) {
+                if (term < byTerm.length) {
+                    collect(byTerm[term], document, ordinal, stamp, visited, publishedFloor, matches);
+                }
+            }
+            collect(unanchored, document, ordinal, stamp, visited, publishedFloor, matches);
+        }
+        return matches;
+    }
+
+    private void collect(int[] candidates, Document document, int ordinal, int stamp, int[] visited,
+                         long publishedFloor, List<Match> matches) {
+        for (int id : candidates) {
+            if (visited[id] == stamp) continue;
+            visited[id] = stamp;
+            if (matches(id, document, publishedFloor)) matches.add(new Match(queries[id], ordinal));
+        }
+    }
+
+    private boolean matches(int id, Document document, long publishedFloor) {
+        for (int c = constraintStart[id]; c < constraintStart[id + 1]; c++) {
+            int value = document.facetIds[constraintFacet[c]];
+            if (value == UNKNOWN || !contains(values, valueStart[c], valueStart[c + 1], value)) return false;
+        }
+        int offset = id * BOUNDS;
+        long postedWithin = bounds[offset];
+        if (postedWithin != NO_BOUND && document.publishedAt < publishedFloor - postedWithin) return false;
+        long deadlineAfter = bounds[offset + 1];
+        if (deadlineAfter != NO_BOUND && document.deadline <= deadlineAfter) return false;
+        long atLeast = bounds[offset + 2];
+        if (atLeast != NO_BOUND && document.salaryMax < atLeast) return false;
+        long atMost = bounds[offset + 3];
+        if (atMost != NO_BOUND && (document.salaryMin < 0 || document.salaryMin > atMost)) return false;
+        if (termStart[id] == termStart[id + 1]) return true;
+
+        for (int t = termStart[id]; t < termStart[id + 1]; t++) {
+            if (contains(document.terms, 0, document.terms.length, terms[t])) return true;
+        }
+        return false;
+    }
+
+    private static boolean contains(int[] sorted, int from, int to, int value) {
+        return Arrays.binarySearch(sorted, from, to, value) >= 0;
+    }
+
+    private Document document(JobStore store, int ordinal) {
+        String[] facets = new String[FACETS.length];
+        int[] facetIds = new int[FACETS.length];
+        for (JobFacet facet : FACETS) {
+            String value = JobFacet.normalize(facet.valueOf(store, ordinal));
+            facets[facet.ordinal()] = value;
+            facetIds[facet.ordinal()] = value == null
+                    ? UNKNOWN : facetValues.get(facet.ordinal()).getOrDefault(value, UNKNOWN);
+        }
+
+        TreeSet<Integer> known = new TreeSet<>();
+        for (String text : new String[]{store.title(ordinal), store.company(ordinal), store.field(ordinal),
+                store.officeLocation(ordinal)}) {
+            for (String token : JobTextAnalyzer.tokenize(text)) {
+                Integer term = termIds.get(token);
+                if (term != null) known.add(term);
+            }
+        }
+        return new Document(facets, facetIds, known.stream().mapToInt(Integer::intValue).toArray(),
+                store.publishedDateMillis(ordinal), store.applicationDeadlineMillis(ordinal),
+                store.annualSalaryMin(ordinal), store.annualSalaryMax(ordinal));
+    }
+
+    public record Match(Query query, int ordinal) {
+    }
+
+    @Getter
+    public static final class Query {
+        private final String owner;
+        private final String id;
+        private final JobFilter filter;
+        private final Set<String> terms;
+
+        public Query(String owner, String id, JobFilter filter, Set<String> terms) {
+            this.owner = owner;
+            this.id = id;
+            this.filter = filter;
+            this.terms = Set.copyOf(terms);
+        }
+    }
+
+    private record Document(String[] facets, int[] facetIds, int[] terms, long publishedAt, long deadline,
+                            long salaryMin, long salaryMax) {
+        private boolean facetKey(int mask, StringBuilder key) {
+            key.setLength(0);
+            for (JobFacet facet : FACETS) {
+                if ((mask & (1 << facet.ordinal())) == 0) continue;
+                String value = facets[facet.ordinal()];
+                if (value == null) return false;
+                appendFacet(key, facet, value);
+            }
+            return true;
+        }
+    }
+
+    private static final class IntList {
+        private int[] items = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == items.length) items = Arrays.copyOf(items, size * 2);
+            items[size++] = value;
+        }
+
+        int get(int index) {
+            return items[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package br.com.jboard.orchestrator.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public final class JobSearchIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+
+    private final JobStore store;
+    private final DocumentTerms[] documents;
+    private final Map<String, Integer> termIds;
+    private final int[][] postingDocs;
+    private final int[][] postingFreqs;
+    private final int[] docLengths;
+    private final float averageDocLength;
+
+    public JobSearchIndex(JobStore store, JobSearchIndex previous) {
+        int size = store.size();
+        this.store = store;
+        this.documents = new DocumentTerms[size];
+        Map<String, Integer> previousOrdinals = previous == null ? Map.of() : previous.ordinalsById();
+        this.termIds = new HashMap<>();
+        this.docLengths = new int[size];
+
+        int reused = 0;
+        long totalLength = 0;
+        int[] documentFrequencies = new int[64];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            String title = store.title(ordinal);
+            String company = store.company(ordinal);
+            String field = store.field(ordinal);
+            String officeLocation = store.officeLocation(ordinal);
+            long sourceHash = JobContentHash.of(title, company, field, officeLocation);
+
+            String id = store.id(ordinal);
+            Integer previousOrdinal = id == null ? null : previousOrdinals.get(id);
+            DocumentTerms cached = previousOrdinal == null ? null : previous.documents[previousOrdinal];
+            DocumentTerms document;
+            if (cached != null && cached.sourceHash == sourceHash) {
+                document = cached;
+                reused++;
+            } else {
+                document = DocumentTerms.analyze(sourceHash, title, company, field, officeLocation);
+            }
+
+            documents[ordinal] = document;
+            docLengths[ordinal] = document.length;
+            totalLength += document.length;
+
+            for (String term : document.terms) {
+                int termId = termIds.computeIfAbsent(term, t -> termIds.size());
+                if (termId >= documentFrequencies.length) {
+                    documentFrequencies = Arrays.copyOf(documentFrequencies, documentFrequencies.length * 2);
+                }
+                documentFrequencies[termId]++;
+            }
+        }
+
+        this.postingDocs = new int[termIds.size()][];
+        this.postingFreqs = new int[termIds.size()][];
+        for (int termId = 0; termId < termIds.size(); termId++) {
+            postingDocs[termId] = new int[documentFrequencies[termId]];
+            postingFreqs[termId] = new int[documentFrequencies[termId]];
+        }
+
+        int[] fill = new int[termIds.size()];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            DocumentTerms document = documents[ordinal];
+            for (int i = 0; i < document.terms.length; i++) {
+                int termId = termIds.get(document.terms[i]);
+                postingDocs[termId][fill[termId]] = ordinal;
+                postingFreqs[termId][fill[termId]] = document.freqs[i];
+                fill[termId]++;
+            }
+        }
+
+        this.averageDocLength = size == 0 ? 0 : (float) totalLength / size;
+        log.info("Índice de busca construído com {} termos, {} de {} documentos reaproveitados", termIds.size(), reused, size);
+    }
+
+    private Map<String, Integer> ordinalsById() {
+        Map<String, Integer> ordinals = new HashMap<>(Math.max(16, store.size() * 4 / 3 + 1));
+        for (int ordinal = 0; ordinal < store.size(); ordinal++) {
+            String id = store.id(ordinal);
+            if (id != null) ordinals.putIfAbsent(id, ordinal);
+        }
+        return ordinals;
+    }
+
+    public JobSearchResult search(String query, RoaringBitmap candidates) {
+        return search(query, candidates, null);
+    }
+
+    public JobSearchResult search(String query, RoaringBitmap candidates, RoaringBitmap live) {
+        List<Integer> queryTerms = new ArrayList<>();
+        int postings = 0;
+        for (String term : new LinkedHashSet<>(JobTextAnalyzer.tokenize(query))) {
+            Integer termId = termIds.get(term);
+            if (termId == null) continue;
+            queryTerms.add(termId);
+            postings += postingDocs[termId].length;
+        }
+
+        int documentCount = live == null ? docLengths.length : live.getCardinality();
+        ScoreTable scores = new ScoreTable(Math.min(postings, candidates.getCardinality()));
+        for (int termId : queryTerms) {
+            int[] docs = postingDocs[termId];
+            int[] freqs = postingFreqs[termId];
+            int documentFrequency = live == null ? docs.length : liveCount(docs, live);
+            float idf = (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            for (int i = 0; i < docs.length; i++) {
+                int ordinal = docs[i];
+                if (!candidates.contains(ordinal)) continue;
+
+                float tf = freqs[i];
+                float norm = K1 * (1 - B + B * docLengths[ordinal] / averageDocLength);
+                scores.add(ordinal, idf * tf * (K1 + 1) / (tf + norm));
+            }
+        }
+
+        long[] ranked = scores.ranked();
+        int count = ranked.length;
+        Arrays.sort(ranked);
+
+        int[] ordinals = new int[count];
+        float[] rankedScores = new float[count];
+        for (int i = 0; i < count; i++) {
+            long key = ranked[count - 1 - i];
+            ordinals[i] = Integer.MAX_VALUE - (int) key;
+            rankedScores[i] = Float.intBitsToFloat((int) (key >>> 32));
+        }
+        return new JobSearchResult(ordinals, rankedScores);
+    }
+
+    private static int liveCount(int[] docs, RoaringBitmap live) {
+        int count = 0;
+        for (int ordinal : docs) {
+            if (live.contains(ordinal)) count++;
+        }
+        return count;
+    }
+
+    private static final class ScoreTable {
+        private static final int EMPTY = -1;
+
+        private int[] ordinals;
+        private float[] scores;
+        private int shift;
+        private int size;
+
+        private ScoreTable(int expected) {
+            allocate(Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1);
+        }
+
+        private void allocate(int capacity) {
+            ordinals = new int[capacity];
+            scores = new float[capacity];
+            shift = Integer.numberOfLeadingZeros(capacity) + 1;
+            Arrays.fill(ordinals, EMPTY);
+        }
+
+        private int slot(int ordinal) {
+            int mask = ordinals.length - 1;
+            int slot = (ordinal * 0x9E3779B9) >>> shift;
+            while (ordinals[slot] != EMPTY && ordinals[slot] != ordinal) slot = (slot + 1) & mask;
+            return slot;
+        }
+
+        private void add(int ordinal, float score) {
+            int slot = slot(ordinal);
+            scores[slot] += score;
+            if (ordinals[slot] != EMPTY) return;
+
+            ordinals[slot] = ordinal;
+            if (++size * 2 > ordinals.length) grow();
+        }
+
+        private void grow() {
+            int[] oldOrdinals = ordinals;
+            float[] oldScores = scores;
+            allocate(oldOrdinals.length * 2);
+            for (int i = 0; i < oldOrdinals.length; i++) {
+                if (oldOrdinals[i] == EMPTY) continue;
+                int slot = slot(oldOrdinals[i]);
+                ordinals[slot] = oldOrdinals[i];
+                scores[slot] = oldScores[i];
+            }
+        }
+
+        private long[] ranked() {
+            long[] ranked = new long[size];
+            int count = 0;
+            for (int i = 0; i < ordinals.length; i++) {
+                if (ordinals[i] == EMPTY) continue;
+                ranked[count++] = ((long) Float.floatToIntBits(scores[i]) << 32) | (Integer.MAX_VALUE - ordinals[i]);
+            }
+            return ranked;
+        }
+    }
+
+    private static final class DocumentTerms {
+        private final long sourceHash;
+        private final String[] terms;
+        private final int[] freqs;
+        private final int length;
+
+        private DocumentTerms(long sourceHash, String[] terms, int[] freqs, int length) {
+            this.sourceHash = sourceHash;
+            this.terms = terms;
+            this.freqs = freqs;
+            this.length = length;
+        }
+
+        private static DocumentTerms analyze(long sourceHash, String title, String company, String field,
+                                             String officeLocation) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            for (String token : JobTextAnalyzer.tokenize(title)) {
+                frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+                length += TITLE_WEIGHT;
+            }
+            for (String text : new String[]{company, field, officeLocation}) {
+                for (String token : JobTextAnalyzer.tokenize(text)) {
+                    frequencies.merge(token, 1, Integer::sum);
+                    length++;
+                }
+            }
+
+            String[] terms = new String[frequencies.size()];
+            int[] freqs = new int[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                terms[i] = entry.getKey();
+                freqs[i++] = entry.getValue();
+            }
+            return new DocumentTerms(sourceHash, terms, freqs, length);
+        }
+    }
+}
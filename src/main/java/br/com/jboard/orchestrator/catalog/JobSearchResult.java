@@ -0,0 +1,49 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.function.IntFunction;
+
+public final class JobSearchResult {
+    private final int[] ordinals;
+    private final float[] scores;
+    private final int total;
+
+    JobSearchResult(int[] ordinals, float[] scores) {
+        this(ordinals, scores, ordinals.length);
+    }
+
+    JobSearchResult(int[] ordinals, float[] scores, int total) {
+        this.ordinals = ordinals;
+        this.scores = scores;
+        this.total = total;
+    }
+
+    public int size() {
+        return ordinals.length;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public int ordinal(int position) {
+        return ordinals[position];
+    }
+
+    public float score(int position) {
+        return scores[position];
+    }
+
+    public RoaringBitmap toBitmap() {
+        return RoaringBitmap.bitmapOf(ordinals);
+    }
+
+    public int positionAfter(float score, String id, IntFunction<String> idOf) {
+        for (int position = 0; position < ordinals.length; position++) {
+            if (scores[position] < score) return position;
+            if (scores[position] == score && id != null && id.equals(idOf.apply(ordinals[position]))) return position + 1;
+        }
+        return ordinals.length;
+    }
+}
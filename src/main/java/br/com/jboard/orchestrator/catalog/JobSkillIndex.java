@@ -0,0 +1,147 @@
+package br.com.jboard.orchestrator.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+public final class JobSkillIndex {
+    private static final float TITLE_WEIGHT = 2f;
+    private static final float FIELD_WEIGHT = 1f;
+    private static final RoaringBitmap NONE = new RoaringBitmap();
+
+    private final int size;
+    private final Map<String, RoaringBitmap> titleTerms = new HashMap<>();
+    private final Map<String, RoaringBitmap> fieldTerms = new HashMap<>();
+
+    public JobSkillIndex(JobStore store) {
+        this.size = store.size();
+        Map<String, List<String>> fieldTokens = new HashMap<>();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            for (String term : new LinkedHashSet<>(JobTextAnalyzer.tokenize(store.title(ordinal)))) {
+                titleTerms.computeIfAbsent(term, t -> new RoaringBitmap()).add(ordinal);
+            }
+            String field = store.field(ordinal);
+            if (field == null) continue;
+            for (String term : fieldTokens.computeIfAbsent(field, JobSkillIndex::distinctTokens)) {
+                fieldTerms.computeIfAbsent(term, t -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+        titleTerms.values().forEach(RoaringBitmap::runOptimize);
+        fieldTerms.values().forEach(RoaringBitmap::runOptimize);
+        log.info("Índice de habilidades construído com {} termos de título e {} termos de área",
+                titleTerms.size(), fieldTerms.size());
+    }
+
+    private static List<String> distinctTokens(String text) {
+        return List.copyOf(new LinkedHashSet<>(JobTextAnalyzer.tokenize(text)));
+    }
+
+    public JobSearchResult rank(Collection<String> skills, RoaringBitmap candidates, int limit) {
+        return rank(skills, candidates, limit, Float.POSITIVE_INFINITY, -1);
+    }
+
+    public JobSearchResult rank(Collection<String> skills, RoaringBitmap candidates, int limit,
+                                float afterScore, int afterOrdinal) {
+        float[] scores = new float[size];
+        RoaringBitmap matched = new RoaringBitmap();
+        Set<List<String>> seen = new LinkedHashSet<>();
+
+        for (String skill : skills) {
+            List<String> terms = distinctTokens(skill);
+            if (terms.isEmpty() || !seen.add(terms)) continue;
+
+            RoaringBitmap inTitle = null;
+            RoaringBitmap anywhere = null;
+            for (String term : terms) {
+                RoaringBitmap title = titleTerms.getOrDefault(term, NONE);
+                RoaringBitmap both = RoaringBitmap.or(title, fieldTerms.getOrDefault(term, NONE));
+                inTitle = inTitle == null ? title : RoaringBitmap.and(inTitle, title);
+                anywhere = anywhere == null ? both : RoaringBitmap.and(anywhere, both);
+                if (anywhere.isEmpty()) break;
+            }
+            anywhere = RoaringBitmap.and(anywhere, candidates);
+            if (anywhere.isEmpty()) continue;
+
+            float idf = (float) Math.log(1 + (double) size / anywhere.getCardinality());
+            RoaringBitmap strong = RoaringBitmap.and(anywhere, inTitle);
+            add(scores, strong, idf * TITLE_WEIGHT);
+            add(scores, RoaringBitmap.andNot(anywhere, strong), idf * FIELD_WEIGHT);
+            matched.or(anywhere);
+        }
+
+        return topK(scores, matched, limit, afterScore, afterOrdinal);
+    }
+
+    private static void add(float[] scores, RoaringBitmap ordinals, float score) {
+        PeekableIntIterator iterator = ordinals.getIntIterator();
+        while (iterator.hasNext()) scores[iterator.next()] += score;
+    }
+
+    private static JobSearchResult topK(float[] scores, RoaringBitmap matched, int limit, float afterScore,
+                                        int afterOrdinal) {
+        int capacity = Math.min(limit, matched.getCardinality());
+        int[] heap = new int[capacity];
+        int heapSize = 0;
+
+        PeekableIntIterator iterator = matched.getIntIterator();
+        while (iterator.hasNext()) {
+            int ordinal = iterator.next();
+            if (scores[ordinal] > afterScore || (scores[ordinal] == afterScore && ordinal <= afterOrdinal)) continue;
+            if (heapSize < capacity) {
+                heap[heapSize] = ordinal;
+                siftUp(heap, heapSize++, scores);
+            } else if (capacity > 0 && better(ordinal, heap[0], scores)) {
+                heap[0] = ordinal;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        int[] ordinals = new int[heapSize];
+        float[] ranked = new float[heapSize];
+        for (int position = heapSize - 1; position >= 0; position--) {
+            ordinals[position] = heap[0];
+            ranked[position] = scores[heap[0]];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return new JobSearchResult(ordinals, ranked, matched.getCardinality());
+    }
+
+    private static boolean better(int ordinal, int other, float[] scores) {
+        return scores[ordinal] > scores[other] || (scores[ordinal] == scores[other] && ordinal < other);
+    }
+
+    private static void siftUp(int[] heap, int position, float[] scores) {
+        int ordinal = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!better(heap[parent], ordinal, scores)) break;
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = ordinal;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, float[] scores) {
+        if (heapSize == 0) return;
+        int ordinal = heap[0];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && better(heap[child], heap[child + 1], scores)) child++;
+            if (!better(ordinal, heap[child], scores)) break;
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = ordinal;
+    }
+}
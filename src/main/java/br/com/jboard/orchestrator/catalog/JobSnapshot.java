@@ -0,0 +1,134 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+public final class JobSnapshot {
+    private final long version;
+    private final JobStore store;
+    private final Instant loadedAt;
+    private final JobSortIndex sortIndex;
+    private final JobFacetIndex facetIndex;
+    private final JobSearchIndex searchIndex;
+    private final JobSkillIndex skillIndex;
+    private final RoaringBitmap live;
+    @Getter(AccessLevel.NONE)
+    private final JobIdIndex idIndex;
+    @Getter(AccessLevel.NONE)
+    private final long[] contentHashes;
+    @Getter(AccessLevel.NONE)
+    private final int size;
+
+    public JobSnapshot(long version, List<Job> jobs, Instant loadedAt) {
+        this(version, jobs, loadedAt, null);
+    }
+
+    public JobSnapshot(long version, List<Job> jobs, Instant loadedAt, JobSnapshot previous) {
+        this(version, JobStore.of(jobs), loadedAt, previous);
+    }
+
+    public JobSnapshot(long version, JobStore store, Instant loadedAt, JobSnapshot previous) {
+        this.version = version;
+        this.store = store;
+        this.loadedAt = loadedAt;
+        this.sortIndex = new JobSortIndex(store);
+        this.facetIndex = new JobFacetIndex(store);
+        this.searchIndex = new JobSearchIndex(store, previous == null ? null : previous.searchIndex);
+        this.skillIndex = new JobSkillIndex(store);
+        this.idIndex = new JobIdIndex(store);
+        this.contentHashes = new long[store.size()];
+        RoaringBitmap canonical = new RoaringBitmap();
+        for (int i = 0; i < contentHashes.length; i++) {
+            contentHashes[i] = JobContentHash.of(store, i);
+            if (store.isCanonical(i)) canonical.add(i);
+        }
+        this.live = canonical.getCardinality() == store.size() ? facetIndex.getAll() : canonical;
+        this.size = live.getCardinality();
+    }
+
+    private JobSnapshot(long version, JobSnapshot source, RoaringBitmap live) {
+        this.version = version;
+        this.store = source.store;
+        this.loadedAt = source.loadedAt;
+        this.sortIndex = source.sortIndex;
+        this.facetIndex = source.facetIndex;
+        this.searchIndex = source.searchIndex;
+        this.skillIndex = source.skillIndex;
+        this.idIndex = source.idIndex;
+        this.contentHashes = source.contentHashes;
+        this.live = live;
+        this.size = live.getCardinality();
+    }
+
+    public JobSnapshot withoutOrdinals(long version, RoaringBitmap removed) {
+        RoaringBitmap remaining = RoaringBitmap.andNot(live, removed);
+        remaining.runOptimize();
+        return new JobSnapshot(version, this, remaining);
+    }
+
+    public RoaringBitmap expiredAt(long nowMillis) {
+        RoaringBitmap expired = new RoaringBitmap();
+        PeekableIntIterator ordinals = live.getIntIterator();
+        while (ordinals.hasNext()) {
+            int ordinal = ordinals.next();
+            long expiresAt = store.expiresAtMillis(ordinal);
+            if (expiresAt != JobDates.MISSING && expiresAt <= nowMillis) expired.add(ordinal);
+        }
+        return expired;
+    }
+
+    public boolean isLive(int ordinal) {
+        return isFullyLive() || live.contains(ordinal);
+    }
+
+    public boolean isFullyLive() {
+        return size == store.size();
+    }
+
+    public RoaringBitmap matching(JobFilter filter) {
+        RoaringBitmap matches = facetIndex.filter(filter);
+        if (filter.getPublishedAfter() != null) {
+            matches = RoaringBitmap.and(matches,
+                    sortIndex.range(JobSortKey.PUBLISHED_DATE, filter.getPublishedAfter(), Long.MAX_VALUE));
+        }
+        if (filter.getDeadlineAfter() != null) {
+            matches = RoaringBitmap.and(matches,
+                    sortIndex.range(JobSortKey.APPLICATION_DEADLINE, filter.getDeadlineAfter() + 1, Long.MAX_VALUE));
+        }
+        if (filter.getSalaryAtLeast() != null) {
+            matches = RoaringBitmap.and(matches,
+                    sortIndex.range(JobSortKey.SALARY, filter.getSalaryAtLeast(), Long.MAX_VALUE));
+        }
+        if (filter.getSalaryAtMost() != null) {
+            matches = RoaringBitmap.and(matches,
+                    sortIndex.range(JobSortKey.SALARY_MIN, 0, filter.getSalaryAtMost() + 1));
+        }
+        return isFullyLive() ? matches : RoaringBitmap.and(matches, live);
+    }
+
+    public JobSearchResult search(String query, RoaringBitmap candidates) {
+        return searchIndex.search(query, candidates, isFullyLive() ? null : live);
+    }
+
+    public int ordinalOf(String id) {
+        int ordinal = idIndex.ordinalOf(id);
+        if (ordinal == JobIdIndex.MISSING) return JobIdIndex.MISSING;
+        int canonical = store.canonical(ordinal);
+        return isLive(canonical) ? canonical : JobIdIndex.MISSING;
+    }
+
+    public long contentHash(int ordinal) {
+        return contentHashes[ordinal];
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.IsBrazilianFriendly;
+import br.com.jboard.orchestrator.models.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+@Slf4j
+@Component
+public class JobSnapshotFile {
+    private static final int MAGIC = 0x4A42434B;
+    private static final int FORMAT_VERSION = 4;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+    private static final int MIN_ROW_BYTES = 13 * 4 + 1 + 4;
+    private static final byte FRIENDLY_ABSENT = 0;
+    private static final byte FRIENDLY_FALSE = 1;
+    private static final byte FRIENDLY_TRUE = 2;
+
+    private final Path path;
+
+    public JobSnapshotFile(@Value("${app.jobs.catalog.snapshot-path:data/jobs-catalog.bin}") String path) {
+        this.path = Path.of(path);
+    }
+
+    public record Restored(long version, Instant loadedAt, JobStore store) {
+    }
+
+    public void write(JobSnapshot snapshot) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            JobStore store = snapshot.getStore();
+            CRC32 crc = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(snapshot.getVersion());
+                out.writeLong(snapshot.getLoadedAt().toEpochMilli());
+                int[] positions = new int[store.size()];
+                int count = 0;
+                for (int ordinal = 0; ordinal < store.size(); ordinal++) {
+                    positions[ordinal] = snapshot.isLive(store.canonical(ordinal)) ? count++ : -1;
+                }
+                out.writeInt(count);
+
+                for (int ordinal = 0; ordinal < store.size(); ordinal++) {
+                    if (positions[ordinal] >= 0) writeJob(out, crc, store, ordinal, positions[store.canonical(ordinal)]);
+                }
+                out.writeLong(crc.getValue());
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Optional<Restored> read() {
+        if (!Files.isRegularFile(path)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("Snapshot do catálogo em {} ignorado: formato desconhecido", path);
+                return Optional.empty();
+            }
+
+            long version = buffer.getLong();
+            Instant loadedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_ROW_BYTES) {
+                log.warn("Snapshot do catálogo em {} ignorado: quantidade de vagas inválida ({})", path, count);
+                return Optional.empty();
+            }
+            CRC32 crc = new CRC32();
+            Reader reader = new Reader(buffer, crc);
+            JobStore.Builder jobs = new JobStore.Builder(count);
+            int[] canonical = new int[count];
+            boolean deduplicated = false;
+            for (int i = 0; i < count; i++) {
+                jobs.add(reader.job());
+                canonical[i] = reader.canonical();
+                deduplicated |= canonical[i] != i;
+            }
+
+            if (buffer.getLong() != crc.getValue()) {
+                log.warn("Snapshot do catálogo em {} ignorado: checksum inválido", path);
+                return Optional.empty();
+            }
+            for (int i = 0; i < count; i++) {
+                if (canonical[i] < 0 || canonical[i] >= count || canonical[canonical[i]] != canonical[i]) {
+                    log.warn("Snapshot do catálogo em {} ignorado: vaga canônica inválida na posição {}", path, i);
+                    return Optional.empty();
+                }
+            }
+            JobStore store = jobs.build();
+            return Optional.of(new Restored(version, loadedAt, deduplicated ? store.withCanonical(canonical) : store));
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException ex) {
+            log.warn("Snapshot do catálogo em {} ignorado: {}", path, ex.toString());
+            return Optional.empty();
+        }
+    }
+
+    private static void writeJob(DataOutputStream out, CRC32 crc, JobStore store, int ordinal, int canonical)
+            throws IOException {
+        writeString(out, crc, store.id(ordinal));
+        writeString(out, crc, store.title(ordinal));
+        writeString(out, crc, store.updatedAt(ordinal));
+        writeString(out, crc, store.employmentType(ordinal));
+        writeString(out, crc, store.publishedDate(ordinal));
+        writeString(out, crc, store.applicationDeadline(ordinal));
+        writeString(out, crc, store.compensationTierSummary(ordinal));
+        writeString(out, crc, store.workplaceType(ordinal));
+        writeString(out, crc, store.officeLocation(ordinal));
+        writeString(out, crc, store.company(ordinal));
+        writeString(out, crc, store.url(ordinal));
+        writeString(out, crc, store.seniorityLevel(ordinal));
+        writeString(out, crc, store.field(ordinal));
+
+        String friendly = store.brazilianFriendlyValue(ordinal);
+        byte flag = friendly == null ? FRIENDLY_ABSENT : Boolean.parseBoolean(friendly) ? FRIENDLY_TRUE : FRIENDLY_FALSE;
+        out.writeByte(flag);
+        crc.update(flag);
+        if (flag != FRIENDLY_ABSENT) writeString(out, crc, store.brazilianFriendlyReason(ordinal));
+
+        out.writeInt(canonical);
+        updateInt(crc, canonical);
+    }
+
+    private static void writeString(DataOutputStream out, CRC32 crc, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            updateInt(crc, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        updateInt(crc, bytes.length);
+        out.write(bytes);
+        crc.update(bytes);
+    }
+
+    private static void updateInt(CRC32 crc, int value) {
+        crc.update(value >>> 24);
+        crc.update(value >>> 16);
+        crc.update(value >>> 8);
+        crc.update(value);
+    }
+
+    private static final class Reader {
+        private final MappedByteBuffer buffer;
+        private final CRC32 crc;
+        private byte[] scratch = new byte[256];
+
+        private Reader(MappedByteBuffer buffer, CRC32 crc) {
+            this.buffer = buffer;
+            this.crc = crc;
+        }
+
+        private Job job() {
+            Job job = new Job();
+            job.setId(string());
+            job.setTitle(string());
+            job.setUpdatedAt(string());
+            job.setEmploymentType(string());
+            job.setPublishedDate(string());
+            job.setApplicationDeadline(string());
+            job.setCompensationTierSummary(string());
+            job.setWorkplaceType(string());
+            job.setOfficeLocation(string());
+            job.setCompany(string());
+            job.setUrl(string());
+            job.setSeniorityLevel(string());
+            job.setField(string());
+
+            byte flag = buffer.get();
+            crc.update(flag);
+            if (flag != FRIENDLY_ABSENT) {
+                IsBrazilianFriendly friendly = new IsBrazilianFriendly();
+                friendly.setFriendly(flag == FRIENDLY_TRUE);
+                friendly.setReason(string());
+                job.setIsBrazilianFriendly(friendly);
+            }
+            return job;
+        }
+
+        private int canonical() {
+            int canonical = buffer.getInt();
+            updateInt(crc, canonical);
+            return canonical;
+        }
+
+        private String string() {
+            int length = buffer.getInt();
+            updateInt(crc, length);
+            if (length < 0) return null;
+            if (length > buffer.remaining()) throw new BufferUnderflowException();
+            if (length > scratch.length) scratch = new byte[Math.max(length, scratch.length * 2)];
+            buffer.get(scratch, 0, length);
+            crc.update(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
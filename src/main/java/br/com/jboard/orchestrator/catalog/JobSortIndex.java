@@ -0,0 +1,104 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public final class JobSortIndex {
+    private final JobStore store;
+    private final Map<JobSortKey, int[]> ascending = new EnumMap<>(JobSortKey.class);
+    private final Map<JobSortKey, int[]> descending = new EnumMap<>(JobSortKey.class);
+
+    public JobSortIndex(JobStore store) {
+        this.store = store;
+        for (JobSortKey key : JobSortKey.values()) {
+            if (!key.isPrecomputed()) continue;
+            ascending.put(key, sortedOrdinals(key, SortDirection.ASC));
+            descending.put(key, sortedOrdinals(key, SortDirection.DESC));
+        }
+    }
+
+    public int[] ordering(JobSortKey key, SortDirection direction) {
+        return direction == SortDirection.ASC ? ascending.get(key) : descending.get(key);
+    }
+
+    public int positionAfter(JobCursor cursor) {
+        int[] ordering = ordering(cursor.sortKey(), cursor.direction());
+        long cursorValue = JobSortKey.parseCursorValue(cursor.value());
+        int low = 0;
+        int high = ordering.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int ordinal = ordering[mid];
+            int cmp = compare(cursor.sortKey().valueOf(store, ordinal), store.id(ordinal),
+                    cursorValue, cursor.id(), cursor.direction());
+            if (cmp <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] sortedOrdinals(JobSortKey key, SortDirection direction) {
+        long[] values = new long[store.size()];
+        String[] ids = new String[store.size()];
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            values[ordinal] = key.valueOf(store, ordinal);
+            ids[ordinal] = store.id(ordinal);
+        }
+        Comparator<Integer> comparator = (a, b) -> {
+            int cmp = compare(values[a], ids[a], values[b], ids[b], direction);
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        };
+        return IntStream.range(0, values.length).boxed().sorted(comparator).mapToInt(Integer::intValue).toArray();
+    }
+
+    public RoaringBitmap range(JobSortKey key, long fromInclusive, long toExclusive) {
+        int[] ordering = ascending.get(key);
+        int start = firstAtLeast(key, ordering, fromInclusive);
+        int end = firstAtLeast(key, ordering, toExclusive);
+
+        RoaringBitmap matches = new RoaringBitmap();
+        if (start < end) matches.addN(ordering, start, end - start);
+        return matches;
+    }
+
+    private int firstAtLeast(JobSortKey key, int[] ordering, long value) {
+        int low = 0;
+        int high = ordering.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long current = key.valueOf(store, ordering[mid]);
+            if (current != JobDates.MISSING && current < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static int compare(long leftValue, String leftId, long rightValue, String rightId, SortDirection direction) {
+        int cmp = compareMissingLast(leftValue, rightValue);
+        if (cmp != 0 && leftValue != JobDates.MISSING && rightValue != JobDates.MISSING && direction == SortDirection.DESC) cmp = -cmp;
+        return cmp != 0 ? cmp : compareNullsLast(leftId, rightId);
+    }
+
+    private static int compareMissingLast(long left, long right) {
+        if (left == JobDates.MISSING) return right == JobDates.MISSING ? 0 : 1;
+        if (right == JobDates.MISSING) return -1;
+        return Long.compare(left, right);
+    }
+
+    private static int compareNullsLast(String left, String right) {
+        if (left == null) return right == null ? 0 : 1;
+        if (right == null) return -1;
+        return left.compareTo(right);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.Getter;
+
+@Getter
+public enum JobSortKey {
+    PUBLISHED_DATE("publishedDate", SortDirection.DESC, JobStore::publishedDateMillis),
+    APPLICATION_DEADLINE("applicationDeadline", SortDirection.ASC, JobStore::applicationDeadlineMillis),
+    UPDATED_AT("updatedAt", SortDirection.DESC, JobStore::updatedAtMillis),
+    SALARY("salary", SortDirection.DESC, JobStore::annualSalaryMax),
+    SALARY_MIN("salaryMin", SortDirection.DESC, JobStore::annualSalaryMin),
+    RELEVANCE("relevance", SortDirection.DESC, null);
+
+    private final String param;
+    private final SortDirection defaultDirection;
+    private final JobNumericAttribute extractor;
+
+    JobSortKey(String param, SortDirection defaultDirection, JobNumericAttribute extractor) {
+        this.param = param;
+        this.defaultDirection = defaultDirection;
+        this.extractor = extractor;
+    }
+
+    public boolean isPrecomputed() {
+        return extractor != null;
+    }
+
+    public long valueOf(JobStore store, int ordinal) {
+        return extractor.valueOf(store, ordinal);
+    }
+
+    public String cursorValueOf(JobStore store, int ordinal) {
+        long value = valueOf(store, ordinal);
+        return value == JobDates.MISSING ? null : Long.toString(value);
+    }
+
+    public static long parseCursorValue(String value) {
+        if (value == null) return JobDates.MISSING;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    public static JobSortKey fromParam(String param) {
+        for (JobSortKey key : values()) {
+            if (key.param.equalsIgnoreCase(param)) return key;
+        }
+        throw new BadRequestException("Chave de ordenação inválida: " + param);
+    }
+}
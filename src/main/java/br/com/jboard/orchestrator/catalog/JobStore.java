@@ -0,0 +1,391 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.IsBrazilianFriendly;
+import br.com.jboard.orchestrator.models.Job;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public final class JobStore {
+    private final int size;
+    @Getter
+    private final TextColumn ids;
+    @Getter
+    private final TextColumn titles;
+    @Getter
+    private final TextColumn urls;
+    private final TextColumn brazilianFriendlyReasons;
+    @Getter
+    private final DictionaryColumn updatedAts;
+    @Getter
+    private final DictionaryColumn employmentTypes;
+    @Getter
+    private final DictionaryColumn publishedDates;
+    @Getter
+    private final DictionaryColumn applicationDeadlines;
+    @Getter
+    private final DictionaryColumn compensationTierSummaries;
+    @Getter
+    private final DictionaryColumn workplaceTypes;
+    @Getter
+    private final DictionaryColumn officeLocations;
+    @Getter
+    private final DictionaryColumn companies;
+    @Getter
+    private final DictionaryColumn seniorityLevels;
+    @Getter
+    private final DictionaryColumn fields;
+    private final long[] updatedAtMillis;
+    private final long[] publishedDateMillis;
+    private final long[] applicationDeadlineMillis;
+    private final long[] expiryByDeadlineCode;
+    private final Compensation[] compensationByCode;
+    private final int parsedCompensations;
+    private final int unparsedCompensations;
+    private final BitSet brazilianFriendlyPresent;
+    private final BitSet brazilianFriendly;
+    private final int[] duplicates;
+
+    private final int[] canonical;
+
+    private JobStore(Builder builder) {
+        int count = builder.count;
+        this.size = count;
+        this.ids = builder.idColumn.build();
+        this.titles = builder.titleColumn.build();
+        this.urls = builder.urlColumn.build();
+        this.brazilianFriendlyReasons = builder.reasonColumn.build();
+        this.updatedAts = builder.updatedAtColumn.build();
+        this.employmentTypes = builder.employmentTypeColumn.build();
+        this.publishedDates = builder.publishedDateColumn.build();
+        this.applicationDeadlines = builder.applicationDeadlineColumn.build();
+        this.compensationTierSummaries = builder.compensationColumn.build();
+        this.workplaceTypes = builder.workplaceTypeColumn.build();
+        this.officeLocations = builder.officeLocationColumn.build();
+        this.companies = builder.companyColumn.build();
+        this.seniorityLevels = builder.seniorityLevelColumn.build();
+        this.fields = builder.fieldColumn.build();
+        this.brazilianFriendlyPresent = builder.brazilianFriendlyPresent;
+        this.brazilianFriendly = builder.brazilianFriendly;
+        this.duplicates = Arrays.copyOf(builder.duplicates, count);
+        this.canonical = null;
+        this.updatedAtMillis = epochMillis(updatedAts, count);
+        this.publishedDateMillis = epochMillis(publishedDates, count);
+        this.applicationDeadlineMillis = epochMillis(applicationDeadlines, count);
+        this.expiryByDeadlineCode = new long[applicationDeadlines.cardinality()];
+        for (int code = 0; code < expiryByDeadlineCode.length; code++) {
+            expiryByDeadlineCode[code] = JobDates.toExpiryMillis(applicationDeadlines.value(code));
+        }
+        this.compensationByCode = new Compensation[compensationTierSummaries.cardinality()];
+        for (int code = 0; code < compensationByCode.length; code++) {
+            compensationByCode[code] = CompensationParser.parse(compensationTierSummaries.value(code));
+        }
+        int parsed = 0;
+        int unparsed = 0;
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            int code = compensationTierSummaries.code(ordinal);
+            if (code < 0) continue;
+            if (compensationByCode[code] == null) unparsed++;
+            else parsed++;
+        }
+        this.parsedCompensations = parsed;
+        this.unparsedCompensations = unparsed;
+    }
+
+    private JobStore(JobStore source, int[] canonical) {
+        this.size = source.size;
+        this.ids = source.ids;
+        this.titles = source.titles;
+        this.urls = source.urls;
+        this.brazilianFriendlyReasons = source.brazilianFriendlyReasons;
+        this.updatedAts = source.updatedAts;
+        this.employmentTypes = source.employmentTypes;
+        this.publishedDates = source.publishedDates;
+        this.applicationDeadlines = source.applicationDeadlines;
+        this.compensationTierSummaries = source.compensationTierSummaries;
+        this.workplaceTypes = source.workplaceTypes;
+        this.officeLocations = source.officeLocations;
+        this.companies = source.companies;
+        this.seniorityLevels = source.seniorityLevels;
+        this.fields = source.fields;
+        this.updatedAtMillis = source.updatedAtMillis;
+        this.publishedDateMillis = source.publishedDateMillis;
+        this.applicationDeadlineMillis = source.applicationDeadlineMillis;
+        this.expiryByDeadlineCode = source.expiryByDeadlineCode;
+        this.compensationByCode = source.compensationByCode;
+        this.parsedCompensations = source.parsedCompensations;
+        this.unparsedCompensations = source.unparsedCompensations;
+        this.brazilianFriendlyPresent = source.brazilianFriendlyPresent;
+        this.brazilianFriendly = source.brazilianFriendly;
+        this.canonical = canonical;
+        this.duplicates = new int[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (canonical[ordinal] != ordinal) duplicates[canonical[ordinal]]++;
+        }
+    }
+
+    public static JobStore of(List<Job> jobs) {
+        Builder builder = new Builder(jobs.size());
+        jobs.forEach(builder::add);
+        return builder.build();
+    }
+
+    JobStore withCanonical(int[] canonical) {
+        return new JobStore(this, canonical);
+    }
+
+    private static long[] epochMillis(DictionaryColumn dates, int count) {
+        long[] parsed = new long[dates.cardinality()];
+        for (int code = 0; code < parsed.length; code++) {
+            parsed[code] = JobDates.toEpochMillis(dates.value(code));
+        }
+
+        long[] column = new long[count];
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            int code = dates.code(ordinal);
+            column[ordinal] = code < 0 ? JobDates.MISSING : parsed[code];
+        }
+        return column;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String id(int ordinal) {
+        return ids.get(ordinal);
+    }
+
+    public String title(int ordinal) {
+        return titles.get(ordinal);
+    }
+
+    public String url(int ordinal) {
+        return urls.get(ordinal);
+    }
+
+    public String updatedAt(int ordinal) {
+        return updatedAts.get(ordinal);
+    }
+
+    public String employmentType(int ordinal) {
+        return employmentTypes.get(ordinal);
+    }
+
+    public String publishedDate(int ordinal) {
+        return publishedDates.get(ordinal);
+    }
+
+    public String applicationDeadline(int ordinal) {
+        return applicationDeadlines.get(ordinal);
+    }
+
+    public String compensationTierSummary(int ordinal) {
+        return compensationTierSummaries.get(ordinal);
+    }
+
+    public String workplaceType(int ordinal) {
+        return workplaceTypes.get(ordinal);
+    }
+
+    public String officeLocation(int ordinal) {
+        return officeLocations.get(ordinal);
+    }
+
+    public String company(int ordinal) {
+        return companies.get(ordinal);
+    }
+
+    public String seniorityLevel(int ordinal) {
+        return seniorityLevels.get(ordinal);
+    }
+
+    public String field(int ordinal) {
+        return fields.get(ordinal);
+    }
+
+    public long updatedAtMillis(int ordinal) {
+        return updatedAtMillis[ordinal];
+    }
+
+    public long publishedDateMillis(int ordinal) {
+        return publishedDateMillis[ordinal];
+    }
+
+    public long applicationDeadlineMillis(int ordinal) {
+        return applicationDeadlineMillis[ordinal];
+    }
+
+    public long expiresAtMillis(int ordinal) {
+        int code = applicationDeadlines.code(ordinal);
+        return code < 0 ? JobDates.MISSING : expiryByDeadlineCode[code];
+    }
+
+    public Compensation compensation(int ordinal) {
+        int code = compensationTierSummaries.code(ordinal);
+        return code < 0 ? null : compensationByCode[code];
+    }
+
+    public long annualSalaryMin(int ordinal) {
+        Compensation compensation = compensation(ordinal);
+        return compensation == null ? JobDates.MISSING : compensation.annualMin();
+    }
+
+    public long annualSalaryMax(int ordinal) {
+        Compensation compensation = compensation(ordinal);
+        return compensation == null ? JobDates.MISSING : compensation.annualMax();
+    }
+
+    public String salaryCurrency(int ordinal) {
+        Compensation compensation = compensation(ordinal);
+        return compensation == null ? null : compensation.currency();
+    }
+
+    public int parsedCompensations() {
+        return parsedCompensations;
+    }
+
+    public int unparsedCompensations() {
+        return unparsedCompensations;
+    }
+
+    public int duplicates(int ordinal) {
+        return duplicates[ordinal];
+    }
+
+    public int canonical(int ordinal) {
+        return canonical == null ? ordinal : canonical[ordinal];
+    }
+
+    public boolean isCanonical(int ordinal) {
+        return canonical == null || canonical[ordinal] == ordinal;
+    }
+
+    public String brazilianFriendlyValue(int ordinal) {
+        return brazilianFriendlyPresent.get(ordinal) ? String.valueOf(brazilianFriendly.get(ordinal)) : null;
+    }
+
+    public String brazilianFriendlyReason(int ordinal) {
+        return brazilianFriendlyReasons.get(ordinal);
+    }
+
+    public Job job(int ordinal) {
+        Job job = new Job();
+        job.setId(id(ordinal));
+        job.setTitle(title(ordinal));
+        job.setUpdatedAt(updatedAt(ordinal));
+        job.setEmploymentType(employmentType(ordinal));
+        job.setPublishedDate(publishedDate(ordinal));
+        job.setApplicationDeadline(applicationDeadline(ordinal));
+        job.setCompensationTierSummary(compensationTierSummary(ordinal));
+        job.setWorkplaceType(workplaceType(ordinal));
+        job.setOfficeLocation(officeLocation(ordinal));
+        job.setCompany(company(ordinal));
+        job.setUrl(url(ordinal));
+        job.setSeniorityLevel(seniorityLevel(ordinal));
+        job.setField(field(ordinal));
+        job.setDuplicates(duplicates(ordinal));
+        if (brazilianFriendlyPresent.get(ordinal)) {
+            IsBrazilianFriendly friendly = new IsBrazilianFriendly();
+            friendly.setFriendly(brazilianFriendly.get(ordinal));
+            friendly.setReason(brazilianFriendlyReason(ordinal));
+            job.setIsBrazilianFriendly(friendly);
+        }
+        return job;
+    }
+
+    public long estimatedBytes() {
+        long bytes = ids.estimatedBytes() + titles.estimatedBytes() + urls.estimatedBytes()
+                + brazilianFriendlyReasons.estimatedBytes();
+        for (DictionaryColumn column : new DictionaryColumn[]{updatedAts, employmentTypes, publishedDates,
+                applicationDeadlines, compensationTierSummaries, workplaceTypes, officeLocations, companies,
+                seniorityLevels, fields}) {
+            bytes += column.estimatedBytes();
+        }
+        bytes += 3 * (16L + 8L * size);
+        bytes += 16L + 4L * size;
+        if (canonical != null) bytes += 16L + 4L * size;
+        bytes += (brazilianFriendlyPresent.size() + brazilianFriendly.size()) / 8;
+        return bytes;
+    }
+
+    public static final class Builder {
+        private final TextColumn.Builder idColumn;
+        private final TextColumn.Builder titleColumn;
+        private final TextColumn.Builder urlColumn;
+        private final TextColumn.Builder reasonColumn;
+        private final DictionaryColumn.Builder updatedAtColumn;
+        private final DictionaryColumn.Builder employmentTypeColumn;
+        private final DictionaryColumn.Builder publishedDateColumn;
+        private final DictionaryColumn.Builder applicationDeadlineColumn;
+        private final DictionaryColumn.Builder compensationColumn;
+        private final DictionaryColumn.Builder workplaceTypeColumn;
+        private final DictionaryColumn.Builder officeLocationColumn;
+        private final DictionaryColumn.Builder companyColumn;
+        private final DictionaryColumn.Builder seniorityLevelColumn;
+        private final DictionaryColumn.Builder fieldColumn;
+        private final BitSet brazilianFriendlyPresent = new BitSet();
+        private final BitSet brazilianFriendly = new BitSet();
+        private int[] duplicates;
+        private int count;
+
+        public Builder() {
+            this(1024);
+        }
+
+        public Builder(int capacity) {
+            this.idColumn = new TextColumn.Builder(capacity);
+            this.titleColumn = new TextColumn.Builder(capacity);
+            this.urlColumn = new TextColumn.Builder(capacity);
+            this.reasonColumn = new TextColumn.Builder(capacity);
+            this.updatedAtColumn = new DictionaryColumn.Builder(capacity);
+            this.employmentTypeColumn = new DictionaryColumn.Builder(capacity);
+            this.publishedDateColumn = new DictionaryColumn.Builder(capacity);
+            this.applicationDeadlineColumn = new DictionaryColumn.Builder(capacity);
+            this.compensationColumn = new DictionaryColumn.Builder(capacity);
+            this.workplaceTypeColumn = new DictionaryColumn.Builder(capacity);
+            this.officeLocationColumn = new DictionaryColumn.Builder(capacity);
+            this.companyColumn = new DictionaryColumn.Builder(capacity);
+            this.seniorityLevelColumn = new DictionaryColumn.Builder(capacity);
+            this.fieldColumn = new DictionaryColumn.Builder(capacity);
+            this.duplicates = new int[Math.max(1, capacity)];
+        }
+
+        public Builder add(Job job) {
+            if (count == duplicates.length) duplicates = Arrays.copyOf(duplicates, duplicates.length * 2);
+            idColumn.add(job.getId());
+            titleColumn.add(job.getTitle());
+            urlColumn.add(job.getUrl());
+            updatedAtColumn.add(job.getUpdatedAt());
+            employmentTypeColumn.add(job.getEmploymentType());
+            publishedDateColumn.add(job.getPublishedDate());
+            applicationDeadlineColumn.add(job.getApplicationDeadline());
+            compensationColumn.add(job.getCompensationTierSummary());
+            workplaceTypeColumn.add(job.getWorkplaceType());
+            officeLocationColumn.add(job.getOfficeLocation());
+            companyColumn.add(job.getCompany());
+            seniorityLevelColumn.add(job.getSeniorityLevel());
+            fieldColumn.add(job.getField());
+            duplicates[count] = job.getDuplicates();
+
+            IsBrazilianFriendly friendly = job.getIsBrazilianFriendly();
+            reasonColumn.add(friendly == null ? null : friendly.getReason());
+            if (friendly != null) {
+                brazilianFriendlyPresent.set(count);
+                brazilianFriendly.set(count, friendly.isFriendly());
+            }
+            count++;
+            return this;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public JobStore build() {
+            return new JobStore(this);
+        }
+    }
+}
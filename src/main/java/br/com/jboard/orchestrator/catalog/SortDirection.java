@@ -0,0 +1,15 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+
+public enum SortDirection {
+    ASC,
+    DESC;
+
+    public static SortDirection fromParam(String param) {
+        for (SortDirection direction : values()) {
+            if (direction.name().equalsIgnoreCase(param)) return direction;
+        }
+        throw new BadRequestException("Direção de ordenação inválida: " + param);
+    }
+}
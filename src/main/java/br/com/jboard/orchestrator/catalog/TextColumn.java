@@ -0,0 +1,80 @@
+package br.com.jboard.orchestrator.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+public final class TextColumn {
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final BitSet nulls;
+
+    private TextColumn(byte[] bytes, int[] offsets, BitSet nulls) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    public String get(int ordinal) {
+        if (nulls.get(ordinal)) return null;
+        return new String(bytes, offsets[ordinal], length(ordinal), StandardCharsets.UTF_8);
+    }
+
+    public boolean isNull(int ordinal) {
+        return nulls.get(ordinal);
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public int offset(int ordinal) {
+        return offsets[ordinal];
+    }
+
+    public int length(int ordinal) {
+        return offsets[ordinal + 1] - offsets[ordinal];
+    }
+
+    boolean matches(int ordinal, byte[] value) {
+        return !nulls.get(ordinal)
+                && Arrays.equals(bytes, offsets[ordinal], offsets[ordinal + 1], value, 0, value.length);
+    }
+
+    long estimatedBytes() {
+        return 16L + bytes.length + 16L + 4L * offsets.length + nulls.size() / 8;
+    }
+
+    static final class Builder {
+        private final BitSet nulls = new BitSet();
+        private int[] offsets;
+        private byte[] bytes;
+        private int length;
+        private int count;
+
+        Builder(int capacity) {
+            this.offsets = new int[Math.max(1, capacity) + 1];
+            this.bytes = new byte[Math.max(16, capacity * 32)];
+        }
+
+        void add(String value) {
+            if (count + 1 == offsets.length) offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            offsets[count] = length;
+            if (value == null) {
+                nulls.set(count);
+            } else {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                if (length + encoded.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + encoded.length));
+                }
+                System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                length += encoded.length;
+            }
+            offsets[++count] = length;
+        }
+
+        TextColumn build() {
+            return new TextColumn(Arrays.copyOf(bytes, length), Arrays.copyOf(offsets, count + 1), nulls);
+        }
+    }
+}
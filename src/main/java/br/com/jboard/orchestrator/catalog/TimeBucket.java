@@ -0,0 +1,52 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@Getter
+public enum TimeBucket {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int MONDAY_OFFSET = 3;
+
+    private final String param;
+
+    TimeBucket(String param) {
+        this.param = param;
+    }
+
+    public long bucketOf(long epochMillis) {
+        if (epochMillis == JobDates.MISSING) return JobDates.MISSING;
+
+        long epochDay = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        return switch (this) {
+            case DAY -> epochDay;
+            case WEEK -> Math.floorDiv(epochDay + MONDAY_OFFSET, 7);
+            case MONTH -> {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                yield date.getYear() * 12L + date.getMonthValue() - 1;
+            }
+        };
+    }
+
+    public String label(long bucket) {
+        return switch (this) {
+            case DAY -> LocalDate.ofEpochDay(bucket).toString();
+            case WEEK -> LocalDate.ofEpochDay(bucket * 7 - MONDAY_OFFSET).toString();
+            case MONTH -> YearMonth.of((int) Math.floorDiv(bucket, 12), (int) Math.floorMod(bucket, 12) + 1).toString();
+        };
+    }
+
+    public static TimeBucket fromParam(String param) {
+        for (TimeBucket bucket : values()) {
+            if (bucket.param.equalsIgnoreCase(param)) return bucket;
+        }
+        throw new BadRequestException("interval inválido: " + param);
+    }
+}
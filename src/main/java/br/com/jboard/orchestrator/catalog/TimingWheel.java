@@ -0,0 +1,84 @@
+package br.com.jboard.orchestrator.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+final class TimingWheel {
+    private static final int LEVELS = 5;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long MAX_DELTA = (1L << (BITS * LEVELS)) - 1;
+
+    private final long[][] slots = new long[LEVELS * SLOTS][];
+    private final int[] sizes = new int[LEVELS * SLOTS];
+    private long currentTick;
+    private int size;
+
+    void schedule(long expiryTick, int ordinal) {
+        long tick = Math.min(Math.max(expiryTick, currentTick + 1), Integer.MAX_VALUE);
+        add(tick << 32 | (ordinal & 0xFFFFFFFFL));
+        size++;
+    }
+
+    void advance(long toTick, IntConsumer expired) {
+        while (currentTick < toTick && size > 0) {
+            currentTick++;
+            int wrapped = 0;
+            while (wrapped + 1 < LEVELS && (currentTick & ((1L << (BITS * (wrapped + 1))) - 1)) == 0) wrapped++;
+            for (int level = wrapped; level >= 1; level--) {
+                cascade(level * SLOTS + (int) ((currentTick >>> (BITS * level)) & MASK));
+            }
+            drain((int) (currentTick & MASK), expired);
+        }
+        if (currentTick < toTick) currentTick = toTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void add(long entry) {
+        long tick = entry >>> 32;
+        long delta = Math.min(tick - currentTick, MAX_DELTA);
+        long slotTick = currentTick + delta;
+        int level = 0;
+        while (level + 1 < LEVELS && delta >= 1L << (BITS * (level + 1))) level++;
+
+        int slot = level * SLOTS + (int) ((slotTick >>> (BITS * level)) & MASK);
+        long[] entries = slots[slot];
+        if (entries == null) {
+            entries = slots[slot] = new long[4];
+        } else if (sizes[slot] == entries.length) {
+            entries = slots[slot] = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[sizes[slot]++] = entry;
+    }
+
+    private void cascade(int slot) {
+        long[] entries = slots[slot];
+        int count = sizes[slot];
+        if (count == 0) return;
+
+        slots[slot] = null;
+        sizes[slot] = 0;
+        for (int i = 0; i < count; i++) add(entries[i]);
+    }
+
+    private void drain(int slot, IntConsumer expired) {
+        long[] entries = slots[slot];
+        int count = sizes[slot];
+        if (count == 0) return;
+
+        slots[slot] = null;
+        sizes[slot] = 0;
+        for (int i = 0; i < count; i++) {
+            if (entries[i] >>> 32 <= currentTick) {
+                size--;
+                expired.accept((int) entries[i]);
+            } else {
+                add(entries[i]);
+            }
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package br.com.jboard.orchestrator.clients;
 
-import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.catalog.JobStore;
 import br.com.jboard.orchestrator.models.exceptions.InternalServerErrorException;
+import br.com.jboard.orchestrator.serialization.JobJsonReader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Collections;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -20,20 +21,33 @@ public class JobClient {
     @Value("${spring.data.crud.url}")
     private String url;
 
+    private static final ResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
+
     private final RestClient restClient;
+    private final JobJsonReader jobJsonReader;
+    private final SingleFlight singleFlight;
 
-    public JobClient(RestClient restClient){
+    public JobClient(RestClient restClient, JobJsonReader jobJsonReader, SingleFlight singleFlight){
         this.restClient = restClient;
+        this.jobJsonReader = jobJsonReader;
+        this.singleFlight = singleFlight;
     }
 
-    public List<Job> getJobs() {
-        try {
-            List<Job> jobs = restClient.get()
-                    .uri(new URI(url + "/jobs"))
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
+    public JobStore getJobs() {
+        return singleFlight.execute("jobs", "all", this::fetchJobs);
+    }
 
-            return jobs == null ? Collections.emptyList() : jobs;
+    private JobStore fetchJobs() {
+        try {
+            URI uri = new URI(url + "/jobs");
+            return restClient.get()
+                    .uri(uri)
+                    .exchange((request, response) -> {
+                        if (ERROR_HANDLER.hasError(response)) {
+                            ERROR_HANDLER.handleError(uri, HttpMethod.GET, response);
+                        }
+                        return jobJsonReader.read(response.getBody());
+                    });
         } catch (URISyntaxException ex) {
             log.error("Erro ao criar URI para buscar jobs: {}", ex.getMessage());
             throw new InternalServerErrorException("Erro interno - URI inválida", ex);
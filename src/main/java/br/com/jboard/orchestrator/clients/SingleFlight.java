@@ -0,0 +1,82 @@
+package br.com.jboard.orchestrator.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class SingleFlight {
+    static final String METRIC_NAME = "jboard.upstream.singleflight";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record Key(String operation, Object key) {
+    }
+
+    private record Counters(Counter leaders, Counter followers) {
+        double coalescingRatio() {
+            double total = leaders.count() + followers.count();
+            return total == 0 ? 0 : followers.count() / total;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> call) {
+        Counters operationCounters = counters.computeIfAbsent(operation, this::register);
+        Key flightKey = new Key(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            operationCounters.followers().increment();
+            return (T) await(existing);
+        }
+
+        operationCounters.leaders().increment();
+        try {
+            T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            if (ex.getCause() instanceof Error cause) throw cause;
+            throw ex;
+        }
+    }
+
+    private Counters register(String operation) {
+        Counters registered = new Counters(
+                Counter.builder(METRIC_NAME).tag("operation", operation).tag("role", "leader")
+                        .description("Calls that went to the upstream service").register(meterRegistry),
+                Counter.builder(METRIC_NAME).tag("operation", operation).tag("role", "follower")
+                        .description("Calls served by an upstream request already in flight").register(meterRegistry));
+        Gauge.builder(METRIC_NAME + ".ratio", registered, Counters::coalescingRatio)
+                .tag("operation", operation)
+                .description("Share of calls coalesced into an in-flight upstream request")
+                .register(meterRegistry);
+        return registered;
+    }
+}
@@ -21,12 +21,18 @@ public class SkillClient {
     private String url;
 
     private final RestClient restClient;
+    private final SingleFlight singleFlight;
 
-    public SkillClient(RestClient restClient) {
+    public SkillClient(RestClient restClient, SingleFlight singleFlight) {
         this.restClient = restClient;
+        this.singleFlight = singleFlight;
     }
 
     public List<Skill> getAllSkills(String username) {
+        return singleFlight.execute("skills", username, () -> fetchSkills(username));
+    }
+
+    private List<Skill> fetchSkills(String username) {
         try {
             SkillBackendResponseDTO response = restClient.get()
                     .uri(new URI(url + "/skills?username=" + username))
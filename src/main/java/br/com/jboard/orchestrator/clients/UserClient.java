@@ -21,9 +21,11 @@ public class UserClient {
     private String url;
 
     private final RestClient restClient;
+    private final SingleFlight singleFlight;
 
-    public UserClient(RestClient restClient) {
+    public UserClient(RestClient restClient, SingleFlight singleFlight) {
         this.restClient = restClient;
+        this.singleFlight = singleFlight;
     }
 
     public User getUserById(String id) {
@@ -84,6 +86,17 @@ public class UserClient {
     }
 
     private User getUser(String param, String value) {
+        return copyOf(singleFlight.execute("user-by-" + param, value, () -> fetchUser(param, value)));
+    }
+
+    private static User copyOf(User user) {
+        if (user == null) return null;
+        User copy = new User(user.getUsername(), user.getPassword(), user.getRole());
+        copy.setId(user.getId());
+        return copy;
+    }
+
+    private User fetchUser(String param, String value) {
         try {
             return restClient.get()
                     .uri(new URI(format("%s/users?%s=%s", url, param, value)))
@@ -1,17 +1,75 @@
 package br.com.jboard.orchestrator.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class CacheConfig implements CachingConfigurer {
+    public static final String USERS = "users";
+    public static final String SKILLS = "skills";
+
+    @Value("${app.cache.users.ttl:PT1M}")
+    private Duration usersTtl;
+    @Value("${app.cache.users.stale-while-revalidate:PT30S}")
+    private Duration usersStaleWhileRevalidate;
+    @Value("${app.cache.users.stale-if-error:PT0S}")
+    private Duration usersStaleIfError;
+    @Value("${app.cache.users.max-size:10000}")
+    private int usersMaxSize;
+
+    @Value("${app.cache.skills.ttl:PT1M}")
+    private Duration skillsTtl;
+    @Value("${app.cache.skills.stale-while-revalidate:PT10M}")
+    private Duration skillsStaleWhileRevalidate;
+    @Value("${app.cache.skills.stale-if-error:PT1H}")
+    private Duration skillsStaleIfError;
+    @Value("${app.cache.skills.max-size:10000}")
+    private int skillsMaxSize;
+
+    @Value("${app.cache.jobs.ttl:PT1H}")
+    private Duration jobsTtl;
+    @Value("${app.cache.jobs.max-size:1000}")
+    private int jobsMaxSize;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cacheRefreshExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
 
     @Bean
     @Override
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("analysis");
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new ConcurrentMapCache("analysis"),
+                jobsCache("jobFacets"),
+                jobsCache("jobRecommendations"),
+                jobsCache("jobStats"),
+                new StaleWhileRevalidateCache(USERS, usersTtl, usersStaleWhileRevalidate, usersStaleIfError,
+                        usersMaxSize, cacheRefreshExecutor()),
+                new StaleWhileRevalidateCache(SKILLS, skillsTtl, skillsStaleWhileRevalidate, skillsStaleIfError,
+                        skillsMaxSize, cacheRefreshExecutor())));
+        return cacheManager;
+    }
+
+    private StaleWhileRevalidateCache jobsCache(String name) {
+        return new StaleWhileRevalidateCache(name, jobsTtl, Duration.ZERO, Duration.ZERO, jobsMaxSize,
+                cacheRefreshExecutor());
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<StaleWhileRevalidateCache> staleWhileRevalidateCacheMeterBinderProvider() {
+        return StaleWhileRevalidateCacheMetrics::new;
     }
 }
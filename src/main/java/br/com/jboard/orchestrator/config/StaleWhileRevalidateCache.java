@@ -0,0 +1,237 @@
+package br.com.jboard.orchestrator.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+public class StaleWhileRevalidateCache implements Cache {
+    private final String name;
+    private final long ttlMillis;
+    private final long staleWhileRevalidateMillis;
+    private final long staleIfErrorMillis;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final int maxSize;
+    private final LinkedHashMap<Object, Entry> store;
+    private final Map<Object, Object> loading = new HashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public StaleWhileRevalidateCache(String name, Duration ttl, Duration staleWhileRevalidate, Duration staleIfError,
+                                     int maxSize, Executor refreshExecutor) {
+        this(name, ttl, staleWhileRevalidate, staleIfError, maxSize, refreshExecutor, Clock.systemUTC());
+    }
+
+    StaleWhileRevalidateCache(String name, Duration ttl, Duration staleWhileRevalidate, Duration staleIfError,
+                              int maxSize, Executor refreshExecutor, Clock clock) {
+        this.name = name;
+        this.ttlMillis = ttl.toMillis();
+        this.staleWhileRevalidateMillis = ttlMillis + staleWhileRevalidate.toMillis();
+        this.staleIfErrorMillis = ttlMillis + staleIfError.toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (maxSize <= 0 || size() <= maxSize) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    private record Entry(Object value, long writtenAt) {
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = lookup(key);
+        if (entry == null || age(entry) >= ttlMillis) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : (T) wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = lookup(key);
+        long age = entry == null ? Long.MAX_VALUE : age(entry);
+        if (age < ttlMillis) {
+            hits.increment();
+            return (T) entry.value();
+        }
+        if (age < staleWhileRevalidateMillis) {
+            hits.increment();
+            revalidate(key, entry, valueLoader);
+            return (T) entry.value();
+        }
+
+        misses.increment();
+        Object load = new Object();
+        synchronized (store) {
+            loading.put(key, load);
+        }
+        try {
+            T value = valueLoader.call();
+            synchronized (store) {
+                if (loading.get(key) == load) write(key, value);
+            }
+            return value;
+        } catch (Exception ex) {
+            if (age < staleIfErrorMillis && isUpstreamFailure(ex)) {
+                log.warn("Cache {}: upstream indisponível, servindo valor expirado há {} ms para a chave {}: {}",
+                        name, age - ttlMillis, key, ex.getMessage());
+                return (T) entry.value();
+            }
+            if (ex instanceof RuntimeException runtime) throw runtime;
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            synchronized (store) {
+                loading.remove(key, load);
+            }
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        synchronized (store) {
+            loading.remove(key);
+            write(key, value);
+        }
+    }
+
+    public void update(Object key, UnaryOperator<Object> update) {
+        synchronized (store) {
+            loading.remove(key);
+            store.computeIfPresent(key, (k, entry) -> {
+                Object value = update.apply(entry.value());
+                if (value == null) return null;
+                puts.increment();
+                return new Entry(value, entry.writtenAt());
+            });
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        synchronized (store) {
+            loading.remove(key);
+            store.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (store) {
+            loading.clear();
+            store.clear();
+        }
+    }
+
+    public long size() {
+        synchronized (store) {
+            return store.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private Entry lookup(Object key) {
+        synchronized (store) {
+            return store.get(key);
+        }
+    }
+
+    private void write(Object key, Object value) {
+        if (value == null) {
+            store.remove(key);
+            return;
+        }
+        puts.increment();
+        store.put(key, new Entry(value, clock.millis()));
+    }
+
+    private long age(Entry entry) {
+        return clock.millis() - entry.writtenAt();
+    }
+
+    private void revalidate(Object key, Entry stale, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) return;
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    synchronized (store) {
+                        if (value == null) store.remove(key, stale);
+                        else store.replace(key, stale, new Entry(value, clock.millis()));
+                    }
+                } catch (Exception ex) {
+                    log.warn("Cache {}: erro ao revalidar a chave {} em segundo plano: {}", name, key, ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException ex) {
+            refreshing.remove(key);
+            log.warn("Cache {}: não foi possível agendar revalidação da chave {}: {}", name, key, ex.getMessage());
+        }
+    }
+
+    private static boolean isUpstreamFailure(Exception ex) {
+        return ex instanceof ResourceAccessException || ex instanceof HttpServerErrorException;
+    }
+}
@@ -23,6 +23,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins.split(","))
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "X-Catalog-Version")
                 .allowCredentials(false)
                 .maxAge(3600);
     }
@@ -34,6 +35,7 @@ public class CorsConfig implements WebMvcConfigurer {
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.addAllowedHeader("*");
+        configuration.setExposedHeaders(Arrays.asList("ETag", "X-Catalog-Version"));
         configuration.setAllowCredentials(false);
         configuration.setMaxAge(3600L);
 
@@ -39,10 +39,15 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/api/auth/update-password").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/auth/delete-account").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/jobs/for-me").hasRole("PREMIUM")
                         .requestMatchers(HttpMethod.GET, "/api/jobs").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/jobs/**").authenticated()
                         .requestMatchers("/api/skills").hasRole("PREMIUM")
                         .requestMatchers("/api/analysis").hasRole("PREMIUM")
+                        .requestMatchers("/api/saved-searches", "/api/saved-searches/**").authenticated()
                         .requestMatchers("/api/admin/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/metrics/**").authenticated()
                 )
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(authenticationEntryPoint)
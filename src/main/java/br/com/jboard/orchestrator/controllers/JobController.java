@@ -1,23 +1,175 @@
 package br.com.jboard.orchestrator.controllers;
 
-import br.com.jboard.orchestrator.models.dtos.JobResponseDTO;
+import br.com.jboard.orchestrator.catalog.JobEntry;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.models.dtos.JobChangesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobFacetsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.serialization.ExportFormat;
+import br.com.jboard.orchestrator.serialization.JobExportWriter;
+import br.com.jboard.orchestrator.serialization.JobJsonWriter;
+import br.com.jboard.orchestrator.serialization.JobProjection;
+import br.com.jboard.orchestrator.serialization.SerializedJobCatalog;
+import br.com.jboard.orchestrator.serialization.SerializedJobCatalog.SerializedJobs;
+import br.com.jboard.orchestrator.serialization.WireFormat;
+import br.com.jboard.orchestrator.services.JobChangesService;
+import br.com.jboard.orchestrator.services.JobFacetService;
+import br.com.jboard.orchestrator.services.JobRecommendationService;
 import br.com.jboard.orchestrator.services.JobService;
+import br.com.jboard.orchestrator.services.JobStreamService;
+import br.com.jboard.orchestrator.utils.AuthUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
+    static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+
     private final JobService jobService;
+    private final JobFacetService jobFacetService;
+    private final JobJsonWriter jobJsonWriter;
+    private final JobExportWriter jobExportWriter;
+    private final SerializedJobCatalog serializedJobCatalog;
+    private final JobChangesService jobChangesService;
+    private final JobRecommendationService jobRecommendationService;
+    private final JobStreamService jobStreamService;
+    private final AuthUtils authUtils;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, JobFacetService jobFacetService, JobJsonWriter jobJsonWriter,
+                         JobExportWriter jobExportWriter, SerializedJobCatalog serializedJobCatalog,
+                         JobChangesService jobChangesService, JobRecommendationService jobRecommendationService,
+                         JobStreamService jobStreamService, AuthUtils authUtils) {
         this.jobService = jobService;
+        this.jobFacetService = jobFacetService;
+        this.jobJsonWriter = jobJsonWriter;
+        this.jobExportWriter = jobExportWriter;
+        this.serializedJobCatalog = serializedJobCatalog;
+        this.jobChangesService = jobChangesService;
+        this.jobRecommendationService = jobRecommendationService;
+        this.jobStreamService = jobStreamService;
+        this.authUtils = authUtils;
     }
 
     @GetMapping
-    public ResponseEntity<JobResponseDTO> findAll() {
-        return ResponseEntity.ok(jobService.getJobs());
+    public void findAll(@Valid JobQueryDTO query, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        JobProjection projection = JobProjection.of(query.getFields());
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (query.isDefault() && format == WireFormat.JSON) {
+            Optional<SerializedJobs> serialized = serializedJobCatalog.current();
+            if (serialized.isPresent()) {
+                writeSerialized(serialized.get(), request, response);
+                return;
+            }
+        }
+
+        writePage(jobService.getJobs(query), projection, format, response);
+    }
+
+    @GetMapping("/for-me")
+    public void findForMe(@Valid JobQueryDTO query, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        JobProjection projection = JobProjection.of(query.getFields());
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String username = authUtils.getUsernameFromRequest(request);
+        writePage(jobRecommendationService.getJobsForUser(username, query), projection, format, response);
+    }
+
+    private void writePage(JobPage page, JobProjection projection, WireFormat format, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(CATALOG_VERSION_HEADER, String.valueOf(page.getVersion()));
+        jobJsonWriter.write(page, projection, format, response.getOutputStream());
+    }
+
+    private void writeSerialized(SerializedJobs serialized, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = SerializedJobCatalog.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? serialized.getGzipETag() : serialized.getIdentityETag();
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(CATALOG_VERSION_HEADER, String.valueOf(serialized.getVersion()));
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        byte[] body = gzip ? serialized.getGzip() : serialized.getIdentity();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    @GetMapping("/export")
+    public void export(@Valid JobQueryDTO query, @RequestParam(required = false) String format,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.resolve(format, request.getHeader(HttpHeaders.ACCEPT));
+        JobProjection projection = JobProjection.of(query.getFields());
+        JobPage page = jobService.getJobs(query);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobs-v" + page.getVersion()
+                + "." + exportFormat.getParam() + "\"");
+        response.setHeader(CATALOG_VERSION_HEADER, String.valueOf(page.getVersion()));
+        jobExportWriter.write(page, projection, exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/{id}")
+    public void findById(@PathVariable String id, @RequestParam(required = false) String fields,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        JobProjection projection = JobProjection.of(fields);
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        JobEntry entry = jobService.getJob(id);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(CATALOG_VERSION_HEADER, String.valueOf(entry.version()));
+        if (new ServletWebRequest(request, response).checkNotModified(format.etag(projection.etag(entry.etag())))) {
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format.getMediaType().toString());
+        jobJsonWriter.writeJob(entry.store(), entry.ordinal(), projection, format, response.getOutputStream());
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetsResponseDTO> findFacets(@Valid JobQueryDTO query) {
+        return ResponseEntity.ok(jobFacetService.getFacets(query));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<JobChangesResponseDTO> findChanges(@RequestParam long since) {
+        return ResponseEntity.ok(jobChangesService.getChanges(since));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@Valid JobQueryDTO query,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return jobStreamService.subscribe(query, lastEventId);
     }
 }
@@ -0,0 +1,32 @@
+package br.com.jboard.orchestrator.controllers;
+
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsHistoryResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsResponseDTO;
+import br.com.jboard.orchestrator.services.JobStatsService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs/stats")
+public class JobStatsController {
+    private final JobStatsService jobStatsService;
+
+    public JobStatsController(JobStatsService jobStatsService) {
+        this.jobStatsService = jobStatsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<JobStatsResponseDTO> getStats(@Valid JobQueryDTO query,
+                                                        @RequestParam(required = false) String groupBy,
+                                                        @RequestParam(required = false) String interval,
+                                                        @RequestParam(required = false) Integer top) {
+        return ResponseEntity.ok(jobStatsService.getStats(query, groupBy, interval, top));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<JobStatsHistoryResponseDTO> getHistory(@RequestParam(required = false) String groupBy) {
+        return ResponseEntity.ok(jobStatsService.getHistory(groupBy));
+    }
+}
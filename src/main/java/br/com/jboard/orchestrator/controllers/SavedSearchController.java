@@ -0,0 +1,50 @@
+package br.com.jboard.orchestrator.controllers;
+
+import br.com.jboard.orchestrator.models.dtos.SavedSearchDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchMatchesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchResponseDTO;
+import br.com.jboard.orchestrator.services.SavedSearchService;
+import br.com.jboard.orchestrator.utils.AuthUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+public class SavedSearchController {
+    private final SavedSearchService savedSearchService;
+    private final AuthUtils authUtils;
+
+    public SavedSearchController(SavedSearchService savedSearchService, AuthUtils authUtils) {
+        this.savedSearchService = savedSearchService;
+        this.authUtils = authUtils;
+    }
+
+    private String extractUsername(HttpServletRequest request) {
+        return authUtils.getUsernameFromRequest(request);
+    }
+
+    @GetMapping
+    public ResponseEntity<SavedSearchResponseDTO> getSavedSearches(HttpServletRequest request) {
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(extractUsername(request)));
+    }
+
+    @PostMapping
+    public ResponseEntity<SavedSearchDTO> createSavedSearch(@Valid @RequestBody SavedSearchDTO savedSearchDTO,
+                                                            HttpServletRequest request) {
+        return ResponseEntity.ok(savedSearchService.createSavedSearch(extractUsername(request), savedSearchDTO));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable String id, HttpServletRequest request) {
+        savedSearchService.deleteSavedSearch(extractUsername(request), id);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<SavedSearchMatchesResponseDTO> getMatches(@RequestParam(defaultValue = "0") long after,
+                                                                    HttpServletRequest request) {
+        return ResponseEntity.ok(savedSearchService.getMatches(extractUsername(request), after));
+    }
+}
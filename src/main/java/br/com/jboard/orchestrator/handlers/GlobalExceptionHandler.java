@@ -3,6 +3,7 @@ package br.com.jboard.orchestrator.handlers;
 import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
 import br.com.jboard.orchestrator.models.exceptions.ForbiddenException;
 import br.com.jboard.orchestrator.models.exceptions.InternalServerErrorException;
+import br.com.jboard.orchestrator.models.exceptions.NotFoundException;
 import br.com.jboard.orchestrator.models.exceptions.UnauthorizedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,10 +17,11 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
-    @ExceptionHandler({MethodArgumentNotValidException.class, BadRequestException.class})
+    @ExceptionHandler({MethodArgumentNotValidException.class, MethodArgumentTypeMismatchException.class, BadRequestException.class})
     public ResponseEntity<String> handleBadRequestExceptions() {
         return new ResponseEntity<>("Campos inválidos", HttpStatus.BAD_REQUEST);
     }
@@ -44,6 +46,11 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ex.getMessage() != null ? ex.getMessage() : "Acesso negado", HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<String> handleNotFoundException(NotFoundException ex) {
+        return new ResponseEntity<>(ex.getMessage() != null ? ex.getMessage() : "Não encontrado", HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<String> handleAccessDeniedException() {
         return new ResponseEntity<>("Acesso negado - permissões insuficientes", HttpStatus.FORBIDDEN);
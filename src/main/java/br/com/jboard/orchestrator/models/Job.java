@@ -1,8 +1,10 @@
 package br.com.jboard.orchestrator.models;
 
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
+@Setter
 public class Job {
     private String id;
     private String title;
@@ -18,5 +20,6 @@ public class Job {
     private String url;
     private String seniorityLevel;
     private String field;
+    private int duplicates;
 }
 
@@ -0,0 +1,11 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FacetValueDTO {
+    private String value;
+    private long count;
+}
@@ -0,0 +1,21 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class JobChangesResponseDTO {
+    private long since;
+    private long version;
+    private boolean fullResync;
+    private List<JobDTO> added;
+    private List<JobDTO> updated;
+    private List<String> removed;
+
+    public static JobChangesResponseDTO fullResync(long since, long version) {
+        return new JobChangesResponseDTO(since, version, true, List.of(), List.of(), List.of());
+    }
+}
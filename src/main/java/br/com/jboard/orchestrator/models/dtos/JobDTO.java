@@ -1,6 +1,7 @@
 package br.com.jboard.orchestrator.models.dtos;
 
 import br.com.jboard.orchestrator.models.Job;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.io.Serializable;
@@ -20,6 +21,8 @@ public class JobDTO implements Serializable {
     private String url;
     private String seniorityLevel;
     private String field;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private int duplicates;
 
     public JobDTO(Job job) {
         this.id = job.getId();
@@ -35,5 +38,6 @@ public class JobDTO implements Serializable {
         this.url = job.getUrl();
         this.seniorityLevel = job.getSeniorityLevel();
         this.field = job.getField();
+        this.duplicates = job.getDuplicates();
     }
 }
@@ -0,0 +1,14 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class JobFacetsResponseDTO {
+    private Map<String, List<FacetValueDTO>> facets;
+    private MetaDTO meta;
+}
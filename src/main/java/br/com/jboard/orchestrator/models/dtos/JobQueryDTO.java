@@ -0,0 +1,68 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class JobQueryDTO {
+    public static final int MAX_LIMIT = 500;
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_IDS = 100;
+    public static final long MAX_SALARY = 1_000_000_000L;
+
+    @Min(1)
+    @Max(MAX_LIMIT)
+    private Integer limit;
+    private String cursor;
+    private String sort;
+    private String order;
+
+    @Size(max = 200)
+    private String q;
+
+    private List<String> field;
+    private List<String> seniorityLevel;
+    private List<String> workplaceType;
+    private List<String> employmentType;
+    private List<String> company;
+    private Boolean brazilianFriendly;
+    private List<String> salaryCurrency;
+
+    @Min(0)
+    @Max(MAX_SALARY)
+    private Long minSalary;
+    @Min(0)
+    @Max(MAX_SALARY)
+    private Long maxSalary;
+    @Size(max = 10)
+    private String salaryPeriod;
+
+    @Size(max = 40)
+    private String postedWithin;
+    @Size(max = 40)
+    private String deadlineAfter;
+
+    @Size(max = MAX_IDS)
+    private List<String> ids;
+
+    @Size(max = 200)
+    private String fields;
+
+    public boolean isPaginated() {
+        return limit != null || cursor != null;
+    }
+
+    public boolean isDefault() {
+        return equals(new JobQueryDTO());
+    }
+
+    public boolean isSearch() {
+        return q != null && !q.isBlank();
+    }
+}
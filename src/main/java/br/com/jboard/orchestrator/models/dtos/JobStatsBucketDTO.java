@@ -0,0 +1,16 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobStatsBucketDTO {
+    private Map<String, String> group;
+    private String period;
+    private long count;
+}
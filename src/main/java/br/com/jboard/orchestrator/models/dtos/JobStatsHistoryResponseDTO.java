@@ -0,0 +1,15 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobStatsHistoryResponseDTO {
+    private String groupBy;
+    private List<JobStatsSampleDTO> samples;
+}
@@ -0,0 +1,18 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobStatsResponseDTO {
+    private long version;
+    private List<String> groupBy;
+    private String interval;
+    private List<JobStatsBucketDTO> buckets;
+    private MetaDTO meta;
+}
@@ -0,0 +1,15 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class JobStatsSampleDTO {
+    private long version;
+    private String sampledAt;
+    private long total;
+    private Map<String, Long> counts;
+}
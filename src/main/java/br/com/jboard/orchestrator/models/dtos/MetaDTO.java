@@ -1,10 +1,24 @@
 package br.com.jboard.orchestrator.models.dtos;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class MetaDTO {
     private long totalRecords;
+    private Integer pageSize;
+    private Boolean hasMore;
+    private String nextCursor;
+    private Boolean stale;
+
+    public MetaDTO(long totalRecords) {
+        this.totalRecords = totalRecords;
+    }
+
+    public MetaDTO(long totalRecords, Integer pageSize, Boolean hasMore, String nextCursor) {
+        this(totalRecords, pageSize, hasMore, nextCursor, null);
+    }
 }
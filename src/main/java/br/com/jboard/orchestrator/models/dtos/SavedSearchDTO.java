@@ -0,0 +1,64 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class SavedSearchDTO {
+    private String id;
+    private String createdAt;
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    @Size(max = 200)
+    private String q;
+
+    private List<String> field;
+    private List<String> seniorityLevel;
+    private List<String> workplaceType;
+    private List<String> employmentType;
+    private List<String> company;
+    private Boolean brazilianFriendly;
+    private List<String> salaryCurrency;
+
+    @Min(0)
+    @Max(JobQueryDTO.MAX_SALARY)
+    private Long minSalary;
+    @Min(0)
+    @Max(JobQueryDTO.MAX_SALARY)
+    private Long maxSalary;
+    @Size(max = 10)
+    private String salaryPeriod;
+
+    @Size(max = 40)
+    private String postedWithin;
+    @Size(max = 40)
+    private String deadlineAfter;
+
+    public JobQueryDTO toQuery() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setQ(q);
+        query.setField(field);
+        query.setSeniorityLevel(seniorityLevel);
+        query.setWorkplaceType(workplaceType);
+        query.setEmploymentType(employmentType);
+        query.setCompany(company);
+        query.setBrazilianFriendly(brazilianFriendly);
+        query.setSalaryCurrency(salaryCurrency);
+        query.setMinSalary(minSalary);
+        query.setMaxSalary(maxSalary);
+        query.setSalaryPeriod(salaryPeriod);
+        query.setPostedWithin(postedWithin);
+        query.setDeadlineAfter(deadlineAfter);
+        return query;
+    }
+}
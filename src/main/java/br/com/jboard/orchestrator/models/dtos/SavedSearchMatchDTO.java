@@ -0,0 +1,14 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SavedSearchMatchDTO {
+    private long id;
+    private String savedSearchId;
+    private String savedSearchName;
+    private long version;
+    private JobDTO job;
+}
@@ -0,0 +1,14 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SavedSearchMatchesResponseDTO {
+    private long after;
+    private long lastId;
+    private List<SavedSearchMatchDTO> matches;
+}
@@ -0,0 +1,13 @@
+package br.com.jboard.orchestrator.models.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SavedSearchResponseDTO {
+    private List<SavedSearchDTO> savedSearches;
+    private MetaDTO meta;
+}
@@ -0,0 +1,7 @@
+package br.com.jboard.orchestrator.models.exceptions;
+
+public class NotFoundException extends RuntimeException {
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
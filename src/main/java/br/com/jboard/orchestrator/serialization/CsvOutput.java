@@ -0,0 +1,104 @@
+package br.com.jboard.orchestrator.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+final class CsvOutput implements AutoCloseable {
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int length;
+    private boolean firstInRow = true;
+
+    CsvOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    void text(byte[] bytes, int offset, int count) throws IOException {
+        separate();
+        if (!needsQuoting(bytes, offset, count)) {
+            write(bytes, offset, count);
+            return;
+        }
+
+        write((byte) '"');
+        int from = offset;
+        for (int i = offset; i < offset + count; i++) {
+            if (bytes[i] != '"') continue;
+            write(bytes, from, i + 1 - from);
+            write((byte) '"');
+            from = i + 1;
+        }
+        write(bytes, from, offset + count - from);
+        write((byte) '"');
+    }
+
+    void string(String value) throws IOException {
+        if (value == null) {
+            empty();
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        text(bytes, 0, bytes.length);
+    }
+
+    void number(long value) throws IOException {
+        separate();
+        byte[] bytes = Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+        write(bytes, 0, bytes.length);
+    }
+
+    void empty() throws IOException {
+        separate();
+    }
+
+    void endRow() throws IOException {
+        write(CRLF, 0, CRLF.length);
+        firstInRow = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void separate() throws IOException {
+        if (!firstInRow) write((byte) ',');
+        firstInRow = false;
+    }
+
+    private static boolean needsQuoting(byte[] bytes, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            byte value = bytes[i];
+            if (value == ',' || value == '"' || value == '\n' || value == '\r') return true;
+        }
+        return false;
+    }
+
+    private void write(byte value) throws IOException {
+        if (length == buffer.length) flushBuffer();
+        buffer[length++] = value;
+    }
+
+    private void write(byte[] bytes, int offset, int count) throws IOException {
+        if (count > buffer.length - length) {
+            flushBuffer();
+            if (count > buffer.length) {
+                out.write(bytes, offset, count);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, length, count);
+        length += count;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (length == 0) return;
+        out.write(buffer, 0, length);
+        length = 0;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.Getter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Getter
+public enum ExportFormat {
+    NDJSON("ndjson", new MediaType("application", "x-ndjson", StandardCharsets.UTF_8)),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String param;
+    private final MediaType mediaType;
+
+    ExportFormat(String param, MediaType mediaType) {
+        this.param = param;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat resolve(String format, String accept) {
+        if (format != null) return fromParam(format.trim());
+        if (accept == null || accept.isBlank()) return NDJSON;
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return NDJSON;
+        }
+
+        ExportFormat best = NDJSON;
+        double bestQuality = 0;
+        for (MediaType mediaType : accepted) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= bestQuality) continue;
+            for (ExportFormat candidate : values()) {
+                if (mediaType.includes(candidate.mediaType)) {
+                    best = candidate;
+                    bestQuality = quality;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    public static ExportFormat fromParam(String param) {
+        for (ExportFormat format : values()) {
+            if (format.param.equalsIgnoreCase(param)) return format;
+        }
+        throw new BadRequestException("Formato inválido");
+    }
+}
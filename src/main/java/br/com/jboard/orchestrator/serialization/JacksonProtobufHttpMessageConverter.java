@@ -0,0 +1,41 @@
+package br.com.jboard.orchestrator.serialization;
+
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+public class JacksonProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    private final ProtobufMapper mapper = new ProtobufMapper();
+
+    public JacksonProtobufHttpMessageConverter() {
+        super(WireFormat.PROTOBUF.getMediaType());
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProtobufSchemas.forType(clazz) != null;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        ProtobufSchema schema = ProtobufSchemas.forType(value.getClass());
+        mapper.writer(schema).writeValue(StreamUtils.nonClosing(outputMessage.getBody()), value);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Component
+public class JobExportWriter {
+    private static final int CSV_BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public JobExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public long write(JobPage page, JobProjection projection, ExportFormat format, OutputStream out)
+            throws IOException {
+        return format == ExportFormat.CSV ? writeCsv(page, projection, out) : writeNdjson(page, projection, out);
+    }
+
+    private long writeNdjson(JobPage page, JobProjection projection, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            JobStore store = page.getStore();
+            JobPage.JobIterator ordinals = page.iterator();
+            while (ordinals.hasNext()) {
+                projection.write(generator, store, ordinals.nextOrdinal());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(JobPage page, JobProjection projection, OutputStream out) throws IOException {
+        long count = 0;
+        try (CsvOutput csv = new CsvOutput(out, CSV_BUFFER_SIZE)) {
+            projection.writeCsvHeader(csv);
+            JobStore store = page.getStore();
+            JobPage.JobIterator ordinals = page.iterator();
+            while (ordinals.hasNext()) {
+                projection.writeCsv(csv, store, ordinals.nextOrdinal());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.IsBrazilianFriendly;
+import br.com.jboard.orchestrator.models.Job;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Component
+public class JobJsonReader {
+    private final ObjectMapper objectMapper;
+
+    public JobJsonReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public JobStore read(InputStream in) throws IOException {
+        JobStore.Builder jobs = new JobStore.Builder();
+        if (in == null) return jobs.build();
+
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) return jobs.build();
+            if (token != JsonToken.START_ARRAY) {
+                throw MismatchedInputException.from(parser, List.class, "Expected array of jobs but found " + token);
+            }
+
+            StringPool pool = new StringPool();
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    jobs.add(readJob(parser, pool));
+                } else if (token != JsonToken.VALUE_NULL) {
+                    throw MismatchedInputException.from(parser, Job.class, "Expected job object but found " + token);
+                }
+            }
+        }
+        return jobs.build();
+    }
+
+    private Job readJob(JsonParser parser, StringPool pool) throws IOException {
+        Job job = new Job();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "id" -> job.setId(text(parser, token));
+                case "title" -> job.setTitle(text(parser, token));
+                case "updatedAt" -> job.setUpdatedAt(pooled(parser, token, pool));
+                case "employmentType" -> job.setEmploymentType(pooled(parser, token, pool));
+                case "publishedDate" -> job.setPublishedDate(pooled(parser, token, pool));
+                case "applicationDeadline" -> job.setApplicationDeadline(pooled(parser, token, pool));
+                case "compensationTierSummary" -> job.setCompensationTierSummary(pooled(parser, token, pool));
+                case "workplaceType" -> job.setWorkplaceType(pooled(parser, token, pool));
+                case "officeLocation" -> job.setOfficeLocation(pooled(parser, token, pool));
+                case "isBrazilianFriendly" -> job.setIsBrazilianFriendly(readBrazilianFriendly(parser, token, pool));
+                case "company" -> job.setCompany(pooled(parser, token, pool));
+                case "url" -> job.setUrl(text(parser, token));
+                case "seniorityLevel" -> job.setSeniorityLevel(pooled(parser, token, pool));
+                case "field" -> job.setField(pooled(parser, token, pool));
+                default -> parser.skipChildren();
+            }
+        }
+        return job;
+    }
+
+    private IsBrazilianFriendly readBrazilianFriendly(JsonParser parser, JsonToken token, StringPool pool) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        IsBrazilianFriendly friendly = new IsBrazilianFriendly();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken valueToken = parser.nextToken();
+            switch (name) {
+                case "friendly", "isFriendly" -> friendly.setFriendly(valueToken.isScalarValue() && parser.getValueAsBoolean());
+                case "reason" -> friendly.setReason(pooled(parser, valueToken, pool));
+                default -> parser.skipChildren();
+            }
+        }
+        return friendly;
+    }
+
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private static String pooled(JsonParser parser, JsonToken token, StringPool pool) throws IOException {
+        if (token != JsonToken.VALUE_STRING) return text(parser, token);
+        return pool.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+}
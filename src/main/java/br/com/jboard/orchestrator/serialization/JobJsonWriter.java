@@ -0,0 +1,73 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class JobJsonWriter {
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public JobJsonWriter(ObjectMapper objectMapper) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(WireFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+        mappers.put(WireFormat.PROTOBUF, new ProtobufMapper());
+    }
+
+    public void write(JobPage page, OutputStream out) throws IOException {
+        write(page, JobProjection.ALL, out);
+    }
+
+    public void write(JobPage page, JobProjection projection, OutputStream out) throws IOException {
+        write(page, projection, WireFormat.JSON, out);
+    }
+
+    public void write(JobPage page, JobProjection projection, WireFormat format, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(format, ProtobufSchemas.JOB_RESPONSE, out)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("data");
+            JobStore store = page.getStore();
+            JobPage.JobIterator ordinals = page.iterator();
+            while (ordinals.hasNext()) {
+                projection.write(generator, store, ordinals.nextOrdinal());
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectField("meta", page.getMeta());
+            generator.writeEndObject();
+        }
+    }
+
+    public void writeJob(JobStore store, int ordinal, JobProjection projection, OutputStream out) throws IOException {
+        writeJob(store, ordinal, projection, WireFormat.JSON, out);
+    }
+
+    public void writeJob(JobStore store, int ordinal, JobProjection projection, WireFormat format, OutputStream out)
+            throws IOException {
+        try (JsonGenerator generator = createGenerator(format, ProtobufSchemas.JOB, out)) {
+            projection.write(generator, store, ordinal);
+        }
+    }
+
+    private JsonGenerator createGenerator(WireFormat format, ProtobufSchema schema, OutputStream out)
+            throws IOException {
+        JsonGenerator generator = mappers.get(format).createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (format == WireFormat.PROTOBUF) generator.setSchema(schema);
+        return generator;
+    }
+}
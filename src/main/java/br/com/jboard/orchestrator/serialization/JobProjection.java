@@ -0,0 +1,165 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.catalog.TextColumn;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class JobProjection {
+    private static final Field[] FIELDS = {
+            text("id", JobStore::getIds),
+            text("title", JobStore::getTitles),
+            string("updatedAt", JobStore::updatedAt),
+            string("employmentType", JobStore::employmentType),
+            string("publishedDate", JobStore::publishedDate),
+            string("applicationDeadline", JobStore::applicationDeadline),
+            string("compensationTierSummary", JobStore::compensationTierSummary),
+            string("workplaceType", JobStore::workplaceType),
+            string("officeLocation", JobStore::officeLocation),
+            string("company", JobStore::company),
+            text("url", JobStore::getUrls),
+            string("seniorityLevel", JobStore::seniorityLevel),
+            string("field", JobStore::field),
+            count("duplicates", JobStore::duplicates)
+    };
+    private static final int ALL_MASK = (1 << FIELDS.length) - 1;
+    private static final Map<Integer, JobProjection> COMPILED = new ConcurrentHashMap<>();
+
+    public static final JobProjection ALL = compiled(ALL_MASK);
+
+    private final int mask;
+    private final Field[] fields;
+
+    private JobProjection(int mask) {
+        this.mask = mask;
+        List<Field> selected = new ArrayList<>();
+        for (int i = 0; i < FIELDS.length; i++) {
+            if ((mask & (1 << i)) != 0) selected.add(FIELDS[i]);
+        }
+        this.fields = selected.toArray(Field[]::new);
+    }
+
+    public static JobProjection of(String fields) {
+        if (fields == null || fields.isBlank()) return ALL;
+
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) continue;
+            mask |= 1 << indexOf(trimmed);
+        }
+        return mask == 0 ? ALL : compiled(mask);
+    }
+
+    private static JobProjection compiled(int mask) {
+        return COMPILED.computeIfAbsent(mask, JobProjection::new);
+    }
+
+    private static int indexOf(String name) {
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (FIELDS[i].name.getValue().equals(name)) return i;
+        }
+        throw new BadRequestException("Campos inválidos em fields");
+    }
+
+    public boolean isAll() {
+        return mask == ALL_MASK;
+    }
+
+    public String etag(String etag) {
+        if (isAll()) return etag;
+        return etag.substring(0, etag.length() - 1) + "-f" + Integer.toHexString(mask) + "\"";
+    }
+
+    void writeCsvHeader(CsvOutput out) throws IOException {
+        for (Field field : fields) {
+            out.string(field.name.getValue());
+        }
+        out.endRow();
+    }
+
+    void writeCsv(CsvOutput out, JobStore store, int ordinal) throws IOException {
+        for (Field field : fields) {
+            field.csvWriter.write(out, store, ordinal);
+        }
+        out.endRow();
+    }
+
+    void write(JsonGenerator generator, JobStore store, int ordinal) throws IOException {
+        generator.writeStartObject();
+        for (Field field : fields) {
+            field.writer.write(generator, field.name, store, ordinal);
+        }
+        generator.writeEndObject();
+    }
+
+    private static Field text(String name, Function<JobStore, TextColumn> column) {
+        return new Field(name, (generator, fieldName, store, ordinal) -> {
+            TextColumn values = column.apply(store);
+            generator.writeFieldName(fieldName);
+            if (values.isNull(ordinal)) {
+                generator.writeNull();
+            } else {
+                generator.writeUTF8String(values.bytes(), values.offset(ordinal), values.length(ordinal));
+            }
+        }, (out, store, ordinal) -> {
+            TextColumn values = column.apply(store);
+            if (values.isNull(ordinal)) {
+                out.empty();
+            } else {
+                out.text(values.bytes(), values.offset(ordinal), values.length(ordinal));
+            }
+        });
+    }
+
+    private static Field string(String name, StringColumn column) {
+        return new Field(name, (generator, fieldName, store, ordinal) -> {
+            generator.writeFieldName(fieldName);
+            generator.writeString(column.get(store, ordinal));
+        }, (out, store, ordinal) -> out.string(column.get(store, ordinal)));
+    }
+
+    private static Field count(String name, IntColumn column) {
+        return new Field(name, (generator, fieldName, store, ordinal) -> {
+            int value = column.get(store, ordinal);
+            if (value == 0) return;
+            generator.writeFieldName(fieldName);
+            generator.writeNumber(value);
+        }, (out, store, ordinal) -> out.number(column.get(store, ordinal)));
+    }
+
+    private record Field(SerializableString name, FieldWriter writer, CsvFieldWriter csvWriter) {
+        private Field(String name, FieldWriter writer, CsvFieldWriter csvWriter) {
+            this(new SerializedString(name), writer, csvWriter);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StringColumn {
+        String get(JobStore store, int ordinal);
+    }
+
+    @FunctionalInterface
+    private interface IntColumn {
+        int get(JobStore store, int ordinal);
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(JsonGenerator generator, SerializableString name, JobStore store, int ordinal) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface CsvFieldWriter {
+        void write(CsvOutput out, JobStore store, int ordinal) throws IOException;
+    }
+}
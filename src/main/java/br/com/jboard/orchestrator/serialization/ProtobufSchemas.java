@@ -0,0 +1,42 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.models.AnalysisResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.SkillResponseDTO;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+public final class ProtobufSchemas {
+    private static final String LOCATION = "proto/jboard.proto";
+
+    public static final ProtobufSchema JOB = load("Job");
+    public static final ProtobufSchema JOB_RESPONSE = load("JobResponse");
+    public static final ProtobufSchema SKILL_RESPONSE = load("SkillResponse");
+    public static final ProtobufSchema ANALYSIS_RESPONSE = load("AnalysisResponse");
+
+    private static final Map<Class<?>, ProtobufSchema> RESPONSES = Map.of(
+            JobResponseDTO.class, JOB_RESPONSE,
+            SkillResponseDTO.class, SKILL_RESPONSE,
+            AnalysisResponseDTO.class, ANALYSIS_RESPONSE);
+
+    private ProtobufSchemas() {
+    }
+
+    public static ProtobufSchema forType(Class<?> type) {
+        return RESPONSES.get(type);
+    }
+
+    private static ProtobufSchema load(String rootType) {
+        try (InputStream in = ProtobufSchemas.class.getClassLoader().getResourceAsStream(LOCATION)) {
+            if (in == null) throw new IOException("Missing protobuf schema " + LOCATION);
+            return ProtobufSchemaLoader.std.load(in, rootType);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
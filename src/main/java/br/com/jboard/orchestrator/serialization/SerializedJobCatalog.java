@@ -0,0 +1,129 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Component
+public class SerializedJobCatalog {
+    private final JobCatalog jobCatalog;
+    private final JobJsonWriter jobJsonWriter;
+
+    private volatile SerializedJobs current;
+
+    public SerializedJobCatalog(JobCatalog jobCatalog, JobJsonWriter jobJsonWriter) {
+        this.jobCatalog = jobCatalog;
+        this.jobJsonWriter = jobJsonWriter;
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        JobSnapshot snapshot = event.current();
+        try {
+            long start = System.nanoTime();
+            current = serialize(snapshot);
+            log.info("Catálogo de vagas versão {} serializado em {} ms ({} bytes, {} bytes gzip)",
+                    snapshot.getVersion(), (System.nanoTime() - start) / 1_000_000,
+                    current.getIdentity().length, current.getGzip().length);
+        } catch (IOException ex) {
+            log.error("Erro ao serializar catálogo de vagas versão {}: {}", snapshot.getVersion(), ex.getMessage());
+            current = null;
+        }
+    }
+
+    public Optional<SerializedJobs> current() {
+        if (jobCatalog.isStale()) return Optional.empty();
+        long version = jobCatalog.getSnapshot().getVersion();
+        SerializedJobs serialized = current;
+        return serialized != null && serialized.getVersion() == version ? Optional.of(serialized) : Optional.empty();
+    }
+
+    private SerializedJobs serialize(JobSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream identity = new ByteArrayOutputStream();
+        jobJsonWriter.write(JobPage.live(snapshot), identity);
+        byte[] identityBytes = identity.toByteArray();
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream(Math.max(32, identityBytes.length / 8));
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(identityBytes);
+        }
+
+        String hash = sha256(identityBytes);
+        return new SerializedJobs(snapshot.getVersion(), identityBytes, gzip.toByteArray(), hash);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new UncheckedIOException(new IOException(ex));
+        }
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip")) {
+                gzipQuality = quality(tokens);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality(tokens);
+            }
+        }
+
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+
+    @Getter
+    public static final class SerializedJobs {
+        private final long version;
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final String identityETag;
+        private final String gzipETag;
+
+        private SerializedJobs(long version, byte[] identity, byte[] gzip, String hash) {
+            this.version = version;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.identityETag = "\"" + hash + "\"";
+            this.gzipETag = "\"" + hash + "-gzip\"";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.jboard.orchestrator.serialization;
+
+final class StringPool {
+    private static final int MAX_ENTRIES = 1 << 16;
+
+    private String[] table = new String[256];
+    private int size;
+
+    String intern(char[] chars, int offset, int length) {
+        int hash = hash(chars, offset, length);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+
+        String candidate;
+        while ((candidate = table[slot]) != null) {
+            if (candidate.hashCode() == hash && matches(candidate, chars, offset, length)) return candidate;
+            slot = (slot + 1) & mask;
+        }
+
+        String value = new String(chars, offset, length);
+        if (size < MAX_ENTRIES) {
+            table[slot] = value;
+            if (++size * 2 > table.length) resize();
+        }
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        String[] previous = table;
+        table = new String[previous.length * 2];
+        int mask = table.length - 1;
+        for (String value : previous) {
+            if (value == null) continue;
+            int slot = value.hashCode() & mask;
+            while (table[slot] != null) slot = (slot + 1) & mask;
+            table[slot] = value;
+        }
+    }
+
+    private static int hash(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        return hash;
+    }
+
+    private static boolean matches(String candidate, char[] chars, int offset, int length) {
+        if (candidate.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+}
@@ -15,10 +15,15 @@ import org.springframework.stereotype.Service;
 public class AuthenticationService {
     private final UserClient userClient;
     private final SkillService skillService;
+    private final SavedSearchService savedSearchService;
+    private final AuthorizationService authorizationService;
 
-    public AuthenticationService(UserClient userClient, SkillService skillService){
+    public AuthenticationService(UserClient userClient, SkillService skillService,
+                                 SavedSearchService savedSearchService, AuthorizationService authorizationService){
         this.userClient = userClient;
         this.skillService = skillService;
+        this.savedSearchService = savedSearchService;
+        this.authorizationService = authorizationService;
     }
 
     public void registerUser(RegisterDTO data)  {
@@ -42,6 +47,7 @@ public class AuthenticationService {
 
         if (!passwordEncoder.matches(data.getNewPassword(), oldUser.getPassword())) {
             userClient.updateUser(updatedUser);
+            authorizationService.evictUser(username);
         }
         log.info("Senha do usuário: {} alterada com sucesso", username);
     }
@@ -53,10 +59,14 @@ public class AuthenticationService {
             log.info("Deletando todas as skills do usuário: {}", username);
             skillService.deleteAllSkills(username);
 
+            log.info("Deletando todas as buscas salvas do usuário: {}", username);
+            savedSearchService.deleteAll(username);
+
             log.info("Deletando conta do usuário: {}", username);
             userClient.deleteAccount(username);
+            authorizationService.evictUser(username);
 
-            log.info("Conta do usuário: {} deletada com sucesso (incluindo todas as skills)", username);
+            log.info("Conta do usuário: {} deletada com sucesso (incluindo skills e buscas salvas)", username);
         } catch (Exception ex) {
             log.error("Erro ao deletar conta do usuário {}: {}", username, ex.getMessage());
             throw ex;
@@ -1,21 +1,37 @@
 package br.com.jboard.orchestrator.services;
 
 import br.com.jboard.orchestrator.clients.UserClient;
+import br.com.jboard.orchestrator.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 @Service
 public class AuthorizationService implements UserDetailsService {
     private final UserClient userClient;
+    private final CacheManager cacheManager;
 
-    public AuthorizationService(UserClient userClient){
+    public AuthorizationService(UserClient userClient, CacheManager cacheManager){
         this.userClient = userClient;
+        this.cacheManager = cacheManager;
+    }
+
+    private Cache userCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.USERS));
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userClient.getUserByUsername(username);
+        if (username == null) return userClient.getUserByUsername(null);
+        return userCache().get(username, () -> userClient.getUserByUsername(username));
+    }
+
+    public void evictUser(String username) {
+        userCache().evict(username);
     }
 }
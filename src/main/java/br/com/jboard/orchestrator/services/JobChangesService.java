@@ -0,0 +1,121 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogDiff;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobChangesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class JobChangesService {
+    private final JobCatalog jobCatalog;
+    private final int historySize;
+
+    private volatile History history;
+
+    public JobChangesService(JobCatalog jobCatalog, @Value("${app.jobs.changes.history-size:1440}") int historySize) {
+        this.jobCatalog = jobCatalog;
+        this.historySize = Math.max(1, historySize);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        JobSnapshot current = event.current();
+        History previousHistory = history;
+        if (event.previous() == null || previousHistory == null || previousHistory.version() != event.previous().getVersion()) {
+            history = new History(current.getVersion(), List.of());
+            return;
+        }
+
+        JobCatalogDiff diff = event.diff();
+        log.info("Versão {} do catálogo: {} vagas adicionadas, {} atualizadas, {} removidas",
+                current.getVersion(), diff.added().size(), diff.updated().size(), diff.removed().size());
+
+        List<JobCatalogDiff> diffs = previousHistory.diffs();
+        int from = Math.max(0, diffs.size() + 1 - historySize);
+        List<JobCatalogDiff> next = new ArrayList<>(diffs.subList(from, diffs.size()));
+        next.add(diff);
+        history = new History(current.getVersion(), List.copyOf(next));
+    }
+
+    public JobChangesResponseDTO getChanges(long since) {
+        log.info("Pegando alterações de vagas desde a versão {}", since);
+        History current = currentHistory();
+
+        if (since == current.version()) {
+            return new JobChangesResponseDTO(since, current.version(), false, List.of(), List.of(), List.of());
+        }
+
+        long oldest = current.diffs().isEmpty() ? current.version() : current.diffs().get(0).fromVersion();
+        if (since < oldest || since > current.version()) {
+            log.info("Versão {} fora do histórico ({} a {}), sinalizando ressincronização completa",
+                    since, oldest, current.version());
+            return JobChangesResponseDTO.fullResync(since, current.version());
+        }
+
+        return merge(since, current, current.diffs().subList((int) (since - oldest), current.diffs().size()));
+    }
+
+    private History currentHistory() {
+        History current = history;
+        if (current != null) return current;
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        current = history;
+        return current != null ? current : new History(snapshot.getVersion(), List.of());
+    }
+
+    private JobChangesResponseDTO merge(long since, History current, List<JobCatalogDiff> diffs) {
+        Map<String, Change> changes = new LinkedHashMap<>();
+        for (JobCatalogDiff diff : diffs) {
+            for (Job job : diff.added()) {
+                changes.computeIfAbsent(job.getId(), id -> new Change(false)).latest = job;
+            }
+            for (Job job : diff.updated()) {
+                changes.computeIfAbsent(job.getId(), id -> new Change(true)).latest = job;
+            }
+            for (String id : diff.removed()) {
+                changes.computeIfAbsent(id, key -> new Change(true)).latest = null;
+            }
+        }
+
+        List<JobDTO> added = new ArrayList<>();
+        List<JobDTO> updated = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        changes.forEach((id, change) -> {
+            if (change.latest == null) {
+                if (change.existedBefore) removed.add(id);
+            } else if (change.existedBefore) {
+                updated.add(new JobDTO(change.latest));
+            } else {
+                added.add(new JobDTO(change.latest));
+            }
+        });
+
+        return new JobChangesResponseDTO(since, current.version(), false, added, updated, removed);
+    }
+
+    private record History(long version, List<JobCatalogDiff> diffs) {
+    }
+
+    private static final class Change {
+        private final boolean existedBefore;
+        private Job latest;
+
+        private Change(boolean existedBefore) {
+            this.existedBefore = existedBefore;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobFacet;
+import br.com.jboard.orchestrator.catalog.JobFacetIndex;
+import br.com.jboard.orchestrator.catalog.JobFilter;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.dtos.FacetValueDTO;
+import br.com.jboard.orchestrator.models.dtos.JobFacetsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+@Slf4j
+@Service
+public class JobFacetService {
+    static final String CACHE_NAME = "jobFacets";
+
+    private static final Comparator<FacetValueDTO> BY_COUNT_DESC = Comparator
+            .comparingLong(FacetValueDTO::getCount).reversed()
+            .thenComparing(FacetValueDTO::getValue);
+
+    private final JobCatalog jobCatalog;
+    private final CacheManager cacheManager;
+
+    public JobFacetService(JobCatalog jobCatalog, CacheManager cacheManager) {
+        this.jobCatalog = jobCatalog;
+        this.cacheManager = cacheManager;
+    }
+
+    private Cache facetCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    private JobFacetsResponseDTO buildFacetsResponseDTO(JobSnapshot snapshot, JobFilter filter, String search,
+                                                        SortedSet<String> ids) {
+        log.info("Cache miss - Calculando contagem de facetas para o filtro {} na versão {}", filter, snapshot.getVersion());
+        JobFacetIndex facetIndex = snapshot.getFacetIndex();
+        RoaringBitmap matches = snapshot.matching(filter);
+        if (ids != null) matches = RoaringBitmap.and(matches, resolveIds(snapshot, ids));
+        if (search != null) matches = snapshot.search(search, matches).toBitmap();
+        Map<JobFacet, int[]> counts = facetIndex.count(matches);
+
+        Map<String, List<FacetValueDTO>> facets = new LinkedHashMap<>();
+        counts.forEach((facet, facetCounts) -> {
+            List<FacetValueDTO> values = new ArrayList<>();
+            for (int code = 0; code < facetCounts.length; code++) {
+                if (facetCounts[code] > 0) values.add(new FacetValueDTO(facetIndex.label(facet, code), facetCounts[code]));
+            }
+            values.sort(BY_COUNT_DESC);
+            facets.put(facet.getParam(), values);
+        });
+
+        return new JobFacetsResponseDTO(facets, new MetaDTO(matches.getCardinality()));
+    }
+
+    public JobFacetsResponseDTO getFacets(JobQueryDTO query) {
+        log.info("Pegando contagem de facetas com os parâmetros {}", query);
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        JobFilter filter = JobFilter.from(query);
+        String search = query.isSearch() ? query.getQ().trim() : null;
+        SortedSet<String> ids = normalizeIds(query.getIds());
+        String key = snapshot.getVersion() + "|" + filter + "|" + search + "|" + ids;
+
+        return facetCache().get(key, () -> buildFacetsResponseDTO(snapshot, filter, search, ids));
+    }
+
+    private static SortedSet<String> normalizeIds(List<String> ids) {
+        if (ids == null) return null;
+        SortedSet<String> normalized = new TreeSet<>();
+        for (String id : ids) {
+            if (id != null) normalized.add(id.trim());
+        }
+        return normalized;
+    }
+
+    private static RoaringBitmap resolveIds(JobSnapshot snapshot, SortedSet<String> ids) {
+        RoaringBitmap ordinals = new RoaringBitmap();
+        for (String id : ids) {
+            int ordinal = snapshot.ordinalOf(id);
+            if (ordinal >= 0) ordinals.add(ordinal);
+        }
+        return ordinals;
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        log.info("Invalidando cache de facetas após atualização do catálogo para a versão {}", event.current().getVersion());
+        facetCache().clear();
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobCursor;
+import br.com.jboard.orchestrator.catalog.JobFilter;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobSearchResult;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.catalog.JobSortKey;
+import br.com.jboard.orchestrator.catalog.JobTextAnalyzer;
+import br.com.jboard.orchestrator.catalog.SortDirection;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+@Slf4j
+@Service
+public class JobRecommendationService {
+    static final String CACHE_NAME = "jobRecommendations";
+
+    private final JobCatalog jobCatalog;
+    private final SkillService skillService;
+    private final CacheManager cacheManager;
+
+    public JobRecommendationService(JobCatalog jobCatalog, SkillService skillService, CacheManager cacheManager) {
+        this.jobCatalog = jobCatalog;
+        this.skillService = skillService;
+        this.cacheManager = cacheManager;
+    }
+
+    record RecommendationKey(long version, int limit, JobFilter filter, SortedSet<String> skills, float afterScore,
+                             int afterOrdinal) {
+    }
+
+    private Cache recommendationCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    private static SortedSet<String> normalizeSkills(List<String> skills) {
+        SortedSet<String> normalized = new TreeSet<>();
+        for (String skill : skills) {
+            String folded = JobTextAnalyzer.fold(skill).trim();
+            if (!folded.isEmpty()) normalized.add(folded);
+        }
+        return Collections.unmodifiableSortedSet(normalized);
+    }
+
+    private JobSearchResult rank(JobSnapshot snapshot, RecommendationKey key) {
+        log.info("Cache miss - Calculando vagas recomendadas para {} habilidades na versão {}",
+                key.skills().size(), snapshot.getVersion());
+        return snapshot.getSkillIndex().rank(key.skills(), snapshot.matching(key.filter()), key.limit() + 1,
+                key.afterScore(), key.afterOrdinal());
+    }
+
+    public JobPage getJobsForUser(String username, JobQueryDTO query) {
+        log.info("Pegando vagas recomendadas para o usuário {} com os parâmetros {}", username, query);
+        if ((query.getSort() != null && JobSortKey.fromParam(query.getSort()) != JobSortKey.RELEVANCE)
+                || (query.getOrder() != null && SortDirection.fromParam(query.getOrder()) != SortDirection.DESC)) {
+            throw new BadRequestException("Vagas recomendadas só podem ser ordenadas por relevância");
+        }
+        JobCursor cursor = query.getCursor() == null ? null : JobCursor.decode(query.getCursor());
+        if (cursor != null && cursor.sortKey() != JobSortKey.RELEVANCE) {
+            throw new BadRequestException("Cursor não corresponde à ordenação solicitada");
+        }
+
+        SortedSet<String> skills = normalizeSkills(skillService.getAllSkills(username).getSkills());
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        int limit = query.getLimit() == null ? JobQueryDTO.DEFAULT_LIMIT : query.getLimit();
+        float afterScore = cursor == null ? Float.POSITIVE_INFINITY : parseScore(cursor);
+        int afterOrdinal = cursor == null ? -1 : snapshot.ordinalOf(cursor.id());
+
+        RecommendationKey key = new RecommendationKey(snapshot.getVersion(), limit, JobFilter.from(query), skills,
+                afterScore, afterOrdinal);
+        JobSearchResult result = skills.isEmpty()
+                ? snapshot.getSkillIndex().rank(skills, snapshot.getLive(), limit + 1, afterScore, afterOrdinal)
+                : recommendationCache().get(key, () -> rank(snapshot, key));
+
+        int count = Math.min(limit, result.size());
+        int[] ordinals = new int[count];
+        for (int position = 0; position < count; position++) ordinals[position] = result.ordinal(position);
+        boolean hasMore = result.size() > count;
+        String nextCursor = null;
+        if (hasMore && count > 0) {
+            nextCursor = new JobCursor(JobSortKey.RELEVANCE, SortDirection.DESC, Float.toString(result.score(count - 1)),
+                    snapshot.getStore().id(ordinals[count - 1])).encode();
+        }
+        MetaDTO meta = new MetaDTO(result.total(), count, hasMore, nextCursor);
+        if (jobCatalog.isStale()) meta.setStale(true);
+        return JobPage.ofOrdinals(snapshot.getStore(), ordinals, meta).withVersion(snapshot.getVersion());
+    }
+
+    private static float parseScore(JobCursor cursor) {
+        try {
+            return Float.parseFloat(cursor.value());
+        } catch (NullPointerException | NumberFormatException ex) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        log.info("Invalidando cache de recomendações após atualização do catálogo para a versão {}", event.current().getVersion());
+        recommendationCache().clear();
+    }
+}
@@ -1,39 +1,194 @@
 package br.com.jboard.orchestrator.services;
 
-import br.com.jboard.orchestrator.clients.JobClient;
-import br.com.jboard.orchestrator.models.Job;
-import br.com.jboard.orchestrator.models.dtos.JobDTO;
-import br.com.jboard.orchestrator.models.dtos.JobResponseDTO;
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCursor;
+import br.com.jboard.orchestrator.catalog.JobEntry;
+import br.com.jboard.orchestrator.catalog.JobFilter;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobSearchResult;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.catalog.JobSortKey;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.catalog.SortDirection;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
 import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import br.com.jboard.orchestrator.models.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
 @Service
 public class JobService {
-    JobClient jobClient;
+    JobCatalog jobCatalog;
 
-    public JobService(JobClient jobClient) {
-        this.jobClient = jobClient;
+    public JobService(JobCatalog jobCatalog) {
+        this.jobCatalog = jobCatalog;
     }
 
-    private JobResponseDTO buildJobResponseDTO(List<Job> jobList) {
-        return new JobResponseDTO(jobList.stream().map(JobDTO::new).toList(), buildMeta(jobList));
-    }
+    private JobPage buildRankedJobPage(JobSnapshot snapshot, JobQueryDTO query, JobSearchResult result) {
+        JobCursor cursor = query.getCursor() == null ? null : JobCursor.decode(query.getCursor());
+        if (cursor != null && cursor.sortKey() != JobSortKey.RELEVANCE) {
+            throw new BadRequestException("Cursor não corresponde à ordenação solicitada");
+        }
+
+        JobStore store = snapshot.getStore();
+        int total = result.size();
+        int start = cursor == null ? 0 : result.positionAfter(parseScore(cursor), cursor.id(), store::id);
+        int end = (int) Math.min(total, (long) start + resolveLimit(query, total));
 
-    private MetaDTO buildMeta(List<Job> jobList) {
-        return new MetaDTO(jobList.size());
+        int[] ordinals = new int[Math.max(0, end - start)];
+        for (int position = start; position < end; position++) {
+            ordinals[position - start] = result.ordinal(position);
+        }
+
+        if (!query.isPaginated()) {
+            return JobPage.ofOrdinals(store, ordinals, new MetaDTO(total));
+        }
+
+        boolean hasMore = end < total;
+        String nextCursor = null;
+        if (hasMore && end > start) {
+            String lastId = store.id(result.ordinal(end - 1));
+            nextCursor = new JobCursor(JobSortKey.RELEVANCE, SortDirection.DESC, Float.toString(result.score(end - 1)), lastId).encode();
+        }
+        return JobPage.ofOrdinals(store, ordinals, new MetaDTO(total, ordinals.length, hasMore, nextCursor));
     }
 
-    public JobResponseDTO getJobs() {
-        log.info("Pegando todas as vagas");
+    private float parseScore(JobCursor cursor) {
         try {
-            List<Job> jobList = jobClient.getJobs();
+            return Float.parseFloat(cursor.value());
+        } catch (NullPointerException | NumberFormatException ex) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    private JobPage buildSortedJobPage(JobSnapshot snapshot, JobQueryDTO query, RoaringBitmap matches) {
+        JobCursor cursor = query.getCursor() == null ? null : JobCursor.decode(query.getCursor());
+        JobSortKey sortKey = resolveSortKey(query, cursor);
+        SortDirection direction = resolveDirection(query, sortKey, cursor);
+
+        if (cursor != null && (cursor.sortKey() != sortKey || cursor.direction() != direction)) {
+            throw new BadRequestException("Cursor não corresponde à ordenação solicitada");
+        }
+        if (!sortKey.isPrecomputed()) {
+            throw new BadRequestException("Ordenação por relevância exige uma busca (q)");
+        }
+
+        JobStore store = snapshot.getStore();
+        int total = matches.getCardinality();
+        int[] ordering = snapshot.getSortIndex().ordering(sortKey, direction);
+        int start = cursor == null ? 0 : snapshot.getSortIndex().positionAfter(cursor);
+
+        if (!query.isPaginated()) {
+            return JobPage.ofOrdering(store, ordering, start, matches, new MetaDTO(total));
+        }
+
+        int limit = resolveLimit(query, total);
+        int[] ordinals = new int[Math.min(limit, total)];
+        int count = 0;
+        boolean hasMore = false;
+        for (int i = start; i < ordering.length; i++) {
+            int ordinal = ordering[i];
+            if (!matches.contains(ordinal)) continue;
+            if (count == limit) {
+                hasMore = true;
+                break;
+            }
+            ordinals[count++] = ordinal;
+        }
+        ordinals = Arrays.copyOf(ordinals, count);
+
+        String nextCursor = null;
+        if (hasMore && count > 0) {
+            int last = ordinals[count - 1];
+            nextCursor = new JobCursor(sortKey, direction, sortKey.cursorValueOf(store, last), store.id(last)).encode();
+        }
+        return JobPage.ofOrdinals(store, ordinals, new MetaDTO(total, count, hasMore, nextCursor));
+    }
 
-            log.info("{} vagas encontradas", jobList.size());
-            return buildJobResponseDTO(jobList);
+    private JobSortKey resolveSortKey(JobQueryDTO query, JobCursor cursor) {
+        if (query.getSort() != null) return JobSortKey.fromParam(query.getSort());
+        if (cursor != null) return cursor.sortKey();
+        return JobSortKey.PUBLISHED_DATE;
+    }
+
+    private SortDirection resolveDirection(JobQueryDTO query, JobSortKey sortKey, JobCursor cursor) {
+        if (query.getOrder() != null) return SortDirection.fromParam(query.getOrder());
+        if (cursor != null && cursor.sortKey() == sortKey) return cursor.direction();
+        return sortKey.getDefaultDirection();
+    }
+
+    private int resolveLimit(JobQueryDTO query, int total) {
+        if (!query.isPaginated()) return total;
+        return query.getLimit() == null ? JobQueryDTO.DEFAULT_LIMIT : query.getLimit();
+    }
+
+    private JobPage buildJobPage(JobSnapshot snapshot, JobQueryDTO query) {
+        JobFilter filter = JobFilter.from(query);
+        boolean sorted = query.isPaginated() || query.getSort() != null;
+
+        if (filter.isEmpty() && !sorted && !query.isSearch() && query.getIds() == null) {
+            return JobPage.live(snapshot);
+        }
+
+        RoaringBitmap matches = snapshot.matching(filter);
+        if (query.getIds() != null) {
+            int[] requested = resolveIds(snapshot, query.getIds(), matches);
+            if (!sorted && !query.isSearch()) {
+                return JobPage.ofOrdinals(snapshot.getStore(), requested, new MetaDTO(requested.length));
+            }
+            matches = RoaringBitmap.bitmapOf(requested);
+        }
+        if (query.isSearch()) {
+            JobSearchResult result = snapshot.search(query.getQ(), matches);
+            if (query.getSort() == null || JobSortKey.fromParam(query.getSort()) == JobSortKey.RELEVANCE) {
+                return buildRankedJobPage(snapshot, query, result);
+            }
+            matches = result.toBitmap();
+        }
+
+        return sorted
+                ? buildSortedJobPage(snapshot, query, matches)
+                : JobPage.ofMatches(snapshot.getStore(), matches, new MetaDTO(matches.getCardinality()));
+    }
+
+    private int[] resolveIds(JobSnapshot snapshot, List<String> ids, RoaringBitmap matches) {
+        RoaringBitmap seen = new RoaringBitmap();
+        int[] ordinals = new int[ids.size()];
+        int count = 0;
+        for (String id : ids) {
+            int ordinal = snapshot.ordinalOf(id == null ? null : id.trim());
+            if (ordinal >= 0 && matches.contains(ordinal) && seen.checkedAdd(ordinal)) {
+                ordinals[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(ordinals, count);
+    }
+
+    public JobEntry getJob(String id) {
+        log.info("Pegando vaga {}", id);
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        int ordinal = snapshot.ordinalOf(id);
+        if (ordinal < 0) {
+            log.info("Vaga {} não encontrada no catálogo na versão {}", id, snapshot.getVersion());
+            throw new NotFoundException("Vaga não encontrada");
+        }
+        return new JobEntry(snapshot.getStore(), ordinal, snapshot.contentHash(ordinal), snapshot.getVersion());
+    }
+
+    public JobPage getJobs(JobQueryDTO query) {
+        log.info("Pegando vagas com os parâmetros {}", query);
+        try {
+            JobSnapshot snapshot = jobCatalog.getSnapshot();
+            log.info("{} vagas no catálogo na versão {}", snapshot.size(), snapshot.getVersion());
+            JobPage page = buildJobPage(snapshot, query);
+            if (jobCatalog.isStale()) page.getMeta().setStale(true);
+            return page.withVersion(snapshot.getVersion());
         } catch (Exception ex) {
             log.error("Erro ao buscar vagas: {}", ex.getMessage());
             throw ex;
@@ -0,0 +1,53 @@
+package br.com.jboard.orchestrator.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+@Slf4j
+@Component
+public class JobStatsHistoryFile {
+    private static final TypeReference<List<JobStatsService.Sample>> TYPE = new TypeReference<>() {
+    };
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public JobStatsHistoryFile(@Value("${app.jobs.stats.history-path:data/jobs-stats-history.json}") String path,
+                               ObjectMapper objectMapper) {
+        this.path = Path.of(path);
+        this.objectMapper = objectMapper;
+    }
+
+    public List<JobStatsService.Sample> read() {
+        if (!Files.isRegularFile(path)) return List.of();
+
+        try {
+            return objectMapper.readValue(path.toFile(), TYPE);
+        } catch (IOException ex) {
+            log.warn("Histórico de estatísticas em {} ignorado: {}", path, ex.toString());
+            return List.of();
+        }
+    }
+
+    public void write(List<JobStatsService.Sample> samples) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), samples);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobFacet;
+import br.com.jboard.orchestrator.catalog.JobFacetIndex;
+import br.com.jboard.orchestrator.catalog.JobFilter;
+import br.com.jboard.orchestrator.catalog.JobGroupBy;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.catalog.TimeBucket;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsBucketDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsHistoryResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsSampleDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class JobStatsService {
+    static final String CACHE_NAME = "jobStats";
+    static final int DEFAULT_TOP = 50;
+    static final int MAX_TOP = 500;
+
+    private static final Comparator<JobGroupBy.Group> BY_PERIOD = Comparator
+            .comparing(JobGroupBy.Group::period, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final JobCatalog jobCatalog;
+    private final CacheManager cacheManager;
+    private final JobStatsHistoryFile historyFile;
+    private final int historySize;
+    private final Duration sampleInterval;
+    private final int historyTopValues;
+    private final Deque<Sample> history = new ArrayDeque<>();
+
+    public JobStatsService(JobCatalog jobCatalog, CacheManager cacheManager, JobStatsHistoryFile historyFile,
+                           @Value("${app.jobs.stats.history-size:720}") int historySize,
+                           @Value("${app.jobs.stats.sample-interval:PT1H}") Duration sampleInterval,
+                           @Value("${app.jobs.stats.history-top-values:50}") int historyTopValues) {
+        this.jobCatalog = jobCatalog;
+        this.cacheManager = cacheManager;
+        this.historyFile = historyFile;
+        this.historySize = Math.max(1, historySize);
+        this.sampleInterval = sampleInterval;
+        this.historyTopValues = Math.max(1, historyTopValues);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationStartedEvent.class)
+    public void restoreOnStartup() {
+        List<Sample> restored = historyFile.read();
+        int count = 0;
+        synchronized (history) {
+            for (int i = restored.size() - 1; i >= 0 && history.size() < historySize; i--, count++) {
+                history.addFirst(restored.get(i));
+            }
+        }
+        log.info("{} amostras do histórico de estatísticas restauradas", count);
+    }
+
+    private Cache statsCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    public JobStatsResponseDTO getStats(JobQueryDTO query, String groupBy, String interval, Integer top) {
+        log.info("Pegando estatísticas de vagas agrupadas por {} e intervalo {} com os parâmetros {}", groupBy, interval, query);
+        List<JobFacet> facets = parseGroupBy(groupBy);
+        TimeBucket bucket = interval == null || interval.isBlank() ? null : TimeBucket.fromParam(interval.trim());
+        int limit = top == null ? DEFAULT_TOP : top;
+        if (limit < 1 || limit > MAX_TOP) throw new BadRequestException("top deve estar entre 1 e " + MAX_TOP);
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        JobFilter filter = JobFilter.from(query);
+        String search = query.isSearch() ? query.getQ().trim() : null;
+        String key = snapshot.getVersion() + "|" + filter + "|" + search + "|" + facets + "|" + bucket + "|" + limit;
+
+        return statsCache().get(key, () -> buildStatsResponseDTO(snapshot, filter, search, facets, bucket, limit));
+    }
+
+    private JobStatsResponseDTO buildStatsResponseDTO(JobSnapshot snapshot, JobFilter filter, String search,
+                                                      List<JobFacet> facets, TimeBucket interval, int top) {
+        log.info("Cache miss - Calculando estatísticas para o filtro {} na versão {}", filter, snapshot.getVersion());
+        RoaringBitmap matches = snapshot.matching(filter);
+        if (search != null) matches = snapshot.search(search, matches).toBitmap();
+
+        Map<List<String>, List<JobGroupBy.Group>> byLabels = new HashMap<>();
+        Map<List<String>, Long> totals = new HashMap<>();
+        for (JobGroupBy.Group group : JobGroupBy.count(snapshot, matches, facets, interval)) {
+            byLabels.computeIfAbsent(group.labels(), labels -> new ArrayList<>()).add(group);
+            totals.merge(group.labels(), (long) group.count(), Long::sum);
+        }
+
+        List<JobStatsBucketDTO> buckets = new ArrayList<>();
+        totals.entrySet().stream()
+                .sorted(Map.Entry.<List<String>, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().toString()))
+                .limit(top)
+                .forEach(entry -> {
+                    Map<String, String> group = group(facets, entry.getKey());
+                    byLabels.get(entry.getKey()).stream()
+                            .sorted(BY_PERIOD)
+                            .forEach(g -> buckets.add(new JobStatsBucketDTO(group, g.period(), g.count())));
+                });
+
+        return new JobStatsResponseDTO(snapshot.getVersion(), facets.stream().map(JobFacet::getParam).toList(),
+                interval == null ? null : interval.getParam(), buckets, new MetaDTO(matches.getCardinality()));
+    }
+
+    private static Map<String, String> group(List<JobFacet> facets, List<String> labels) {
+        Map<String, String> group = new LinkedHashMap<>();
+        for (int d = 0; d < facets.size(); d++) {
+            group.put(facets.get(d).getParam(), labels.get(d));
+        }
+        return group;
+    }
+
+    private static List<JobFacet> parseGroupBy(String groupBy) {
+        List<JobFacet> facets = new ArrayList<>();
+        if (groupBy == null) return facets;
+
+        for (String param : groupBy.split(",")) {
+            String trimmed = param.trim();
+            if (trimmed.isEmpty()) continue;
+            JobFacet facet = JobFacet.fromParam(trimmed);
+            if (!facets.contains(facet)) facets.add(facet);
+        }
+        if (facets.size() > JobGroupBy.MAX_DIMENSIONS) {
+            throw new BadRequestException("groupBy aceita no máximo " + JobGroupBy.MAX_DIMENSIONS + " campos");
+        }
+        return facets;
+    }
+
+    public JobStatsHistoryResponseDTO getHistory(String groupBy) {
+        log.info("Pegando histórico de estatísticas de vagas agrupado por {}", groupBy);
+        JobFacet facet = groupBy == null || groupBy.isBlank() ? null : JobFacet.fromParam(groupBy.trim());
+
+        List<Sample> samples;
+        synchronized (history) {
+            samples = new ArrayList<>(history);
+        }
+        List<JobStatsSampleDTO> result = samples.stream()
+                .map(sample -> new JobStatsSampleDTO(sample.version(), sample.sampledAt().toString(), sample.total(),
+                        facet == null ? null : sample.counts().get(facet)))
+                .toList();
+        return new JobStatsHistoryResponseDTO(facet == null ? null : facet.getParam(), result);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        JobSnapshot current = event.current();
+        log.info("Invalidando cache de estatísticas após atualização do catálogo para a versão {}", current.getVersion());
+        statsCache().clear();
+
+        Instant now = Instant.now();
+        synchronized (history) {
+            Sample last = history.peekLast();
+            if (last != null && (last.version() == current.getVersion()
+                    || now.isBefore(last.sampledAt().plus(sampleInterval)))) {
+                return;
+            }
+        }
+
+        Sample sample = sample(current, now);
+        List<Sample> samples;
+        synchronized (history) {
+            if (history.size() >= historySize) history.removeFirst();
+            history.addLast(sample);
+            samples = new ArrayList<>(history);
+        }
+        persist(samples);
+    }
+
+    private void persist(List<Sample> samples) {
+        try {
+            historyFile.write(samples);
+        } catch (IOException ex) {
+            log.error("Erro ao gravar histórico de estatísticas: {}", ex.getMessage());
+        }
+    }
+
+    private Sample sample(JobSnapshot snapshot, Instant now) {
+        RoaringBitmap live = snapshot.getLive();
+        JobFacetIndex facetIndex = snapshot.getFacetIndex();
+        Map<JobFacet, Map<String, Long>> counts = new EnumMap<>(JobFacet.class);
+        facetIndex.count(live).forEach((facet, facetCounts) -> {
+            Map<String, Long> values = new LinkedHashMap<>();
+            topCodes(facetCounts, historyTopValues).forEach(code ->
+                    values.put(facetIndex.label(facet, code), (long) facetCounts[code]));
+            counts.put(facet, values);
+        });
+        return new Sample(snapshot.getVersion(), now, live.getCardinality(), counts);
+    }
+
+    private static List<Integer> topCodes(int[] counts, int limit) {
+        List<Integer> codes = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) codes.add(code);
+        }
+        codes.sort(Comparator.<Integer>comparingInt(code -> counts[code]).reversed()
+                .thenComparingInt(code -> code));
+        return codes.size() > limit ? codes.subList(0, limit) : codes;
+    }
+
+    record Sample(long version, Instant sampledAt, long total, Map<JobFacet, Map<String, Long>> counts) {
+    }
+}
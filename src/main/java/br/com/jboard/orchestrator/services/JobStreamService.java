@@ -0,0 +1,286 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogDiff;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobFilter;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobChangesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+public class JobStreamService {
+    static final String METRIC_NAME = "jboard.jobs.stream";
+    static final String READY_EVENT = "ready";
+    static final String CHANGES_EVENT = "changes";
+    static final String RESYNC_EVENT = "resync";
+
+    private final JobCatalog jobCatalog;
+    private final JobChangesService jobChangesService;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Executor deliveryExecutor;
+    private final Clock clock;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter resyncs;
+    private volatile Instant lastRefreshedAt;
+
+    @Autowired
+    public JobStreamService(JobCatalog jobCatalog, JobChangesService jobChangesService, ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.jobs.stream.buffer-size:16}") int bufferSize,
+                            @Value("${app.jobs.stream.timeout:PT30M}") Duration timeout) {
+        this(jobCatalog, jobChangesService, objectMapper, meterRegistry, bufferSize, timeout,
+                Executors.newVirtualThreadPerTaskExecutor(), Clock.systemUTC());
+    }
+
+    JobStreamService(JobCatalog jobCatalog, JobChangesService jobChangesService, ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry, int bufferSize, Duration timeout, Executor deliveryExecutor,
+                     Clock clock) {
+        this.jobCatalog = jobCatalog;
+        this.jobChangesService = jobChangesService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeout = timeout;
+        this.deliveryExecutor = deliveryExecutor;
+        this.clock = clock;
+        this.lastRefreshedAt = clock.instant();
+        Gauge.builder(METRIC_NAME + ".subscribers", subscribers, Set::size)
+                .description("Clients connected to the job change stream")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder(METRIC_NAME + ".resyncs")
+                .description("Subscribers whose buffer overflowed and were asked to resync")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (deliveryExecutor instanceof ExecutorService executorService) executorService.shutdown();
+    }
+
+    public SseEmitter subscribe(JobQueryDTO query, Long lastEventId) {
+        JobFilter filter = JobFilter.from(query, clock.instant());
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        long version = snapshot.getVersion();
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, filter, lastEventId != null ? lastEventId : version);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        if (lastEventId != null && lastEventId != version) {
+            enqueue(subscriber, replay(filter, snapshot, lastEventId));
+        } else {
+            enqueue(subscriber, new StreamEvent(READY_EVENT, version,
+                    serialize(new JobChangesResponseDTO(version, version, false, List.of(), List.of(), List.of()))));
+        }
+        log.info("Novo assinante do stream de vagas na versão {} ({} conectados)", version, subscribers.size());
+        return emitter;
+    }
+
+    private StreamEvent replay(JobFilter filter, JobSnapshot snapshot, long since) {
+        JobChangesResponseDTO changes = jobChangesService.getChanges(since);
+        if (changes.isFullResync()) return new StreamEvent(RESYNC_EVENT, changes.getVersion(), serialize(changes));
+        if (filter.isEmpty()) return new StreamEvent(CHANGES_EVENT, changes.getVersion(), serialize(changes));
+
+        RoaringBitmap matching = snapshot.matching(filter);
+        List<JobDTO> added = new ArrayList<>();
+        List<JobDTO> updated = new ArrayList<>();
+        List<String> removed = new ArrayList<>(changes.getRemoved());
+        for (JobDTO job : changes.getAdded()) {
+            if (matches(snapshot, matching, job.getId())) added.add(job);
+        }
+        for (JobDTO job : changes.getUpdated()) {
+            if (matches(snapshot, matching, job.getId())) updated.add(job);
+            else removed.add(job.getId());
+        }
+        return new StreamEvent(CHANGES_EVENT, changes.getVersion(), serialize(new JobChangesResponseDTO(
+                since, changes.getVersion(), false, added, updated, removed)));
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        Instant now = clock.instant();
+        Instant refreshedBefore = lastRefreshedAt;
+        lastRefreshedAt = now;
+        JobSnapshot previous = event.previous();
+        JobSnapshot current = event.current();
+        if (previous == null || subscribers.isEmpty()) return;
+
+        JobCatalogDiff diff = event.diff();
+        if (diff.isEmpty()) return;
+
+        Map<JobFilter, StreamEvent> events = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            StreamEvent streamEvent = events.computeIfAbsent(subscriber.filter.relativeTo(now),
+                    filter -> changes(filter, subscriber.filter.relativeTo(refreshedBefore), diff, previous, current));
+            if (streamEvent != null) enqueue(subscriber, streamEvent);
+        }
+        log.info("Versão {} enviada para {} assinantes do stream ({} filtros distintos)",
+                current.getVersion(), subscribers.size(), events.size());
+    }
+
+    @Scheduled(fixedRateString = "${app.jobs.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, StreamEvent.HEARTBEAT);
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private StreamEvent changes(JobFilter filter, JobFilter previousFilter, JobCatalogDiff diff, JobSnapshot previous,
+                                JobSnapshot current) {
+        RoaringBitmap matching = filter.isEmpty() ? null : current.matching(filter);
+        RoaringBitmap previouslyMatching = filter.isEmpty() ? null : previous.matching(previousFilter);
+        List<JobDTO> added = new ArrayList<>();
+        List<JobDTO> updated = new ArrayList<>();
+        Set<String> removed = new LinkedHashSet<>();
+        for (Job job : diff.added()) {
+            if (matches(current, matching, job.getId())) added.add(new JobDTO(job));
+        }
+        for (Job job : diff.updated()) {
+            if (matches(current, matching, job.getId())) {
+                updated.add(new JobDTO(job));
+            } else if (matches(previous, previouslyMatching, job.getId())) {
+                removed.add(job.getId());
+            }
+        }
+        for (String id : diff.removed()) {
+            if (matches(previous, previouslyMatching, id)) removed.add(id);
+        }
+        if (!filter.equals(previousFilter)) {
+            for (int ordinal : RoaringBitmap.andNot(previouslyMatching, previous.matching(filter))) {
+                String id = previous.getStore().id(ordinal);
+                if (!matches(current, matching, id)) removed.add(id);
+            }
+        }
+        if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) return null;
+
+        return new StreamEvent(CHANGES_EVENT, current.getVersion(), serialize(new JobChangesResponseDTO(
+                previous.getVersion(), current.getVersion(), false, added, updated, new ArrayList<>(removed))));
+    }
+
+    private static boolean matches(JobSnapshot snapshot, RoaringBitmap matching, String id) {
+        if (matching == null) return true;
+        int ordinal = snapshot.ordinalOf(id);
+        return ordinal >= 0 && matching.contains(ordinal);
+    }
+
+    private void enqueue(Subscriber subscriber, StreamEvent event) {
+        synchronized (subscriber) {
+            if (event == StreamEvent.HEARTBEAT && !subscriber.queue.isEmpty()) return;
+            if (subscriber.queue.size() >= bufferSize) {
+                subscriber.queue.clear();
+                resyncs.increment();
+                event = new StreamEvent(RESYNC_EVENT, event.version(),
+                        serialize(JobChangesResponseDTO.fullResync(subscriber.lastVersion, event.version())));
+            }
+            subscriber.queue.addLast(event);
+            if (subscriber.draining) return;
+            subscriber.draining = true;
+        }
+        deliveryExecutor.execute(() -> drain(subscriber));
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            StreamEvent event;
+            synchronized (subscriber) {
+                event = subscriber.queue.pollFirst();
+                if (event == null) {
+                    subscriber.draining = false;
+                    return;
+                }
+                if (event != StreamEvent.HEARTBEAT) subscriber.lastVersion = event.version();
+            }
+
+            try {
+                subscriber.emitter.send(event.toSse());
+            } catch (IOException | IllegalStateException ex) {
+                log.info("Assinante do stream de vagas desconectado: {}", ex.getMessage());
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(ex);
+                return;
+            }
+        }
+    }
+
+    private String serialize(JobChangesResponseDTO changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record StreamEvent(String name, long version, String data) {
+        private static final StreamEvent HEARTBEAT = new StreamEvent(null, -1, null);
+
+        private SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) return SseEmitter.event().comment("heartbeat");
+            return SseEmitter.event()
+                    .id(Long.toString(version))
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final JobFilter filter;
+        private final Deque<StreamEvent> queue = new ArrayDeque<>();
+        private boolean draining;
+        private long lastVersion;
+
+        private Subscriber(SseEmitter emitter, JobFilter filter, long lastVersion) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.lastVersion = lastVersion;
+        }
+    }
+}
@@ -13,12 +13,14 @@ import java.util.Base64;
 @Service
 public class RoleService {
     private final UserClient userClient;
+    private final AuthorizationService authorizationService;
 
     @Value("${app.admin.credentials}")
     private String adminCredentials;
 
-    public RoleService(UserClient userClient) {
+    public RoleService(UserClient userClient, AuthorizationService authorizationService) {
         this.userClient = userClient;
+        this.authorizationService = authorizationService;
     }
 
     public void updateRole(ChangeRoleDTO data, String authorizationHeader) {
@@ -32,6 +34,7 @@ public class RoleService {
 
         user.setRole(data.getRole());
         userClient.updateUser(user);
+        authorizationService.evictUser(user.getUsername());
         log.info("Role do usuário {} alterada para {}", user.getUsername(), data.getRole());
     }
 
@@ -0,0 +1,55 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.models.dtos.SavedSearchDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class SavedSearchFile {
+    private static final TypeReference<Map<String, List<SavedSearchDTO>>> TYPE = new TypeReference<>() {
+    };
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public SavedSearchFile(@Value("${app.jobs.saved-searches.path:data/saved-searches.json}") String path,
+                           ObjectMapper objectMapper) {
+        this.path = Path.of(path);
+        this.objectMapper = objectMapper;
+    }
+
+    public Map<String, List<SavedSearchDTO>> read() {
+        if (!Files.isRegularFile(path)) return Map.of();
+
+        try {
+            return objectMapper.readValue(path.toFile(), TYPE);
+        } catch (IOException ex) {
+            log.warn("Buscas salvas em {} ignoradas: {}", path, ex.toString());
+            return Map.of();
+        }
+    }
+
+    public void write(Map<String, List<SavedSearchDTO>> searches) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), searches);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalogDiff;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobFilter;
+import br.com.jboard.orchestrator.catalog.JobPercolator;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.catalog.JobTextAnalyzer;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchMatchDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchMatchesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchResponseDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import br.com.jboard.orchestrator.models.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class SavedSearchService {
+    private final SavedSearchFile savedSearchFile;
+    private final int maxPerUser;
+    private final int maxPendingMatches;
+    private final Map<String, List<SavedSearchDTO>> searches = new ConcurrentHashMap<>();
+    private final Map<String, Deque<SavedSearchMatchDTO>> pendingMatches = new ConcurrentHashMap<>();
+    private final AtomicLong matchSequence;
+
+    private JobPercolator percolator;
+
+    public SavedSearchService(SavedSearchFile savedSearchFile,
+                              @Value("${app.jobs.saved-searches.max-per-user:20}") int maxPerUser,
+                              @Value("${app.jobs.saved-searches.max-pending-matches:200}") int maxPendingMatches) {
+        this.savedSearchFile = savedSearchFile;
+        this.maxPerUser = maxPerUser;
+        this.maxPendingMatches = Math.max(1, maxPendingMatches);
+        this.matchSequence = new AtomicLong(Instant.now().toEpochMilli() * 1_000);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void restoreOnStartup() {
+        searches.putAll(savedSearchFile.read());
+        percolator = null;
+        log.info("{} buscas salvas restauradas para {} usuários",
+                searches.values().stream().mapToInt(List::size).sum(), searches.size());
+    }
+
+    public SavedSearchResponseDTO getSavedSearches(String username) {
+        log.info("Pegando buscas salvas do usuário {}", username);
+        List<SavedSearchDTO> saved = searches.getOrDefault(username, List.of());
+        return new SavedSearchResponseDTO(saved, new MetaDTO(saved.size()));
+    }
+
+    public synchronized SavedSearchDTO createSavedSearch(String username, SavedSearchDTO search) {
+        log.info("Salvando busca '{}' do usuário {}", search.getName(), username);
+        JobPercolator.Query query = query(username, search);
+        if (query.getFilter().isEmpty() && query.getTerms().isEmpty()) {
+            throw new BadRequestException("A busca salva precisa ter ao menos um critério");
+        }
+
+        List<SavedSearchDTO> current = searches.getOrDefault(username, List.of());
+        if (current.size() >= maxPerUser) throw new BadRequestException("Limite de buscas salvas atingido");
+
+        search.setId(UUID.randomUUID().toString());
+        search.setCreatedAt(Instant.now().toString());
+        List<SavedSearchDTO> next = new ArrayList<>(current);
+        next.add(search);
+        searches.put(username, List.copyOf(next));
+        percolator = null;
+        persist();
+        return search;
+    }
+
+    public synchronized void deleteSavedSearch(String username, String id) {
+        log.info("Removendo busca salva {} do usuário {}", id, username);
+        List<SavedSearchDTO> current = searches.getOrDefault(username, List.of());
+        List<SavedSearchDTO> next = current.stream().filter(search -> !search.getId().equals(id)).toList();
+        if (next.size() == current.size()) throw new NotFoundException("Busca salva não encontrada");
+
+        if (next.isEmpty()) {
+            searches.remove(username);
+        } else {
+            searches.put(username, next);
+        }
+        percolator = null;
+        persist();
+    }
+
+    public synchronized void deleteAll(String username) {
+        log.info("Removendo todas as buscas salvas do usuário {}", username);
+        pendingMatches.remove(username);
+        if (searches.remove(username) == null) return;
+
+        percolator = null;
+        persist();
+    }
+
+    public SavedSearchMatchesResponseDTO getMatches(String username, long after) {
+        log.info("Pegando alertas de buscas salvas do usuário {} após {}", username, after);
+        Deque<SavedSearchMatchDTO> pending = pendingMatches.get(username);
+        List<SavedSearchMatchDTO> matches = new ArrayList<>();
+        if (pending != null) {
+            synchronized (pending) {
+                for (SavedSearchMatchDTO match : pending) {
+                    if (match.getId() > after) matches.add(match);
+                }
+            }
+        }
+        long lastId = matches.isEmpty() ? after : matches.get(matches.size() - 1).getId();
+        return new SavedSearchMatchesResponseDTO(after, lastId, matches);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(JobCatalogRefreshedEvent event) {
+        JobSnapshot previous = event.previous();
+        JobSnapshot current = event.current();
+        if (previous == null || searches.isEmpty()) return;
+
+        JobCatalogDiff diff = event.diff();
+        int[] ordinals = Stream.concat(diff.added().stream(), diff.updated().stream())
+                .mapToInt(job -> current.ordinalOf(job.getId()))
+                .filter(ordinal -> ordinal >= 0)
+                .toArray();
+        if (ordinals.length == 0) return;
+
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        JobPercolator index = percolator();
+        Set<PreviousMatch> previousMatches = previousMatches(index, previous, diff.updated(), now);
+        JobStore store = current.getStore();
+        int notified = 0;
+        for (JobPercolator.Match match : index.percolate(store, ordinals, now)) {
+            JobPercolator.Query query = match.query();
+            if (previousMatches.contains(new PreviousMatch(query, store.id(match.ordinal())))) continue;
+
+            SavedSearchDTO search = find(query.getOwner(), query.getId());
+            if (search == null) continue;
+
+            Job job = store.job(match.ordinal());
+            notify(query.getOwner(), new SavedSearchMatchDTO(matchSequence.incrementAndGet(), search.getId(),
+                    search.getName(), current.getVersion(), new JobDTO(job)));
+            notified++;
+        }
+        log.info("{} vagas novas ou alteradas comparadas com {} buscas salvas em {} ms, {} alertas gerados",
+                ordinals.length, index.size(), (System.nanoTime() - start) / 1_000_000, notified);
+    }
+
+    private static Set<PreviousMatch> previousMatches(JobPercolator index, JobSnapshot previous, List<Job> updated,
+                                                      Instant now) {
+        int[] ordinals = updated.stream()
+                .mapToInt(job -> previous.ordinalOf(job.getId()))
+                .filter(ordinal -> ordinal >= 0)
+                .toArray();
+        if (ordinals.length == 0) return Set.of();
+
+        JobStore store = previous.getStore();
+        Set<PreviousMatch> matches = new HashSet<>();
+        for (JobPercolator.Match match : index.percolate(store, ordinals, now)) {
+            matches.add(new PreviousMatch(match.query(), store.id(match.ordinal())));
+        }
+        return matches;
+    }
+
+    private synchronized JobPercolator percolator() {
+        if (percolator == null) {
+            List<JobPercolator.Query> queries = new ArrayList<>();
+            searches.forEach((username, saved) -> {
+                for (SavedSearchDTO search : saved) queries.add(query(username, search));
+            });
+            percolator = new JobPercolator(queries);
+        }
+        return percolator;
+    }
+
+    private static JobPercolator.Query query(String username, SavedSearchDTO search) {
+        Set<String> terms = new LinkedHashSet<>(JobTextAnalyzer.tokenize(search.getQ()));
+        return new JobPercolator.Query(username, search.getId(), JobFilter.from(search.toQuery()), terms);
+    }
+
+    private SavedSearchDTO find(String username, String id) {
+        for (SavedSearchDTO search : searches.getOrDefault(username, List.of())) {
+            if (search.getId().equals(id)) return search;
+        }
+        return null;
+    }
+
+    private void notify(String username, SavedSearchMatchDTO match) {
+        Deque<SavedSearchMatchDTO> pending = pendingMatches.computeIfAbsent(username, key -> new ArrayDeque<>());
+        synchronized (pending) {
+            pending.addLast(match);
+            while (pending.size() > maxPendingMatches) pending.removeFirst();
+        }
+    }
+
+    private record PreviousMatch(JobPercolator.Query query, String jobId) {
+    }
+
+    private void persist() {
+        try {
+            savedSearchFile.write(Map.copyOf(searches));
+        } catch (IOException ex) {
+            log.error("Erro ao gravar buscas salvas: {}", ex.getMessage());
+        }
+    }
+}
@@ -1,32 +1,40 @@
 package br.com.jboard.orchestrator.services;
 
 import br.com.jboard.orchestrator.clients.SkillClient;
+import br.com.jboard.orchestrator.config.CacheConfig;
+import br.com.jboard.orchestrator.config.StaleWhileRevalidateCache;
 import br.com.jboard.orchestrator.models.Skill;
 import br.com.jboard.orchestrator.models.dtos.MetaDTO;
 import br.com.jboard.orchestrator.models.dtos.SkillDTO;
 import br.com.jboard.orchestrator.models.dtos.SkillResponseDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Service
 public class SkillService {
     private final SkillClient skillClient;
+    private final CacheManager cacheManager;
 
-    public SkillService(SkillClient skillClient) {
+    public SkillService(SkillClient skillClient, CacheManager cacheManager) {
         this.skillClient = skillClient;
+        this.cacheManager = cacheManager;
     }
 
-    private SkillResponseDTO buildSkillResponseDTO(List<Skill> skillList) {
-        List<String> skills = skillList.stream().map(Skill::getSkill).toList();
-        return new SkillResponseDTO(skills, buildMeta(skillList));
+    private Cache skillCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.SKILLS));
     }
 
-    private MetaDTO buildMeta(List<Skill> skillList) {
-        return new MetaDTO(skillList.size());
+    private SkillResponseDTO buildSkillResponseDTO(List<String> skills) {
+        return new SkillResponseDTO(skills, new MetaDTO(skills.size()));
     }
 
     private String normalizeSkill(String skill) {
@@ -37,14 +45,18 @@ public class SkillService {
     }
 
     public SkillResponseDTO getAllSkills(String username) {
+        return buildSkillResponseDTO(skillCache().get(username, () -> fetchSkills(username)));
+    }
+
+    private List<String> fetchSkills(String username) {
         log.info("Pegando habilidades do usuário {}", username);
         try {
             List<Skill> skillList = skillClient.getAllSkills(username);
             log.info("{} habilidades encontradas para o usuário: {}", skillList.size(), username);
-            return buildSkillResponseDTO(skillList);
+            return skillList.stream().map(Skill::getSkill).toList();
         } catch (HttpClientErrorException.NotFound ex) {
             log.info("Nenhuma habilidade encontrada para o usuário: {}, retornando uma lista vazia", username);
-            return new SkillResponseDTO(List.of(), new MetaDTO(0));
+            return List.of();
         } catch (Exception ex) {
             log.error("Erro ao pegar habilidades: {}", ex.getMessage());
             throw ex;
@@ -57,6 +69,12 @@ public class SkillService {
 
         Skill skill = new Skill(username, normalizedSkill);
         skillClient.addSkill(skill);
+        updateCachedSkills(username, skills -> {
+            if (skills.contains(normalizedSkill)) return skills;
+            List<String> updated = new ArrayList<>(skills);
+            updated.add(normalizedSkill);
+            return updated;
+        });
     }
 
     public void removeSkill(SkillDTO skillDTO, String username) {
@@ -65,10 +83,24 @@ public class SkillService {
 
         Skill skill = new Skill(username, normalizedSkill);
         skillClient.removeSkill(skill);
+        updateCachedSkills(username, skills -> skills.stream()
+                .filter(existing -> !existing.equals(normalizedSkill))
+                .toList());
     }
 
     public void deleteAllSkills(String username) {
         log.info("Removendo todas as habilidades do usuário {}", username);
         skillClient.deleteAllSkills(username);
+        skillCache().put(username, List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateCachedSkills(String username, UnaryOperator<List<String>> update) {
+        Cache cache = skillCache();
+        if (cache instanceof StaleWhileRevalidateCache skills) {
+            skills.update(username, cached -> List.copyOf(update.apply((List<String>) cached)));
+        } else {
+            cache.evict(username);
+        }
     }
 }
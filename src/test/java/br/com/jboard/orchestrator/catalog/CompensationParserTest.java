@@ -0,0 +1,65 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompensationParserTest {
+
+    private static List<String[]> corpus() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(
+                CompensationParserTest.class.getResourceAsStream("/compensation-corpus.tsv")), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                rows.add(line.split("\t"));
+            }
+        }
+        return rows;
+    }
+
+    private static String describe(Compensation compensation) {
+        if (compensation == null) return "-\t-\t-\t-";
+        return compensation.min() + "\t" + compensation.max() + "\t"
+                + (compensation.currency() == null ? "-" : compensation.currency()) + "\t" + compensation.period();
+    }
+
+    @Test
+    void parse_matchesCorpus() throws IOException {
+        List<String[]> rows = corpus();
+        List<String> failures = new ArrayList<>();
+        for (String[] row : rows) {
+            String expected = String.join("\t", row[1], row[2], row[3], row[4]);
+            String actual = describe(CompensationParser.parse(row[0]));
+            if (!expected.equals(actual)) failures.add(row[0] + " => " + actual + " (esperado " + expected + ")");
+        }
+
+        assertTrue(rows.size() > 20);
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    @Test
+    void parse_blankSummary_returnsNull() {
+        assertNull(CompensationParser.parse(null));
+        assertNull(CompensationParser.parse("  "));
+    }
+
+    @Test
+    void annualize_convertsByPeriod() {
+        Compensation monthly = CompensationParser.parse("R$ 8k – 12k");
+        Compensation hourly = CompensationParser.parse("$50 - $70/hr");
+
+        assertEquals(96_000, monthly.annualMin());
+        assertEquals(144_000, monthly.annualMax());
+        assertEquals(145_600, hourly.annualMax());
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCatalogDiffTest {
+
+    private JobSnapshot snapshot(long version, Job... jobs) {
+        return new JobSnapshot(version, List.of(jobs), Instant.now());
+    }
+
+    @Test
+    void between_detectsAddedUpdatedAndRemoved() {
+        Job changed = job("2");
+        changed.setTitle("Senior Java Developer");
+
+        JobCatalogDiff diff = JobCatalogDiff.between(
+                snapshot(1, job("1"), job("2"), job("3")),
+                snapshot(2, job("1"), changed, job("4")));
+
+        assertEquals(1, diff.fromVersion());
+        assertEquals(2, diff.toVersion());
+        assertEquals(List.of("4"), diff.added().stream().map(Job::getId).toList());
+        assertEquals(List.of("2"), diff.updated().stream().map(Job::getId).toList());
+        assertEquals(List.of("3"), diff.removed());
+    }
+
+    @Test
+    void between_jobMergedIntoCanonical_isRemoved() {
+        JobSnapshot previous = snapshot(1, job("1"), job("2"));
+        JobSnapshot current = new JobSnapshot(2, JobStore.of(List.of(job("1"), job("2"))).withCanonical(new int[]{0, 0}),
+                Instant.now(), previous);
+
+        JobCatalogDiff diff = JobCatalogDiff.between(previous, current);
+
+        assertEquals(List.of("2"), diff.removed());
+        assertEquals(List.of("1"), diff.updated().stream().map(Job::getId).toList());
+    }
+
+    @Test
+    void between_updatedAtChanged_isUpdate() {
+        JobCatalogDiff diff = JobCatalogDiff.between(
+                snapshot(1, job("1", "2025-01-01", null, "2025-01-02")),
+                snapshot(2, job("1", "2025-01-01", null, "2025-01-03")));
+
+        assertEquals(1, diff.updated().size());
+    }
+
+    @Test
+    void between_sameContent_isEmpty() {
+        JobCatalogDiff diff = JobCatalogDiff.between(
+                snapshot(1, job("1"), job("2")),
+                snapshot(2, job("2"), job("1")));
+
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    void between_brazilianFriendlyChanged_isUpdate() {
+        JobCatalogDiff diff = JobCatalogDiff.between(
+                snapshot(1, job("1", "Backend", "Senior", "Remote", "Full-time", "Acme", false)),
+                snapshot(2, job("1", "Backend", "Senior", "Remote", "Full-time", "Acme", true)));
+
+        assertEquals(List.of("1"), diff.updated().stream().map(Job::getId).toList());
+    }
+}
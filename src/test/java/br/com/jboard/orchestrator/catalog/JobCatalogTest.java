@@ -0,0 +1,260 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.clients.JobClient;
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobCatalogTest {
+    @Mock
+    JobClient jobClient;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    JobSnapshotFile snapshotFile;
+    @Spy
+    JobDeduplicator deduplicator = new JobDeduplicator(true, 0.8);
+    @InjectMocks
+    JobCatalog jobCatalog;
+
+    private static JobStore jobs(Job... jobs) {
+        return JobStore.of(List.of(jobs));
+    }
+
+    @Test
+    void getSnapshot_notLoaded_loadsOnDemand() {
+        when(jobClient.getJobs()).thenReturn(jobs(new Job(), new Job()));
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(2, snapshot.size());
+        verify(jobClient).getJobs();
+    }
+
+    @Test
+    void getSnapshot_alreadyLoaded_doesNotCallClient() {
+        when(jobClient.getJobs()).thenReturn(jobs(new Job()));
+        jobCatalog.refresh();
+
+        JobSnapshot first = jobCatalog.getSnapshot();
+        JobSnapshot second = jobCatalog.getSnapshot();
+
+        assertSame(first, second);
+        verify(jobClient, times(1)).getJobs();
+    }
+
+    @Test
+    void refresh_publishesNewVersionAndEvent() {
+        when(jobClient.getJobs()).thenReturn(jobs(new Job()), jobs(new Job(), new Job()));
+
+        jobCatalog.refresh();
+        JobSnapshot first = jobCatalog.getSnapshot();
+        jobCatalog.refresh();
+        JobSnapshot second = jobCatalog.getSnapshot();
+
+        assertEquals(1, first.getVersion());
+        assertEquals(2, second.getVersion());
+        assertEquals(2, second.size());
+
+        ArgumentCaptor<JobCatalogRefreshedEvent> captor = ArgumentCaptor.forClass(JobCatalogRefreshedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertNull(captor.getAllValues().get(0).previous());
+        assertSame(first, captor.getAllValues().get(1).previous());
+        assertSame(second, captor.getAllValues().get(1).current());
+    }
+
+    @Test
+    void scheduledRefresh_clientFails_keepsPreviousSnapshot() {
+        when(jobClient.getJobs())
+                .thenReturn(jobs(new Job()))
+                .thenThrow(new RestClientException("Service unavailable"));
+
+        jobCatalog.scheduledRefresh();
+        JobSnapshot before = jobCatalog.getSnapshot();
+        jobCatalog.scheduledRefresh();
+
+        assertSame(before, jobCatalog.getSnapshot());
+        verify(eventPublisher, times(1)).publishEvent(any(JobCatalogRefreshedEvent.class));
+    }
+
+    @Test
+    void getSnapshot_notLoadedAndClientFails_propagatesException() {
+        when(jobClient.getJobs()).thenThrow(new RestClientException("Service unavailable"));
+
+        assertThrows(RestClientException.class, () -> jobCatalog.getSnapshot());
+    }
+
+    @Test
+    void snapshot_isDetachedFromFetchedJobs() {
+        Job job = JobFixtures.job("1");
+        when(jobClient.getJobs()).thenReturn(jobs(job));
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+        job.setTitle("Alterado");
+
+        assertEquals(1, snapshot.size());
+        assertEquals("Job 1", snapshot.getStore().title(0));
+    }
+
+    @Test
+    void refresh_groupsNearDuplicateJobsUnderCanonical() {
+        Job original = JobFixtures.job("1", null, null, "2025-01-01");
+        original.setTitle("Senior Backend Engineer (Java)");
+        original.setCompany("Acme");
+        Job repost = JobFixtures.job("2", null, null, "2025-01-02");
+        repost.setTitle("Senior Backend Engineer - Java");
+        repost.setCompany("ACME");
+        when(jobClient.getJobs()).thenReturn(jobs(original, repost, JobFixtures.job("3")));
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+
+        assertEquals(2, snapshot.size());
+        assertFalse(snapshot.isLive(1));
+        assertEquals(0, snapshot.ordinalOf("1"));
+        assertEquals(0, snapshot.ordinalOf("2"));
+        assertEquals(1, snapshot.getStore().duplicates(0));
+        assertEquals(0, snapshot.getStore().duplicates(2));
+    }
+
+    @Test
+    void refresh_dropsJobsWhoseDeadlineAlreadyPassed() {
+        when(jobClient.getJobs()).thenReturn(jobs(
+                JobFixtures.job("1", null, "2000-01-01", null),
+                JobFixtures.job("2", null, "2999-01-01", null)));
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(1, snapshot.size());
+        assertFalse(snapshot.isLive(0));
+        assertTrue(snapshot.isLive(1));
+    }
+
+    @Test
+    void expire_publishesNewVersionWithoutExpiredJobs() {
+        when(jobClient.getJobs()).thenReturn(jobs(JobFixtures.job("1"), JobFixtures.job("2")));
+        JobSnapshot first = jobCatalog.getSnapshot();
+
+        assertTrue(jobCatalog.expire(first.getStore(), RoaringBitmap.bitmapOf(0)));
+        JobSnapshot second = jobCatalog.getSnapshot();
+
+        assertEquals(2, second.getVersion());
+        assertEquals(1, second.size());
+        assertSame(first.getStore(), second.getStore());
+        ArgumentCaptor<JobCatalogRefreshedEvent> captor = ArgumentCaptor.forClass(JobCatalogRefreshedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertSame(first, captor.getAllValues().get(1).previous());
+        assertNull(captor.getAllValues().get(0).diff());
+        assertEquals(List.of("1"), captor.getAllValues().get(1).diff().removed());
+    }
+
+    @Test
+    void expire_staleStore_isIgnored() {
+        when(jobClient.getJobs()).thenReturn(jobs(JobFixtures.job("1")), jobs(JobFixtures.job("1")));
+        JobSnapshot first = jobCatalog.getSnapshot();
+        jobCatalog.refresh();
+        JobSnapshot second = jobCatalog.getSnapshot();
+
+        jobCatalog.expire(first.getStore(), RoaringBitmap.bitmapOf(0));
+
+        assertSame(second, jobCatalog.getSnapshot());
+    }
+
+    @Test
+    void expire_whileRefreshing_returnsWithoutBlocking() throws Exception {
+        when(jobClient.getJobs()).thenReturn(jobs(JobFixtures.job("1")));
+        JobSnapshot first = jobCatalog.getSnapshot();
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jobClient.getJobs()).thenAnswer(invocation -> {
+            refreshing.countDown();
+            release.await();
+            return jobs(JobFixtures.job("1"));
+        });
+        Thread refresh = new Thread(jobCatalog::refresh);
+        refresh.start();
+        refreshing.await();
+
+        try {
+            assertFalse(jobCatalog.expire(first.getStore(), RoaringBitmap.bitmapOf(0)));
+            assertSame(first, jobCatalog.getSnapshot());
+        } finally {
+            release.countDown();
+            refresh.join();
+        }
+    }
+
+    @Test
+    void getSnapshot_notLoadedWithFileOnDisk_restoresWithoutCallingClient() {
+        Instant loadedAt = Instant.parse("2025-01-01T00:00:00Z");
+        when(snapshotFile.read()).thenReturn(Optional.of(
+                new JobSnapshotFile.Restored(7, loadedAt, jobs(JobFixtures.job("1"), JobFixtures.job("2")))));
+
+        JobSnapshot snapshot = jobCatalog.getSnapshot();
+
+        assertEquals(7, snapshot.getVersion());
+        assertEquals(2, snapshot.size());
+        assertEquals(loadedAt, snapshot.getLoadedAt());
+        assertTrue(jobCatalog.isStale());
+        verifyNoInteractions(jobClient);
+        verify(eventPublisher).publishEvent(any(JobCatalogRefreshedEvent.class));
+    }
+
+    @Test
+    void refresh_afterRestore_continuesVersionAndClearsStale() throws Exception {
+        when(snapshotFile.read()).thenReturn(Optional.of(
+                new JobSnapshotFile.Restored(7, Instant.now(), jobs(JobFixtures.job("1")))));
+        when(jobClient.getJobs()).thenReturn(jobs(JobFixtures.job("1")));
+        jobCatalog.restoreOnStartup();
+
+        jobCatalog.refresh();
+
+        assertEquals(8, jobCatalog.getSnapshot().getVersion());
+        assertFalse(jobCatalog.isStale());
+        verify(snapshotFile).write(jobCatalog.getSnapshot());
+    }
+
+    @Test
+    void scheduledRefresh_clientFailsAfterLoad_marksCatalogStale() {
+        when(jobClient.getJobs())
+                .thenReturn(jobs(JobFixtures.job("1")))
+                .thenThrow(new RestClientException("Service unavailable"))
+                .thenReturn(jobs(JobFixtures.job("1")));
+
+        jobCatalog.scheduledRefresh();
+        assertFalse(jobCatalog.isStale());
+        jobCatalog.scheduledRefresh();
+        assertTrue(jobCatalog.isStale());
+        jobCatalog.scheduledRefresh();
+        assertFalse(jobCatalog.isStale());
+    }
+
+    @Test
+    void refresh_snapshotFileWriteFails_keepsServingNewVersion() throws Exception {
+        when(jobClient.getJobs()).thenReturn(jobs(JobFixtures.job("1")));
+        doThrow(new IOException("disk full")).when(snapshotFile).write(any());
+
+        jobCatalog.refresh();
+
+        assertEquals(1, jobCatalog.getSnapshot().getVersion());
+    }
+}
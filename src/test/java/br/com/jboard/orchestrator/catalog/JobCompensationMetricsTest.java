@@ -0,0 +1,29 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobCompensationMetricsTest {
+
+    @Test
+    void onCatalogRefreshed_publishesParsedAndUnparsedCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JobCompensationMetrics metrics = new JobCompensationMetrics(registry);
+        List<Job> jobs = List.of(job("a"), job("b"), job("c"), job("d"));
+        jobs.get(0).setCompensationTierSummary("$90K – $120K");
+        jobs.get(1).setCompensationTierSummary("R$ 8k – 12k");
+        jobs.get(2).setCompensationTierSummary("Competitive");
+
+        metrics.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, new JobSnapshot(1, jobs, Instant.now())));
+
+        assertEquals(2, registry.get(JobCompensationMetrics.METRIC_NAME).tag("status", "parsed").gauge().value());
+        assertEquals(1, registry.get(JobCompensationMetrics.METRIC_NAME).tag("status", "unparsed").gauge().value());
+    }
+}
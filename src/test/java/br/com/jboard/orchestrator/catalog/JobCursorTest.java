@@ -0,0 +1,28 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCursorTest {
+    @Test
+    void encodeDecode_roundTrip() {
+        JobCursor cursor = new JobCursor(JobSortKey.UPDATED_AT, SortDirection.DESC, "2025-01-01T10:00:00Z", "job-1");
+
+        assertEquals(cursor, JobCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encodeDecode_nullValue_roundTrip() {
+        JobCursor cursor = new JobCursor(JobSortKey.APPLICATION_DEADLINE, SortDirection.ASC, null, "job-1");
+
+        assertEquals(cursor, JobCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_invalidCursor_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> JobCursor.decode("not a cursor!"));
+        assertThrows(BadRequestException.class, () -> JobCursor.decode("YWJj"));
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobDeduplicatorBenchmarkTest {
+    private static final int JOBS = 100_000;
+    private static final int REPOSTS = 10_000;
+    private static final String[] ROLES = {"Backend Engineer", "Frontend Developer", "Data Scientist",
+            "DevOps Engineer", "Mobile Developer", "QA Analyst", "Product Designer", "Engenheiro de Dados"};
+    private static final String[] STACKS = {"Java", "Kotlin", "Python", "Go", "React", "Node.js", "AWS", "Flutter"};
+    private static final String[] LEVELS = {"Junior", "Mid", "Senior", "Staff"};
+    private static final String[] LOCATIONS = {"Remote", "São Paulo, Brazil", "Lisbon, Portugal", "Berlin, Germany"};
+
+    private static List<Job> jobs() {
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS - REPOSTS; i++) {
+            Job job = JobFixtures.job(Integer.toString(i));
+            String level = LEVELS[random.nextInt(LEVELS.length)];
+            job.setTitle(level + " " + ROLES[random.nextInt(ROLES.length)] + " "
+                    + STACKS[random.nextInt(STACKS.length)]);
+            job.setSeniorityLevel(level);
+            job.setCompany("Company " + i);
+            job.setOfficeLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+            jobs.add(job);
+        }
+        for (int i = 0; i < REPOSTS; i++) {
+            Job original = jobs.get(random.nextInt(JOBS - REPOSTS));
+            Job repost = JobFixtures.job("r" + i);
+            repost.setTitle(original.getTitle() + " (" + original.getSeniorityLevel() + ")");
+            repost.setSeniorityLevel(original.getSeniorityLevel());
+            repost.setCompany(original.getCompany().toUpperCase());
+            repost.setOfficeLocation(original.getOfficeLocation());
+            jobs.add(repost);
+        }
+        return jobs;
+    }
+
+    @Test
+    void deduplicate_100kJobs_fitsWellWithinRefreshInterval() {
+        JobDeduplicator deduplicator = new JobDeduplicator(true, 0.8);
+        deduplicator.deduplicate(JobStore.of(jobs()));
+
+        JobStore jobs = JobStore.of(jobs());
+        long start = System.nanoTime();
+        JobStore result = deduplicator.deduplicate(jobs);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        int canonical = 0;
+        int grouped = 0;
+        for (int i = 0; i < result.size(); i++) {
+            if (result.isCanonical(i)) canonical++;
+            grouped += result.duplicates(i);
+        }
+        System.out.printf("Deduplicação de %d vagas: %d canônicas, %d duplicadas agrupadas em %d ms%n",
+                JOBS, canonical, grouped, millis);
+        assertEquals(JOBS, canonical + grouped);
+        assertTrue(grouped >= REPOSTS * 0.95, "Deveria agrupar ao menos 95% das republicações");
+        assertTrue(millis < 6_000, "Deduplicação deveria levar menos de 10% do intervalo de atualização");
+    }
+}
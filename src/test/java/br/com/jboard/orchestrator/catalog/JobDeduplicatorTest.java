@@ -0,0 +1,158 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobDeduplicatorTest {
+    private final JobDeduplicator deduplicator = new JobDeduplicator(true, 0.8);
+
+    private static Job job(String id, String title, String company, String location, String seniority,
+                           String updatedAt) {
+        Job job = JobFixtures.job(id);
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setOfficeLocation(location);
+        job.setSeniorityLevel(seniority);
+        job.setUpdatedAt(updatedAt);
+        return job;
+    }
+
+    private static JobStore store(Job... jobs) {
+        return JobStore.of(List.of(jobs));
+    }
+
+    private static List<String> canonicalIds(JobStore store) {
+        return IntStream.range(0, store.size()).filter(store::isCanonical).mapToObj(store::id).toList();
+    }
+
+    @Test
+    void deduplicate_repostedJob_keepsSmallestIdAsCanonical() {
+        JobStore jobs = store(
+                job("4", "Senior Backend Engineer Java", "Acme", "São Paulo - SP", "Senior", "2025-01-03"),
+                job("2", "Desenvolvedor Android", "Acme", "Remote", "Mid", "2025-01-02"),
+                job("13", "Senior Backend Engineer - Java", "ACME", "Sao Paulo, Brazil", "senior", "2025-01-05"),
+                job("3", "Senior Backend Engineer (Java)", "Acme", "São Paulo, Brazil", "Senior", "2025-01-01"));
+
+        JobStore result = deduplicator.deduplicate(jobs);
+
+        assertEquals(List.of("2", "3"), canonicalIds(result));
+        assertEquals(0, result.duplicates(1));
+        assertEquals(2, result.duplicates(3));
+        assertEquals(3, result.canonical(0));
+        assertEquals(3, result.canonical(2));
+    }
+
+    @Test
+    void deduplicate_sameGroupInAnotherOrder_keepsSameCanonical() {
+        Job original = job("7", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-01");
+        Job repost = job("9", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-09");
+
+        assertEquals(List.of("7"), canonicalIds(deduplicator.deduplicate(store(original, repost))));
+        assertEquals(List.of("7"), canonicalIds(deduplicator.deduplicate(store(repost, original))));
+    }
+
+    @Test
+    void deduplicate_canonicalExpiresBeforeRepost_keepsRepostLive() {
+        Job original = job("7", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-01");
+        original.setApplicationDeadline("2025-02-01");
+        Job repost = job("9", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-09");
+        repost.setApplicationDeadline("2025-03-01");
+
+        JobStore result = deduplicator.deduplicate(store(original, repost));
+        assertEquals(List.of("9"), canonicalIds(result));
+
+        JobSnapshot snapshot = new JobSnapshot(1, result, Instant.parse("2025-01-10T00:00:00Z"), null);
+        JobSnapshot afterDeadline = snapshot.withoutOrdinals(2,
+                snapshot.expiredAt(Instant.parse("2025-02-15T00:00:00Z").toEpochMilli()));
+
+        assertEquals(1, afterDeadline.size());
+        assertEquals(1, afterDeadline.ordinalOf("7"));
+        assertEquals(1, afterDeadline.ordinalOf("9"));
+    }
+
+    @Test
+    void deduplicate_repostWithoutDeadline_outlivesDatedOriginal() {
+        Job original = job("7", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-01");
+        original.setApplicationDeadline("2025-02-01");
+        Job repost = job("9", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-09");
+
+        assertEquals(List.of("9"), canonicalIds(deduplicator.deduplicate(store(original, repost))));
+    }
+
+    @Test
+    void deduplicate_doesNotMutateSourceJobs() {
+        Job original = job("1", "Backend Engineer", "Acme", "Remote", "Senior", null);
+        Job repost = job("2", "Backend Engineer", "Acme", "Remote", "Senior", null);
+
+        deduplicator.deduplicate(store(original, repost));
+
+        assertEquals(0, original.getDuplicates());
+        assertEquals(0, repost.getDuplicates());
+    }
+
+    @Test
+    void deduplicate_sameTitleAtDifferentCompanies_keepsBoth() {
+        JobStore jobs = store(
+                job("1", "Senior Backend Engineer", "Acme", "Remote", "Senior", null),
+                job("2", "Senior Backend Engineer", "Globex", "Remote", "Senior", null));
+
+        JobStore result = deduplicator.deduplicate(jobs);
+
+        assertEquals(List.of("1", "2"), canonicalIds(result));
+        assertEquals(0, result.duplicates(0) + result.duplicates(1));
+    }
+
+    @Test
+    void deduplicate_sameTitleWithDifferentSeniority_keepsBoth() {
+        JobStore jobs = store(
+                job("1", "Backend Engineer", "Acme", "Remote", "Junior", null),
+                job("2", "Backend Engineer", "Acme", "Remote", "Senior", null));
+
+        assertEquals(List.of("1", "2"), canonicalIds(deduplicator.deduplicate(jobs)));
+    }
+
+    @Test
+    void deduplicate_differentRolesAtSameCompany_keepsBoth() {
+        JobStore jobs = store(
+                job("1", "Senior Backend Engineer", "Acme", "Remote", "Senior", null),
+                job("2", "Senior Data Scientist", "Acme", "Remote", "Senior", null));
+
+        assertEquals(List.of("1", "2"), canonicalIds(deduplicator.deduplicate(jobs)));
+    }
+
+    @Test
+    void deduplicate_identicalJobs_groupsUnderSmallestId() {
+        JobStore jobs = store(
+                job("1", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-01"),
+                job("2", "Backend Engineer", "Acme", "Remote", "Senior", "2025-01-01"));
+
+        JobStore result = deduplicator.deduplicate(jobs);
+
+        assertEquals(List.of("1"), canonicalIds(result));
+        assertEquals(1, result.duplicates(0));
+    }
+
+    @Test
+    void deduplicate_jobsWithoutTitle_areNeverGrouped() {
+        JobStore jobs = store(
+                job("1", null, "Acme", "Remote", "Senior", null),
+                job("2", null, "Acme", "Remote", "Senior", null));
+
+        assertEquals(List.of("1", "2"), canonicalIds(deduplicator.deduplicate(jobs)));
+    }
+
+    @Test
+    void deduplicate_disabled_returnsInputUnchanged() {
+        JobStore jobs = store(
+                job("1", "Backend Engineer", "Acme", "Remote", "Senior", null),
+                job("2", "Backend Engineer", "Acme", "Remote", "Senior", null));
+
+        assertSame(jobs, new JobDeduplicator(false, 0.8).deduplicate(jobs));
+    }
+}
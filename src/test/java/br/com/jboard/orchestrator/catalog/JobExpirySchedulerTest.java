@@ -0,0 +1,100 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobExpirySchedulerTest {
+    private static final Instant NOW = Instant.parse("2025-02-10T12:00:00Z");
+
+    @Mock
+    JobCatalog jobCatalog;
+
+    private final List<Job> jobs = List.of(
+            job("a", null, "2025-02-10T12:00:05Z", null),
+            job("b", null, null, null),
+            job("c", null, "2025-02-10", null),
+            job("d", null, "2025-02-10T12:00:05Z", null));
+
+    private final JobSnapshot snapshot = new JobSnapshot(1, jobs, NOW);
+
+    @Test
+    void tick_expiresJobsWhoseDeadlinePassed() {
+        when(jobCatalog.expire(any(), any())).thenReturn(true);
+        JobExpiryScheduler scheduler = new JobExpiryScheduler(jobCatalog, 1000);
+        long now = NOW.toEpochMilli();
+        scheduler.schedule(snapshot, now);
+
+        scheduler.tick(now + 4_000);
+        verify(jobCatalog, never()).expire(any(), any());
+
+        scheduler.tick(now + 5_000);
+        verify(jobCatalog).expire(snapshot.getStore(), RoaringBitmap.bitmapOf(0, 3));
+
+        scheduler.tick(now + 12 * 3_600_000L);
+        verify(jobCatalog).expire(snapshot.getStore(), RoaringBitmap.bitmapOf(2));
+        verifyNoMoreInteractions(jobCatalog);
+    }
+
+    @Test
+    void schedule_sameStore_keepsExistingWheel() {
+        when(jobCatalog.expire(any(), any())).thenReturn(true);
+        JobExpiryScheduler scheduler = new JobExpiryScheduler(jobCatalog, 1000);
+        long now = NOW.toEpochMilli();
+        scheduler.schedule(snapshot, now);
+        scheduler.tick(now + 5_000);
+
+        scheduler.schedule(snapshot.withoutOrdinals(2, RoaringBitmap.bitmapOf(0, 3)), now + 5_000);
+        scheduler.tick(now + 6_000);
+
+        verify(jobCatalog, times(1)).expire(any(), any());
+    }
+
+    @Test
+    void tick_catalogBusy_retriesOnNextTick() {
+        when(jobCatalog.expire(any(), any())).thenReturn(false, true);
+        JobExpiryScheduler scheduler = new JobExpiryScheduler(jobCatalog, 1000);
+        long now = NOW.toEpochMilli();
+        scheduler.schedule(snapshot, now);
+
+        scheduler.tick(now + 5_000);
+        scheduler.tick(now + 6_000);
+
+        verify(jobCatalog, times(2)).expire(snapshot.getStore(), RoaringBitmap.bitmapOf(0, 3));
+        scheduler.tick(now + 7_000);
+        verifyNoMoreInteractions(jobCatalog);
+    }
+
+    @Test
+    void tick_catalogBusyThenNewSnapshot_dropsPendingExpiry() {
+        when(jobCatalog.expire(any(), any())).thenReturn(false);
+        JobExpiryScheduler scheduler = new JobExpiryScheduler(jobCatalog, 1000);
+        long now = NOW.toEpochMilli();
+        scheduler.schedule(snapshot, now);
+        scheduler.tick(now + 5_000);
+
+        JobSnapshot next = new JobSnapshot(2, List.of(job("b", null, null, null)), NOW);
+        scheduler.schedule(next, now + 5_000);
+        scheduler.tick(now + 6_000);
+
+        verify(jobCatalog, times(1)).expire(any(), any());
+    }
+
+    @Test
+    void tick_beforeAnySnapshot_doesNothing() {
+        new JobExpiryScheduler(jobCatalog, 1000).tick(NOW.toEpochMilli());
+
+        verifyNoInteractions(jobCatalog);
+    }
+}
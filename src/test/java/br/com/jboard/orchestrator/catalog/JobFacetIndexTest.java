@@ -0,0 +1,119 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobFacetIndexTest {
+    private final List<Job> jobs = List.of(
+            job("0", "Backend", "Senior", "Remote", "Full-time", "Acme", true),
+            job("1", "Frontend", "Junior", "Hybrid", "Full-time", "Acme", false),
+            job("2", "Backend", "Junior", "Remote", "Contract", "Globex", true),
+            job("3", "Data", "Senior", "On-site", "Full-time", "Initech", false),
+            job("4", "backend ", "Mid", "remote", "Full-time", "Globex", false));
+
+    private final JobFacetIndex index = new JobFacetIndex(JobStore.of(jobs));
+
+    private JobQueryDTO query() {
+        return new JobQueryDTO();
+    }
+
+    @Test
+    void filter_emptyFilter_returnsAllJobs() {
+        assertEquals(5, index.filter(JobFilter.empty()).getCardinality());
+    }
+
+    @Test
+    void filter_singleValue_matchesCaseAndWhitespaceInsensitive() {
+        JobQueryDTO query = query();
+        query.setField(List.of("BACKEND"));
+
+        assertEquals(RoaringBitmap.bitmapOf(0, 2, 4), index.filter(JobFilter.from(query)));
+    }
+
+    @Test
+    void filter_multipleValuesSameFacet_areOred() {
+        JobQueryDTO query = query();
+        query.setSeniorityLevel(List.of("Junior", "Mid"));
+
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 4), index.filter(JobFilter.from(query)));
+    }
+
+    @Test
+    void filter_differentFacets_areAnded() {
+        JobQueryDTO query = query();
+        query.setField(List.of("backend"));
+        query.setWorkplaceType(List.of("remote"));
+        query.setCompany(List.of("Globex"));
+
+        assertEquals(RoaringBitmap.bitmapOf(2, 4), index.filter(JobFilter.from(query)));
+    }
+
+    @Test
+    void filter_brazilianFriendly_matchesFlag() {
+        JobQueryDTO query = query();
+        query.setBrazilianFriendly(true);
+        query.setEmploymentType(List.of("Full-time"));
+
+        assertEquals(RoaringBitmap.bitmapOf(0), index.filter(JobFilter.from(query)));
+    }
+
+    @Test
+    void filter_unknownValue_returnsEmpty() {
+        JobQueryDTO query = query();
+        query.setCompany(List.of("Umbrella"));
+        query.setField(List.of("backend"));
+
+        assertTrue(index.filter(JobFilter.from(query)).isEmpty());
+    }
+
+    @Test
+    void from_blankValues_areIgnored() {
+        JobQueryDTO query = query();
+        query.setCompany(List.of(" ", ""));
+
+        assertTrue(JobFilter.from(query).isEmpty());
+    }
+
+    @Test
+    void from_equivalentQueries_produceEqualFilters() {
+        JobQueryDTO first = query();
+        first.setField(List.of("Data", "backend"));
+        JobQueryDTO second = query();
+        second.setField(List.of("BACKEND", "data", "data"));
+
+        assertEquals(JobFilter.from(first), JobFilter.from(second));
+    }
+
+    @Test
+    void count_allJobs_countsEveryFacetValue() {
+        Map<JobFacet, int[]> counts = index.count(index.getAll());
+
+        int[] fields = counts.get(JobFacet.FIELD);
+        assertEquals(3, fields.length);
+        assertEquals("Backend", index.label(JobFacet.FIELD, 0));
+        assertEquals(3, fields[0]);
+        assertEquals("Frontend", index.label(JobFacet.FIELD, 1));
+        assertEquals(1, fields[1]);
+        assertArrayEquals(new int[]{2, 3}, counts.get(JobFacet.BRAZILIAN_FRIENDLY));
+    }
+
+    @Test
+    void count_filteredJobs_countsOnlyMatches() {
+        JobQueryDTO query = query();
+        query.setCompany(List.of("acme"));
+
+        Map<JobFacet, int[]> counts = index.count(index.filter(JobFilter.from(query)));
+
+        assertArrayEquals(new int[]{1, 1, 0}, counts.get(JobFacet.FIELD));
+        assertArrayEquals(new int[]{1, 1, 0}, counts.get(JobFacet.WORKPLACE_TYPE));
+        assertArrayEquals(new int[]{2, 0}, counts.get(JobFacet.EMPLOYMENT_TYPE));
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobFilterTest {
+    private static final Instant NOW = Instant.parse("2025-02-10T12:34:56Z");
+
+    private static JobQueryDTO query(String postedWithin, String deadlineAfter) {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setPostedWithin(postedWithin);
+        query.setDeadlineAfter(deadlineAfter);
+        return query;
+    }
+
+    @Test
+    void from_postedWithin_isFlooredToTheMinute() {
+        JobFilter days = JobFilter.from(query("7d", null), NOW);
+        JobFilter iso = JobFilter.from(query("P7D", null), NOW.plusSeconds(3));
+
+        assertEquals(Instant.parse("2025-02-03T12:34:00Z").toEpochMilli(), days.getPublishedAfter());
+        assertEquals(days, iso);
+        assertFalse(days.isEmpty());
+        assertFalse(days.hasFacets());
+    }
+
+    @Test
+    void from_deadlineAfter_parsesDatesAndTimestamps() {
+        assertEquals(Instant.parse("2025-03-01T00:00:00Z").toEpochMilli(),
+                JobFilter.from(query(null, "2025-03-01"), NOW).getDeadlineAfter());
+        assertEquals(Instant.parse("2025-03-01T09:00:00Z").toEpochMilli(),
+                JobFilter.from(query(null, "2025-03-01T12:00:00+03:00"), NOW).getDeadlineAfter());
+    }
+
+    @Test
+    void from_invalidPostedWithin_throwsBadRequest() {
+        for (String postedWithin : new String[]{"7", "7w", "-1d", "0h", "PXD", "abc"}) {
+            assertThrows(BadRequestException.class, () -> JobFilter.from(query(postedWithin, null), NOW), postedWithin);
+        }
+    }
+
+    @Test
+    void from_overflowingPostedWithin_throwsBadRequest() {
+        for (String postedWithin : new String[]{"999999999999d", "9223372036854775807m", "P106751991167300D"}) {
+            assertThrows(BadRequestException.class, () -> JobFilter.from(query(postedWithin, null), NOW), postedWithin);
+        }
+    }
+
+    @Test
+    void from_invalidDeadlineAfter_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> JobFilter.from(query(null, "next week"), NOW));
+    }
+
+    @Test
+    void from_salaryRange_isAnnualizedBySalaryPeriod() {
+        JobQueryDTO yearly = new JobQueryDTO();
+        yearly.setMinSalary(120_000L);
+        JobQueryDTO monthly = new JobQueryDTO();
+        monthly.setMinSalary(10_000L);
+        monthly.setMaxSalary(15_000L);
+        monthly.setSalaryPeriod("month");
+
+        JobFilter yearlyFilter = JobFilter.from(yearly, NOW);
+        JobFilter monthlyFilter = JobFilter.from(monthly, NOW);
+
+        assertEquals(120_000L, yearlyFilter.getSalaryAtLeast());
+        assertNull(yearlyFilter.getSalaryAtMost());
+        assertFalse(yearlyFilter.isEmpty());
+        assertEquals(120_000L, monthlyFilter.getSalaryAtLeast());
+        assertEquals(180_000L, monthlyFilter.getSalaryAtMost());
+        assertNotEquals(yearlyFilter, monthlyFilter);
+    }
+
+    @Test
+    void from_invalidSalaryRange_throwsBadRequest() {
+        JobQueryDTO inverted = new JobQueryDTO();
+        inverted.setMinSalary(10L);
+        inverted.setMaxSalary(5L);
+        JobQueryDTO unknownPeriod = new JobQueryDTO();
+        unknownPeriod.setMinSalary(10L);
+        unknownPeriod.setSalaryPeriod("fortnight");
+
+        assertThrows(BadRequestException.class, () -> JobFilter.from(inverted, NOW));
+        assertThrows(BadRequestException.class, () -> JobFilter.from(unknownPeriod, NOW));
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.IsBrazilianFriendly;
+import br.com.jboard.orchestrator.models.Job;
+
+public final class JobFixtures {
+    private JobFixtures() {
+    }
+
+    public static Job job(String id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Job " + id);
+        return job;
+    }
+
+    public static Job job(String id, String publishedDate, String applicationDeadline, String updatedAt) {
+        Job job = job(id);
+        job.setPublishedDate(publishedDate);
+        job.setApplicationDeadline(applicationDeadline);
+        job.setUpdatedAt(updatedAt);
+        return job;
+    }
+
+    public static Job job(String id, String field, String seniorityLevel, String workplaceType,
+                          String employmentType, String company, boolean brazilianFriendly) {
+        Job job = job(id);
+        job.setField(field);
+        job.setSeniorityLevel(seniorityLevel);
+        job.setWorkplaceType(workplaceType);
+        job.setEmploymentType(employmentType);
+        job.setCompany(company);
+        IsBrazilianFriendly friendly = new IsBrazilianFriendly();
+        friendly.setFriendly(brazilianFriendly);
+        job.setIsBrazilianFriendly(friendly);
+        return job;
+    }
+}
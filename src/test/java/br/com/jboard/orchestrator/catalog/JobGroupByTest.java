@@ -0,0 +1,76 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobGroupByTest {
+    private static Job job(String id, String field, String seniorityLevel, String company, String publishedDate) {
+        Job job = JobFixtures.job(id, field, seniorityLevel, "Remote", "CLT", company, true);
+        job.setPublishedDate(publishedDate);
+        return job;
+    }
+
+    private final JobSnapshot snapshot = new JobSnapshot(1, List.of(
+            job("a", "Backend", "Senior", "Acme", "2025-02-03"),
+            job("b", "Backend", "Junior", "Acme", "2025-02-09"),
+            job("c", "Frontend", "Senior", "Globex", "2025-02-10"),
+            job("d", "Backend", "Senior", "Globex", null),
+            job("e", null, "Senior", "Acme", "2025-01-20")), Instant.now());
+
+    @Test
+    void count_singleFacet_countsEveryValueIncludingMissing() {
+        List<JobGroupBy.Group> groups = JobGroupBy.count(snapshot, snapshot.getLive(), List.of(JobFacet.FIELD), null);
+
+        assertEquals(3, groups.size());
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Backend"), null, 3)));
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Frontend"), null, 1)));
+        assertTrue(groups.contains(new JobGroupBy.Group(Arrays.asList((String) null), null, 1)));
+    }
+
+    @Test
+    void count_twoFacets_groupsByCombination() {
+        List<JobGroupBy.Group> groups = JobGroupBy.count(snapshot, snapshot.getLive(),
+                List.of(JobFacet.COMPANY, JobFacet.SENIORITY_LEVEL), null);
+
+        assertEquals(3, groups.size());
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Acme", "Senior"), null, 2)));
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Acme", "Junior"), null, 1)));
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Globex", "Senior"), null, 2)));
+    }
+
+    @Test
+    void count_withInterval_bucketsByPublishedDate() {
+        List<JobGroupBy.Group> groups = JobGroupBy.count(snapshot, snapshot.getLive(), List.of(JobFacet.COMPANY),
+                TimeBucket.WEEK);
+
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Acme"), "2025-02-03", 2)));
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Acme"), "2025-01-20", 1)));
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Globex"), "2025-02-10", 1)));
+        assertTrue(groups.contains(new JobGroupBy.Group(List.of("Globex"), null, 1)));
+        assertEquals(4, groups.size());
+    }
+
+    @Test
+    void count_onlyMatchingOrdinals() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setField(List.of("frontend"));
+
+        List<JobGroupBy.Group> groups = JobGroupBy.count(snapshot, snapshot.matching(JobFilter.from(query)), List.of(),
+                TimeBucket.MONTH);
+
+        assertEquals(List.of(new JobGroupBy.Group(List.of(), "2025-02", 1)), groups);
+    }
+
+    @Test
+    void count_tooManyDimensions_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> JobGroupBy.count(snapshot, snapshot.getLive(),
+                List.of(JobFacet.COMPANY, JobFacet.FIELD, JobFacet.SENIORITY_LEVEL), null));
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobIdIndexTest {
+
+    @Test
+    void ordinalOf_findsEveryId() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            jobs.add(job("job-" + i));
+        }
+        JobIdIndex index = new JobIdIndex(JobStore.of(jobs));
+
+        for (int i = 0; i < jobs.size(); i++) {
+            assertEquals(i, index.ordinalOf("job-" + i));
+        }
+        assertEquals(JobIdIndex.MISSING, index.ordinalOf("job-10000"));
+    }
+
+    @Test
+    void ordinalOf_duplicateIds_keepsFirstOrdinal() {
+        JobIdIndex index = new JobIdIndex(JobStore.of(List.of(job("a"), job("b"), job("a"))));
+
+        assertEquals(0, index.ordinalOf("a"));
+        assertEquals(1, index.ordinalOf("b"));
+    }
+
+    @Test
+    void ordinalOf_nullAndUnicodeIds() {
+        JobIdIndex index = new JobIdIndex(JobStore.of(List.of(job(null), job("vaga-são-paulo"))));
+
+        assertEquals(JobIdIndex.MISSING, index.ordinalOf(null));
+        assertEquals(1, index.ordinalOf("vaga-são-paulo"));
+        assertEquals(JobIdIndex.MISSING, index.ordinalOf("vaga-sao-paulo"));
+    }
+
+    @Test
+    void ordinalOf_emptyStore_returnsMissing() {
+        JobIdIndex index = new JobIdIndex(JobStore.of(List.of()));
+
+        assertEquals(JobIdIndex.MISSING, index.ordinalOf("a"));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobPercolatorBenchmarkTest {
+    private static final int QUERIES = 100_000;
+    private static final int DELTA = 1_000;
+    private static final String[] SKILLS = {"java", "kotlin", "python", "go", "react", "angular", "node", "aws",
+            "kubernetes", "terraform", "spark", "flutter", "swift", "rust", "scala", "php", "ruby", "dotnet",
+            "sql", "android", "ios", "vue", "django", "spring"};
+    private static final String[] ROLES = {"Backend", "Frontend", "Data", "Mobile", "DevOps", "QA"};
+    private static final String[] LEVELS = {"Junior", "Mid", "Senior", "Staff"};
+    private static final String[] WORKPLACES = {"Remote", "Hybrid", "On-site"};
+    private static final int COMPANIES = 2_000;
+
+    private static List<JobPercolator.Query> queries(Random random) {
+        List<JobPercolator.Query> queries = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            JobQueryDTO criteria = new JobQueryDTO();
+            String q = null;
+            int kind = random.nextInt(20);
+            if (kind < 6) {
+                criteria.setCompany(List.of("Company " + random.nextInt(COMPANIES)));
+            } else if (kind < 14) {
+                q = SKILLS[random.nextInt(SKILLS.length)];
+                criteria.setField(List.of(ROLES[random.nextInt(ROLES.length)]));
+            } else if (kind < 19) {
+                criteria.setField(List.of(ROLES[random.nextInt(ROLES.length)]));
+                criteria.setSeniorityLevel(List.of(LEVELS[random.nextInt(LEVELS.length)]));
+                criteria.setWorkplaceType(List.of(WORKPLACES[random.nextInt(WORKPLACES.length)]));
+            } else {
+                criteria.setMinSalary(5_000L + random.nextInt(30) * 1_000L);
+                criteria.setSalaryPeriod("month");
+                criteria.setSeniorityLevel(List.of(LEVELS[random.nextInt(LEVELS.length)]));
+            }
+            queries.add(new JobPercolator.Query("user" + i / 20, Integer.toString(i), JobFilter.from(criteria),
+                    Set.copyOf(JobTextAnalyzer.tokenize(q))));
+        }
+        return queries;
+    }
+
+    private static JobStore delta(Random random) {
+        List<Job> jobs = new ArrayList<>(DELTA);
+        for (int i = 0; i < DELTA; i++) {
+            String level = LEVELS[random.nextInt(LEVELS.length)];
+            String role = ROLES[random.nextInt(ROLES.length)];
+            Job job = JobFixtures.job(Integer.toString(i), role, level, WORKPLACES[random.nextInt(WORKPLACES.length)],
+                    "CLT", "Company " + random.nextInt(COMPANIES), random.nextBoolean());
+            job.setTitle(level + " " + role + " Engineer " + SKILLS[random.nextInt(SKILLS.length)] + " "
+                    + SKILLS[random.nextInt(SKILLS.length)]);
+            job.setOfficeLocation("São Paulo, Brazil");
+            job.setCompensationTierSummary("R$ " + (5 + random.nextInt(20)) + "k – " + (25 + random.nextInt(20)) + "k");
+            jobs.add(job);
+        }
+        return JobStore.of(jobs);
+    }
+
+    @Test
+    void percolate_100kSavedSearchesAgainst1kJobDelta_isUnderOneSecond() {
+        Random random = new Random(42);
+        JobPercolator percolator = new JobPercolator(queries(random));
+        JobStore store = delta(random);
+        int[] ordinals = IntStream.range(0, DELTA).toArray();
+
+        for (int i = 0; i < 3; i++) percolator.percolate(store, ordinals);
+
+        long start = System.nanoTime();
+        int matches = percolator.percolate(store, ordinals).size();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("Percolação de %d vagas contra %d buscas salvas: %d alertas em %d ms%n",
+                DELTA, QUERIES, matches, millis);
+        assertTrue(millis < 1_000, "Percolação deveria levar menos de 1 s");
+    }
+}
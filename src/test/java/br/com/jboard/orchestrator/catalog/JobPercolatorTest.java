@@ -0,0 +1,128 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobPercolatorTest {
+
+    private static JobPercolator.Query query(String id, String q, JobQueryDTO criteria) {
+        return new JobPercolator.Query("user", id, JobFilter.from(criteria),
+                Set.copyOf(JobTextAnalyzer.tokenize(q)));
+    }
+
+    private static JobQueryDTO criteria() {
+        return new JobQueryDTO();
+    }
+
+    private static JobStore store() {
+        Job java = job("1", "Backend", "Senior", "Remote", "CLT", "Acme", true);
+        java.setTitle("Desenvolvedor Java");
+        java.setCompensationTierSummary("R$ 10k – 15k");
+        Job react = job("2", "Frontend", "Junior", "Hybrid", "PJ", "Globex", false);
+        react.setTitle("Frontend React");
+        return JobStore.of(List.of(java, react));
+    }
+
+    private static List<String> matches(JobPercolator percolator, JobStore store, int... ordinals) {
+        return percolator.percolate(store, ordinals).stream()
+                .map(match -> match.query().getId() + "@" + store.id(match.ordinal()))
+                .sorted()
+                .toList();
+    }
+
+    @Test
+    void percolate_keywordQueries_matchAnyTermInTitleCompanyFieldOrLocation() {
+        JobPercolator percolator = new JobPercolator(List.of(
+                query("java", "java", criteria()),
+                query("react-or-kotlin", "React Kotlin", criteria()),
+                query("acme", "acme", criteria()),
+                query("python", "python", criteria())));
+
+        assertEquals(List.of("acme@1", "java@1", "react-or-kotlin@2"), matches(percolator, store(), 0, 1));
+    }
+
+    @Test
+    void percolate_facetQueries_requireEveryFacet() {
+        JobQueryDTO senior = criteria();
+        senior.setSeniorityLevel(List.of("SENIOR", "Pleno"));
+        JobQueryDTO seniorFrontend = criteria();
+        seniorFrontend.setSeniorityLevel(List.of("Senior"));
+        seniorFrontend.setField(List.of("Frontend"));
+        JobQueryDTO globex = criteria();
+        globex.setCompany(List.of("globex"));
+        JobPercolator percolator = new JobPercolator(List.of(
+                query("senior", null, senior),
+                query("senior-frontend", null, seniorFrontend),
+                query("globex", null, globex)));
+
+        assertEquals(List.of("globex@2", "senior@1"), matches(percolator, store(), 0, 1));
+    }
+
+    @Test
+    void percolate_keywordAndFacets_mustBothMatch() {
+        JobQueryDTO remote = criteria();
+        remote.setWorkplaceType(List.of("Remote"));
+        JobPercolator percolator = new JobPercolator(List.of(
+                query("remote-java", "java", remote),
+                query("remote-react", "react", remote)));
+
+        assertEquals(List.of("remote-java@1"), matches(percolator, store(), 0, 1));
+    }
+
+    @Test
+    void percolate_salaryOnlyQueries_areEvaluatedForEveryJob() {
+        JobQueryDTO wellPaid = criteria();
+        wellPaid.setMinSalary(12_000L);
+        wellPaid.setSalaryPeriod("month");
+        JobQueryDTO tooHigh = criteria();
+        tooHigh.setMinSalary(20_000L);
+        tooHigh.setSalaryPeriod("month");
+        JobPercolator percolator = new JobPercolator(List.of(
+                query("well-paid", null, wellPaid),
+                query("too-high", null, tooHigh)));
+
+        assertEquals(List.of("well-paid@1"), matches(percolator, store(), 0, 1));
+    }
+
+    @Test
+    void percolate_onlyEvaluatesGivenOrdinals() {
+        JobPercolator percolator = new JobPercolator(List.of(query("java", "java", criteria())));
+
+        assertTrue(matches(percolator, store(), 1).isEmpty());
+    }
+
+    @Test
+    void percolate_multiValuedFacets_matchAnyCombination() {
+        JobQueryDTO remoteOrHybrid = criteria();
+        remoteOrHybrid.setWorkplaceType(List.of("Remote", "Hybrid"));
+        remoteOrHybrid.setEmploymentType(List.of("CLT", "PJ"));
+        remoteOrHybrid.setField(List.of("Backend", "Frontend"));
+        JobQueryDTO remoteData = criteria();
+        remoteData.setWorkplaceType(List.of("Remote", "Hybrid"));
+        remoteData.setField(List.of("Data"));
+        JobPercolator percolator = new JobPercolator(List.of(
+                query("remote-or-hybrid", null, remoteOrHybrid),
+                query("remote-data", null, remoteData)));
+
+        assertEquals(List.of("remote-or-hybrid@1", "remote-or-hybrid@2"), matches(percolator, store(), 0, 1));
+    }
+
+    @Test
+    void percolate_postedWithin_isEvaluatedAgainstPercolationTime() {
+        JobQueryDTO recent = criteria();
+        recent.setPostedWithin("2d");
+        JobPercolator percolator = new JobPercolator(List.of(query("recent", "", recent)));
+        JobStore store = JobStore.of(List.of(job("1", "2025-02-09", null, null)));
+
+        assertEquals(1, percolator.percolate(store, new int[]{0}, Instant.parse("2025-02-10T12:00:00Z")).size());
+        assertEquals(0, percolator.percolate(store, new int[]{0}, Instant.parse("2025-02-12T12:00:00Z")).size());
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobSalaryRangeBenchmarkTest {
+    private static final int JOBS = 100_000;
+    private static final String[] FORMATS = {"R$ %dk – %dk", "$%dK – $%dK", "€%dk-€%dk", "USD %d,000 - %d,000"};
+
+    private static List<Job> jobs() {
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            Job job = JobFixtures.job(Integer.toString(i));
+            int low = 5 + random.nextInt(150);
+            String format = FORMATS[random.nextInt(FORMATS.length)];
+            job.setCompensationTierSummary(random.nextInt(10) == 0 ? "A combinar" : format.formatted(low, low + 5 + random.nextInt(40)));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    @Test
+    void range_100kJobs_isSubMillisecond() {
+        JobStore store = JobStore.of(jobs());
+        JobSortIndex index = new JobSortIndex(store);
+
+        long expected = 0;
+        for (int ordinal = 0; ordinal < JOBS; ordinal++) {
+            long max = store.annualSalaryMax(ordinal);
+            if (max != JobDates.MISSING && max >= 100_000 && max < 150_000) expected++;
+        }
+
+        for (int i = 0; i < 1_000; i++) index.range(JobSortKey.SALARY, 100_000, 150_000);
+
+        int runs = 5_000;
+        long start = System.nanoTime();
+        RoaringBitmap matches = null;
+        for (int i = 0; i < runs; i++) matches = index.range(JobSortKey.SALARY, 100_000, 150_000);
+        double micros = (System.nanoTime() - start) / 1_000.0 / runs;
+
+        System.out.printf("Faixa salarial sobre %d vagas (%d resultados): %.1f µs por consulta%n", JOBS, expected, micros);
+        assertEquals(expected, matches.getLongCardinality());
+        assertTrue(micros < 1_000, "Consulta por faixa salarial deveria levar menos de 1 ms");
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchIndexTest {
+    private static Job searchable(String id, String title, String company, String field, String location) {
+        Job job = job(id);
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setField(field);
+        job.setOfficeLocation(location);
+        return job;
+    }
+
+    private final List<Job> jobs = List.of(
+            searchable("0", "Desenvolvedor Java Sênior", "Acme", "Backend", "Remote"),
+            searchable("1", "Senior Python Engineer", "Globex", "Data", "São Paulo"),
+            searchable("2", "Java Developer", "Initech", "Backend", "Remote - Brazil"),
+            searchable("3", "Frontend Engineer", "Acme", "Frontend", "Lisboa"));
+
+    private final JobSearchIndex index = new JobSearchIndex(JobStore.of(jobs), null);
+    private final RoaringBitmap all = RoaringBitmap.bitmapOfRange(0, jobs.size());
+
+    private List<Integer> ordinals(JobSearchResult result) {
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = 0; i < result.size(); i++) ordinals.add(result.ordinal(i));
+        return ordinals;
+    }
+
+    @Test
+    void search_ranksDocumentsMatchingMoreTermsFirst() {
+        JobSearchResult result = index.search("java senior remote", all);
+
+        assertEquals(List.of(0, 2, 1), ordinals(result));
+        assertTrue(result.score(0) > result.score(1));
+        assertTrue(result.score(1) > result.score(2));
+    }
+
+    @Test
+    void search_isAccentAndCaseInsensitive() {
+        assertEquals(List.of(1), ordinals(index.search("SAO PAULO", all)));
+        assertEquals(List.of(0, 1), ordinals(index.search("sênior", all)));
+    }
+
+    @Test
+    void search_respectsCandidateBitmap() {
+        assertEquals(List.of(2), ordinals(index.search("java", RoaringBitmap.bitmapOf(1, 2, 3))));
+    }
+
+    @Test
+    void search_unknownTerm_returnsEmpty() {
+        assertEquals(0, index.search("cobol", all).size());
+    }
+
+    @Test
+    void search_manyMatches_ranksEveryCandidate() {
+        List<Job> many = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            many.add(searchable(String.valueOf(i), "Java Developer", "Acme", "Backend", "Remote"));
+        }
+        JobSearchIndex large = new JobSearchIndex(JobStore.of(many), null);
+
+        List<Integer> ordinals = ordinals(large.search("java", RoaringBitmap.bitmapOfRange(0, 1000)));
+
+        assertEquals(1000, ordinals.size());
+        for (int i = 0; i < ordinals.size(); i++) assertEquals(i, ordinals.get(i));
+    }
+
+    @Test
+    void search_idfIgnoresRowsOutsideLiveSet() {
+        RoaringBitmap live = RoaringBitmap.bitmapOf(0, 1, 3);
+
+        float withDeadRow = index.search("java", all).score(0);
+        float liveOnly = index.search("java", live, live).score(0);
+
+        assertTrue(liveOnly > withDeadRow);
+        assertEquals(List.of(0), ordinals(index.search("java", live, live)));
+    }
+
+    @Test
+    void rebuild_withPreviousIndex_reflectsChangedDocuments() {
+        List<Job> changed = new ArrayList<>(jobs);
+        changed.set(3, searchable("3", "Java Frontend Engineer", "Acme", "Frontend", "Lisboa"));
+
+        JobSearchIndex rebuilt = new JobSearchIndex(JobStore.of(changed), index);
+
+        assertEquals(List.of(3), ordinals(rebuilt.search("lisboa", all)));
+        assertEquals(3, rebuilt.search("java", all).size());
+        assertEquals(2, index.search("java", all).size());
+    }
+
+    @Test
+    void positionAfter_resumesAfterCursorJob() {
+        JobSearchResult result = index.search("java senior remote", all);
+
+        int position = result.positionAfter(result.score(0), "0", JobStore.of(jobs)::id);
+
+        assertEquals(1, position);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobSkillIndexBenchmarkTest {
+    private static final int JOBS = 100_000;
+    private static final String[] STACKS = {"Java", "Python", "Go", "Kotlin", "React", "Node.js", "C#", "Ruby", "Rust", "PHP"};
+    private static final String[] ROLES = {"Developer", "Engineer", "Desenvolvedor", "Tech Lead", "Architect"};
+    private static final String[] FIELDS = {"Backend", "Frontend", "Data", "Mobile", "DevOps", "QA"};
+    private static final List<String> SKILLS = List.of("java", "spring boot", "kotlin", "aws", "postgresql", "docker");
+
+    private static List<Job> jobs() {
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            Job job = JobFixtures.job(Integer.toString(i));
+            job.setTitle(STACKS[random.nextInt(STACKS.length)] + " " + ROLES[random.nextInt(ROLES.length)]
+                    + (random.nextInt(4) == 0 ? " Spring Boot" : "") + (random.nextInt(5) == 0 ? " AWS" : ""));
+            job.setField(FIELDS[random.nextInt(FIELDS.length)]);
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    @Test
+    void rank_100kJobs_takesAFewMilliseconds() {
+        JobStore store = JobStore.of(jobs());
+        JobSkillIndex index = new JobSkillIndex(store);
+        RoaringBitmap all = RoaringBitmap.bitmapOfRange(0, JOBS);
+
+        for (int i = 0; i < 200; i++) index.rank(SKILLS, all, 50);
+
+        int runs = 500;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) assertEquals(50, index.rank(SKILLS, all, 50).size());
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / runs;
+
+        System.out.printf("Ranking de %d vagas: %.3f ms por requisição%n", JOBS, millis);
+        assertTrue(millis < 10, "Ranking deveria levar poucos milissegundos");
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSkillIndexTest {
+    private static Job job(String id, String title, String field) {
+        Job job = JobFixtures.job(id);
+        job.setTitle(title);
+        job.setField(field);
+        return job;
+    }
+
+    private final List<Job> jobs = List.of(
+            job("0", "Desenvolvedor Java Sênior", "Backend"),
+            job("1", "Python Data Engineer", "Data"),
+            job("2", "Engenheiro de Software", "Java Backend"),
+            job("3", "Java Spring Boot Developer", "Backend"),
+            job("4", "Frontend Engineer", "Frontend"));
+
+    private final JobSkillIndex index = new JobSkillIndex(JobStore.of(jobs));
+    private final RoaringBitmap all = RoaringBitmap.bitmapOfRange(0, jobs.size());
+
+    private List<Integer> ordinals(JobSearchResult result) {
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = 0; i < result.size(); i++) ordinals.add(result.ordinal(i));
+        return ordinals;
+    }
+
+    @Test
+    void rank_titleMatchesOutscoreFieldMatches() {
+        JobSearchResult result = index.rank(List.of("Java"), all, 10);
+
+        assertEquals(List.of(0, 3, 2), ordinals(result));
+        assertTrue(result.score(1) > result.score(2));
+        assertEquals(3, result.total());
+    }
+
+    @Test
+    void rank_multiWordSkillRequiresAllTerms() {
+        assertEquals(List.of(3), ordinals(index.rank(List.of("spring boot"), all, 10)));
+        assertEquals(List.of(), ordinals(index.rank(List.of("spring python"), all, 10)));
+    }
+
+    @Test
+    void rank_moreMatchedSkillsRankHigher() {
+        JobSearchResult result = index.rank(List.of("java", "Spring Boot", "backend"), all, 10);
+
+        assertEquals(3, result.ordinal(0));
+    }
+
+    @Test
+    void rank_limitKeepsBestMatchesAndReportsTotal() {
+        JobSearchResult result = index.rank(List.of("java", "engineer"), all, 2);
+
+        assertEquals(2, result.size());
+        assertEquals(5, result.total());
+        assertTrue(result.score(0) >= result.score(1));
+    }
+
+    @Test
+    void rank_respectsCandidatesAndIgnoresUnknownSkills() {
+        JobSearchResult result = index.rank(List.of("java", "cobol", " "), RoaringBitmap.bitmapOf(2, 4), 10);
+
+        assertEquals(List.of(2), ordinals(result));
+    }
+}
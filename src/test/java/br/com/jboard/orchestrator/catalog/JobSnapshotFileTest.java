@@ -0,0 +1,115 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSnapshotFileTest {
+    @TempDir
+    Path directory;
+
+    private JobSnapshotFile file() {
+        return new JobSnapshotFile(directory.resolve("catalog/jobs.bin").toString());
+    }
+
+    @Test
+    void writeThenRead_roundTripsLiveJobs() throws IOException {
+        Job friendly = job("1", "Backend", "Sênior", "Remoto", "CLT", "Acme", true);
+        friendly.getIsBrazilianFriendly().setReason("Contrata no Brasil ✓");
+        Job unknown = job("2", "2025-01-01", "2999-01-01", "2025-01-02");
+        Job expired = job("3");
+        Instant loadedAt = Instant.parse("2025-02-10T12:00:00Z");
+        JobStore source = JobStore.of(List.of(friendly, job("1b"), unknown, expired, job("3b"), job("1c")))
+                .withCanonical(new int[]{0, 0, 2, 3, 3, 0});
+        JobSnapshot snapshot = new JobSnapshot(5, source, loadedAt, null)
+                .withoutOrdinals(6, RoaringBitmap.bitmapOf(3));
+
+        JobSnapshotFile file = file();
+        file.write(snapshot);
+        JobSnapshotFile.Restored restored = file.read().orElseThrow();
+
+        assertEquals(6, restored.version());
+        assertEquals(loadedAt, restored.loadedAt());
+        JobStore store = restored.store();
+        assertEquals(4, store.size());
+        assertEquals(List.of("1", "1b", "2", "1c"), List.of(store.id(0), store.id(1), store.id(2), store.id(3)));
+        assertEquals("Sênior", store.seniorityLevel(0));
+        assertEquals("true", store.brazilianFriendlyValue(0));
+        assertEquals("Contrata no Brasil ✓", store.brazilianFriendlyReason(0));
+        assertEquals(2, store.duplicates(0));
+        assertEquals(0, store.canonical(3));
+        assertEquals(0, store.duplicates(2));
+        assertEquals("2999-01-01", store.applicationDeadline(2));
+        assertNull(store.brazilianFriendlyValue(2));
+        assertNull(store.url(2));
+    }
+
+    @Test
+    void read_missingFile_returnsEmpty() {
+        assertTrue(file().read().isEmpty());
+    }
+
+    @Test
+    void read_corruptedFile_returnsEmpty() throws IOException {
+        JobSnapshotFile file = file();
+        file.write(new JobSnapshot(1, List.of(job("1"), job("2")), Instant.now()));
+        Path path = directory.resolve("catalog/jobs.bin");
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 12] ^= 1;
+        Files.write(path, bytes);
+
+        assertTrue(file.read().isEmpty());
+    }
+
+    @Test
+    void read_truncatedFile_returnsEmpty() throws IOException {
+        JobSnapshotFile file = file();
+        file.write(new JobSnapshot(1, List.of(job("1"), job("2")), Instant.now()));
+        Path path = directory.resolve("catalog/jobs.bin");
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 20));
+
+        assertTrue(file.read().isEmpty());
+    }
+
+    @Test
+    void read_anyCorruptedRowByte_returnsEmpty() throws IOException {
+        JobSnapshotFile file = file();
+        Job job = job("1", "Backend", "Senior", "Remote", "CLT", "Acme", true);
+        job.setDuplicates(1);
+        file.write(new JobSnapshot(1, List.of(job, job("2")), Instant.now()));
+        Path path = directory.resolve("catalog/jobs.bin");
+        byte[] original = Files.readAllBytes(path);
+
+        for (int position = 28; position < original.length - 8; position++) {
+            byte[] bytes = original.clone();
+            bytes[position] ^= (byte) 0x80;
+            Files.write(path, bytes);
+
+            assertTrue(file.read().isEmpty(), "byte " + position);
+        }
+    }
+
+    @Test
+    void read_implausibleCount_returnsEmpty() throws IOException {
+        JobSnapshotFile file = file();
+        file.write(new JobSnapshot(1, List.of(job("1")), Instant.now()));
+        Path path = directory.resolve("catalog/jobs.bin");
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[24] = 0x7F;
+        Files.write(path, bytes);
+
+        assertTrue(file.read().isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSnapshotTest {
+    private static final Instant NOW = Instant.parse("2025-02-10T12:00:00Z");
+
+    private final List<Job> jobs = List.of(
+            job("a", "2025-02-09", "2025-03-01", null),
+            job("b", "2025-01-01", null, null),
+            job("c", null, "2025-02-10", null),
+            job("d", "2025-02-10T08:00:00Z", "2025-02-10T11:00:00Z", null));
+
+    private final JobSnapshot snapshot = new JobSnapshot(1, jobs, NOW);
+
+    private static JobFilter filter(String postedWithin, String deadlineAfter) {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setPostedWithin(postedWithin);
+        query.setDeadlineAfter(deadlineAfter);
+        return JobFilter.from(query, NOW);
+    }
+
+    @Test
+    void expiredAt_dateOnlyDeadlineExpiresAtEndOfDay() {
+        assertEquals(RoaringBitmap.bitmapOf(3), snapshot.expiredAt(NOW.toEpochMilli()));
+        assertEquals(RoaringBitmap.bitmapOf(2, 3), snapshot.expiredAt(Instant.parse("2025-02-11T00:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void withoutOrdinals_sharesIndexesAndHidesRemovedJobs() {
+        JobSnapshot next = snapshot.withoutOrdinals(2, RoaringBitmap.bitmapOf(3));
+
+        assertEquals(2, next.getVersion());
+        assertEquals(3, next.size());
+        assertFalse(next.isFullyLive());
+        assertFalse(next.isLive(3));
+        assertSame(snapshot.getStore(), next.getStore());
+        assertSame(snapshot.getSortIndex(), next.getSortIndex());
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2), next.matching(JobFilter.empty()));
+    }
+
+    @Test
+    void matching_postedWithin_usesPublishedDateRange() {
+        assertEquals(RoaringBitmap.bitmapOf(0, 3), snapshot.matching(filter("2d", null)));
+        assertEquals(RoaringBitmap.bitmapOf(3), snapshot.matching(filter("PT12H", null)));
+    }
+
+    @Test
+    void matching_deadlineAfter_excludesMissingDeadlines() {
+        assertEquals(RoaringBitmap.bitmapOf(0, 2, 3), snapshot.matching(filter(null, "2025-02-09")));
+        assertEquals(RoaringBitmap.bitmapOf(0), snapshot.matching(filter("7d", "2025-02-10T12:00:00Z")));
+    }
+
+    @Test
+    void ordinalOf_hidesRemovedJobs() {
+        JobSnapshot next = snapshot.withoutOrdinals(2, RoaringBitmap.bitmapOf(1));
+
+        assertEquals(1, snapshot.ordinalOf("b"));
+        assertEquals(-1, next.ordinalOf("b"));
+        assertEquals(2, next.ordinalOf("c"));
+        assertEquals(-1, next.ordinalOf("z"));
+    }
+
+    @Test
+    void ordinalOf_duplicateId_resolvesToLiveCanonical() {
+        JobSnapshot deduplicated = new JobSnapshot(2, JobStore.of(jobs).withCanonical(new int[]{0, 0, 2, 2}), NOW, null);
+
+        assertEquals(2, deduplicated.size());
+        assertFalse(deduplicated.isLive(1));
+        assertEquals(0, deduplicated.ordinalOf("b"));
+        assertEquals(2, deduplicated.ordinalOf("d"));
+        assertEquals(-1, deduplicated.withoutOrdinals(3, RoaringBitmap.bitmapOf(0)).ordinalOf("b"));
+    }
+}
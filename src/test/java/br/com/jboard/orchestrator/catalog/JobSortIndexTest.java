@@ -0,0 +1,64 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSortIndexTest {
+    private final List<Job> jobs = List.of(
+            job("a", "2025-01-02", "2025-03-01", "2025-01-05"),
+            job("b", "2025-01-01", null, "2025-01-06"),
+            job("c", null, "2025-02-01", "2025-01-04"),
+            job("d", "2025-01-03", "2025-02-15", null));
+
+    private final JobSortIndex index = new JobSortIndex(JobStore.of(jobs));
+
+    @Test
+    void ordering_ascending_keepsNullsLast() {
+        assertArrayEquals(new int[]{1, 0, 3, 2}, index.ordering(JobSortKey.PUBLISHED_DATE, SortDirection.ASC));
+        assertArrayEquals(new int[]{2, 3, 0, 1}, index.ordering(JobSortKey.APPLICATION_DEADLINE, SortDirection.ASC));
+    }
+
+    @Test
+    void ordering_descending_keepsNullsLast() {
+        assertArrayEquals(new int[]{3, 0, 1, 2}, index.ordering(JobSortKey.PUBLISHED_DATE, SortDirection.DESC));
+        assertArrayEquals(new int[]{1, 0, 2, 3}, index.ordering(JobSortKey.UPDATED_AT, SortDirection.DESC));
+    }
+
+    @Test
+    void positionAfter_existingCursor_returnsNextPosition() {
+        JobCursor cursor = new JobCursor(JobSortKey.PUBLISHED_DATE, SortDirection.DESC, "1735776000000", "a");
+
+        assertEquals(2, index.positionAfter(cursor));
+    }
+
+    @Test
+    void positionAfter_cursorForRemovedJob_resumesAtSameSortPosition() {
+        JobCursor cursor = new JobCursor(JobSortKey.PUBLISHED_DATE, SortDirection.ASC, "1735732800000", "gone");
+
+        assertEquals(1, index.positionAfter(cursor));
+    }
+
+    @Test
+    void positionAfter_cursorOnNullValue_resumesAmongNulls() {
+        JobCursor cursor = new JobCursor(JobSortKey.PUBLISHED_DATE, SortDirection.ASC, null, "b");
+
+        assertEquals(3, index.positionAfter(cursor));
+    }
+
+    @Test
+    void range_returnsOrdinalsWithinBoundsExcludingMissing() {
+        long jan2 = 1735776000000L;
+        long feb15 = 1739577600000L;
+
+        assertEquals(RoaringBitmap.bitmapOf(0, 3), index.range(JobSortKey.PUBLISHED_DATE, jan2, Long.MAX_VALUE));
+        assertEquals(RoaringBitmap.bitmapOf(0, 3), index.range(JobSortKey.APPLICATION_DEADLINE, feb15, Long.MAX_VALUE));
+        assertEquals(RoaringBitmap.bitmapOf(2), index.range(JobSortKey.APPLICATION_DEADLINE, 0, feb15));
+        assertTrue(index.range(JobSortKey.UPDATED_AT, Long.MAX_VALUE - 1, Long.MAX_VALUE).isEmpty());
+    }
+}
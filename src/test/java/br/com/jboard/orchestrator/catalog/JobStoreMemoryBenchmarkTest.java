@@ -0,0 +1,84 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.IsBrazilianFriendly;
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobStoreMemoryBenchmarkTest {
+    private static final int JOBS = 100_000;
+    private static final String[] FIELDS = {"Backend", "Frontend", "Data", "Mobile", "DevOps", "QA"};
+    private static final String[] SENIORITIES = {"Junior", "Pleno", "Senior", "Staff"};
+    private static final String[] WORKPLACES = {"Remote", "Hybrid", "On-site"};
+    private static final String[] EMPLOYMENTS = {"Full-time", "Contract", "Internship"};
+    private static final String[] LOCATIONS = {"São Paulo", "Rio de Janeiro", "Lisboa", "Remote", "Belo Horizonte"};
+
+    private static List<Job> jobs() {
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            String id = UUID.nameUUIDFromBytes(Integer.toString(i).getBytes()).toString();
+            Job job = new Job();
+            job.setId(id);
+            job.setTitle(copy(SENIORITIES[random.nextInt(SENIORITIES.length)] + " Software Engineer " + i));
+            job.setUpdatedAt(copy("2025-02-%02dT10:00:00Z".formatted(1 + random.nextInt(28))));
+            job.setEmploymentType(copy(EMPLOYMENTS[random.nextInt(EMPLOYMENTS.length)]));
+            job.setPublishedDate(copy("2025-01-%02d".formatted(1 + random.nextInt(31))));
+            job.setApplicationDeadline(copy("2025-03-%02d".formatted(1 + random.nextInt(31))));
+            job.setCompensationTierSummary(copy("R$ %dk – %dk".formatted(5 + random.nextInt(10), 15 + random.nextInt(10))));
+            job.setWorkplaceType(copy(WORKPLACES[random.nextInt(WORKPLACES.length)]));
+            job.setOfficeLocation(copy(LOCATIONS[random.nextInt(LOCATIONS.length)]));
+            job.setCompany(copy("Company " + random.nextInt(3_000)));
+            job.setUrl("https://jobs.example.com/" + id);
+            job.setSeniorityLevel(copy(SENIORITIES[random.nextInt(SENIORITIES.length)]));
+            job.setField(copy(FIELDS[random.nextInt(FIELDS.length)]));
+            IsBrazilianFriendly friendly = new IsBrazilianFriendly();
+            friendly.setFriendly(random.nextBoolean());
+            friendly.setReason(copy("Aceita contratação no Brasil"));
+            job.setIsBrazilianFriendly(friendly);
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long retainedBytes(Supplier<Object> factory) {
+        long before = usedHeap();
+        Object retained = factory.get();
+        long after = usedHeap();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    @Test
+    void columnarStore_usesSeveralTimesLessHeapThanJobList() {
+        long listBytes = retainedBytes(JobStoreMemoryBenchmarkTest::jobs);
+        long storeBytes = retainedBytes(() -> JobStore.of(jobs()));
+
+        System.out.printf("List<Job>: %,d bytes (%d B/vaga)%n", listBytes, listBytes / JOBS);
+        System.out.printf("JobStore:  %,d bytes (%d B/vaga, estimado %d B/vaga)%n",
+                storeBytes, storeBytes / JOBS, JobStore.of(jobs()).estimatedBytes() / JOBS);
+        assertTrue(storeBytes * 2 < listBytes, "JobStore deveria ocupar menos da metade da lista de vagas");
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobStoreTest {
+
+    private Job fullJob(String id, String company, boolean friendly) {
+        Job job = job(id, "Backend", "Senior", "Remote", "Full-time", company, friendly);
+        job.setTitle("Dev Java Sênior " + id);
+        job.setUpdatedAt("2025-01-05T12:30:00Z");
+        job.setPublishedDate("2025-01-01");
+        job.setApplicationDeadline("2025-02-01T00:00:00-03:00");
+        job.setCompensationTierSummary("R$ 8k – 12k");
+        job.setOfficeLocation("São Paulo");
+        job.setUrl("https://jobs.example.com/" + id);
+        job.getIsBrazilianFriendly().setReason("Contrata no Brasil");
+        return job;
+    }
+
+    @Test
+    void job_materializesEqualCopy() {
+        Job source = fullJob("1", "Acme", true);
+        JobStore store = JobStore.of(List.of(source));
+
+        Job copy = store.job(0);
+
+        assertNotSame(source, copy);
+        assertEquals(JobContentHash.of(store, 0), JobContentHash.of(JobStore.of(List.of(copy)), 0));
+        assertEquals("Dev Java Sênior 1", copy.getTitle());
+        assertEquals("R$ 8k – 12k", copy.getCompensationTierSummary());
+        assertTrue(copy.getIsBrazilianFriendly().isFriendly());
+        assertEquals("Contrata no Brasil", copy.getIsBrazilianFriendly().getReason());
+    }
+
+    @Test
+    void builder_growsPastInitialCapacity() {
+        JobStore.Builder builder = new JobStore.Builder(1);
+        for (int i = 0; i < 100; i++) builder.add(fullJob(String.valueOf(i), i % 2 == 0 ? "Acme" : "Globex", true));
+
+        JobStore store = builder.build();
+
+        assertEquals(100, store.size());
+        assertEquals("99", store.id(99));
+        assertEquals("Globex", store.company(99));
+        assertEquals("Dev Java Sênior 42", store.title(42));
+        assertEquals(2, store.getCompanies().cardinality());
+    }
+
+    @Test
+    void withCanonical_countsDuplicatesOnCanonicalRows() {
+        JobStore store = JobStore.of(List.of(fullJob("1", "Acme", true), fullJob("2", "Acme", true),
+                fullJob("3", "Acme", true)));
+
+        JobStore deduplicated = store.withCanonical(new int[]{1, 1, 2});
+
+        assertEquals(1, deduplicated.duplicates(1));
+        assertEquals(0, deduplicated.duplicates(0));
+        assertFalse(deduplicated.isCanonical(0));
+        assertTrue(deduplicated.isCanonical(2));
+        assertEquals(1, deduplicated.canonical(0));
+        assertTrue(store.isCanonical(0));
+    }
+
+    @Test
+    void dictionaryColumns_shareValuesAcrossJobs() {
+        JobStore store = JobStore.of(List.of(
+                fullJob("1", new String("Acme"), true),
+                fullJob("2", new String("Acme"), false),
+                fullJob("3", "Globex", false)));
+
+        assertSame(store.company(0), store.company(1));
+        assertEquals(2, store.getCompanies().cardinality());
+        assertEquals(store.getCompanies().code(0), store.getCompanies().code(1));
+        assertEquals(1, store.getFields().cardinality());
+    }
+
+    @Test
+    void nullValues_roundTrip() {
+        JobStore store = JobStore.of(List.of(new Job()));
+
+        Job copy = store.job(0);
+
+        assertNull(copy.getId());
+        assertNull(copy.getTitle());
+        assertNull(copy.getCompany());
+        assertNull(copy.getIsBrazilianFriendly());
+        assertNull(store.brazilianFriendlyValue(0));
+        assertTrue(store.getIds().isNull(0));
+        assertEquals(JobDates.MISSING, store.publishedDateMillis(0));
+    }
+
+    @Test
+    void dateColumns_holdEpochMillis() {
+        JobStore store = JobStore.of(List.of(fullJob("1", "Acme", true)));
+
+        assertEquals(1735689600000L, store.publishedDateMillis(0));
+        assertEquals(1736080200000L, store.updatedAtMillis(0));
+        assertEquals(1738378800000L, store.applicationDeadlineMillis(0));
+    }
+
+    @Test
+    void toEpochMillis_unparseable_isMissing() {
+        assertEquals(JobDates.MISSING, JobDates.toEpochMillis("em breve"));
+        assertEquals(JobDates.MISSING, JobDates.toEpochMillis(" "));
+        assertEquals(1735776000000L, JobDates.toEpochMillis("2025-01-02T00:00:00"));
+    }
+
+    @Test
+    void compensation_isParsedOncePerDistinctSummary() {
+        Job unparsed = fullJob("3", "Acme", true);
+        unparsed.setCompensationTierSummary("A combinar");
+        Job missing = fullJob("4", "Acme", true);
+        missing.setCompensationTierSummary(null);
+        JobStore store = JobStore.of(List.of(fullJob("1", "Acme", true), fullJob("2", "Acme", true), unparsed, missing));
+
+        assertSame(store.compensation(0), store.compensation(1));
+        assertEquals(new Compensation(8_000, 12_000, "BRL", CompensationPeriod.MONTH), store.compensation(0));
+        assertEquals(144_000, store.annualSalaryMax(0));
+        assertEquals("BRL", store.salaryCurrency(0));
+        assertEquals(JobDates.MISSING, store.annualSalaryMin(2));
+        assertNull(store.compensation(3));
+        assertEquals(2, store.parsedCompensations());
+        assertEquals(1, store.unparsedCompensations());
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTextAnalyzerTest {
+    @Test
+    void tokenize_foldsAccentsAndCase() {
+        assertEquals(List.of("desenvolvedor", "java", "senior", "sao", "paulo"),
+                JobTextAnalyzer.tokenize("Desenvolvedor JAVA Sênior - São Paulo"));
+    }
+
+    @Test
+    void tokenize_dropsPortugueseAndEnglishStopWords() {
+        assertEquals(List.of("engenheiro", "dados", "head", "engineering"),
+                JobTextAnalyzer.tokenize("Engenheiro de Dados / Head of Engineering"));
+    }
+
+    @Test
+    void tokenize_keepsLanguageSymbols() {
+        assertEquals(List.of("c++", "c#", "node", "js"), JobTextAnalyzer.tokenize("C++, C# & Node.js"));
+    }
+
+    @Test
+    void tokenize_nullOrBlank_returnsEmpty() {
+        assertTrue(JobTextAnalyzer.tokenize(null).isEmpty());
+        assertTrue(JobTextAnalyzer.tokenize("  - / ").isEmpty());
+    }
+}
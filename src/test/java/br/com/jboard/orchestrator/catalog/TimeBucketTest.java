@@ -0,0 +1,48 @@
+package br.com.jboard.orchestrator.catalog;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeBucketTest {
+    private static long millis(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    private static String label(TimeBucket bucket, String instant) {
+        return bucket.label(bucket.bucketOf(millis(instant)));
+    }
+
+    @Test
+    void day_truncatesToUtcDate() {
+        assertEquals("2025-02-09", label(TimeBucket.DAY, "2025-02-09T23:59:59Z"));
+        assertEquals("1969-12-31", label(TimeBucket.DAY, "1969-12-31T12:00:00Z"));
+    }
+
+    @Test
+    void week_startsOnMonday() {
+        assertEquals("2025-02-03", label(TimeBucket.WEEK, "2025-02-09T10:00:00Z"));
+        assertEquals("2025-02-10", label(TimeBucket.WEEK, "2025-02-10T00:00:00Z"));
+        assertEquals("1969-12-29", label(TimeBucket.WEEK, "1970-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void month_usesYearMonth() {
+        assertEquals("2025-02", label(TimeBucket.MONTH, "2025-02-28T23:00:00Z"));
+        assertEquals("1969-12", label(TimeBucket.MONTH, "1969-12-01T00:00:00Z"));
+    }
+
+    @Test
+    void bucketOf_missingDate_staysMissing() {
+        assertEquals(JobDates.MISSING, TimeBucket.DAY.bucketOf(JobDates.MISSING));
+    }
+
+    @Test
+    void fromParam_isCaseInsensitiveAndRejectsUnknown() {
+        assertEquals(TimeBucket.WEEK, TimeBucket.fromParam("Week"));
+        assertThrows(BadRequestException.class, () -> TimeBucket.fromParam("year"));
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.jboard.orchestrator.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+    private final TimingWheel wheel = new TimingWheel();
+
+    private List<Integer> advance(long toTick) {
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(toTick, expired::add);
+        return expired;
+    }
+
+    @Test
+    void advance_expiresEntriesOnTheirTick() {
+        wheel.schedule(3, 0);
+        wheel.schedule(1, 1);
+        wheel.schedule(3, 2);
+
+        assertEquals(List.of(), advance(0));
+        assertEquals(List.of(1), advance(2));
+        assertEquals(List.of(0, 2), advance(3));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_cascadesEntriesFromHigherLevels() {
+        wheel.schedule(70, 0);
+        wheel.schedule(4_100, 1);
+        wheel.schedule(300_000, 2);
+
+        assertEquals(List.of(), advance(69));
+        assertEquals(List.of(0), advance(70));
+        assertEquals(List.of(), advance(4_099));
+        assertEquals(List.of(1), advance(4_100));
+        assertEquals(List.of(), advance(299_999));
+        assertEquals(List.of(2), advance(300_000));
+    }
+
+    @Test
+    void advance_overshootingTicks_expiresEverythingDue() {
+        wheel.schedule(10, 0);
+        wheel.schedule(5_000, 1);
+        wheel.schedule(9_000, 2);
+
+        assertEquals(List.of(0, 1), advance(6_000));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void schedule_pastTick_expiresOnNextAdvance() {
+        advance(100);
+        wheel.schedule(50, 7);
+
+        assertEquals(List.of(7), advance(101));
+    }
+}
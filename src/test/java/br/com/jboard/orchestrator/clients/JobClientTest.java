@@ -1,72 +1,93 @@
 package br.com.jboard.orchestrator.clients;
 
-import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.serialization.JobJsonReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ExchangeFunction;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Field;
 import java.net.URISyntaxException;
-import java.util.Collections;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JobClientTest {
     @Mock
     RestClient restClient;
-    @InjectMocks
+
     JobClient jobClient;
 
     @BeforeEach
     void setUp() throws Exception {
+        jobClient = new JobClient(restClient, new JobJsonReader(new ObjectMapper()), new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = JobClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(jobClient, "http://localhost");
     }
 
-    @Test
-    void getJobs_success() {
+    @SuppressWarnings("unchecked")
+    private void respondWith(HttpStatus status, String body) throws Exception {
         RestClient.RequestHeadersUriSpec spec = mock(RestClient.RequestHeadersUriSpec.class);
         RestClient.RequestHeadersSpec headersSpec = mock(RestClient.RequestHeadersSpec.class);
-        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        ConvertibleClientHttpResponse response = mock(ConvertibleClientHttpResponse.class);
         when(restClient.get()).thenReturn(spec);
-        try {
-            when(spec.uri(any(java.net.URI.class))).thenReturn(headersSpec);
-        } catch (Exception ignored) {}
-        when(headersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(Collections.singletonList(new Job()));
-        List<Job> jobs = jobClient.getJobs();
-        assertNotNull(jobs);
-        assertEquals(1, jobs.size());
+        when(spec.uri(any(java.net.URI.class))).thenReturn(headersSpec);
+        lenient().when(response.getStatusCode()).thenReturn(status);
+        lenient().when(response.getStatusText()).thenReturn(status.getReasonPhrase());
+        lenient().when(response.getHeaders()).thenReturn(new HttpHeaders());
+        lenient().when(response.getBody()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        when(headersSpec.exchange(any(ExchangeFunction.class))).thenAnswer(invocation ->
+                invocation.<ExchangeFunction<?>>getArgument(0).exchange(mock(HttpRequest.class), response));
     }
 
     @Test
-    void getJobs_null_returnsEmptyList() {
-        RestClient.RequestHeadersUriSpec spec = mock(RestClient.RequestHeadersUriSpec.class);
-        RestClient.RequestHeadersSpec headersSpec = mock(RestClient.RequestHeadersSpec.class);
-        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
-        when(restClient.get()).thenReturn(spec);
-        try {
-            when(spec.uri(any(java.net.URI.class))).thenReturn(headersSpec);
-        } catch (Exception ignored) {}
-        when(headersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(null);
-        List<Job> jobs = jobClient.getJobs();
+    void getJobs_success() throws Exception {
+        respondWith(HttpStatus.OK, """
+                [{"id":"1","title":"Dev","company":"Acme","isBrazilianFriendly":{"friendly":true,"reason":"ok"}},
+                 {"id":"2","title":"QA","company":"Acme","unknown":{"nested":[1,2]}}]
+                """);
+
+        JobStore jobs = jobClient.getJobs();
+
+        assertEquals(2, jobs.size());
+        assertEquals("Dev", jobs.title(0));
+        assertEquals("true", jobs.brazilianFriendlyValue(0));
+        assertSame(jobs.company(0), jobs.company(1));
+    }
+
+    @Test
+    void getJobs_emptyBody_returnsEmptyList() throws Exception {
+        respondWith(HttpStatus.OK, "");
+        JobStore jobs = jobClient.getJobs();
         assertNotNull(jobs);
-        assertTrue(jobs.isEmpty());
+        assertEquals(0, jobs.size());
+    }
+
+    @Test
+    void getJobs_errorStatus_throwsHttpServerErrorException() throws Exception {
+        respondWith(HttpStatus.SERVICE_UNAVAILABLE, "indisponível");
+        assertThrows(HttpServerErrorException.class, () -> jobClient.getJobs());
     }
 
     @Test
     void getJobs_throwsURISyntaxException() throws Exception {
-        JobClient client = new JobClient(restClient);
+        JobClient client = new JobClient(restClient, new JobJsonReader(new ObjectMapper()), new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = JobClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(client, "::::");
@@ -75,17 +96,16 @@ class JobClientTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void getJobs_throwsRestClientException() {
         RestClient.RequestHeadersUriSpec spec = mock(RestClient.RequestHeadersUriSpec.class);
         RestClient.RequestHeadersSpec headersSpec = mock(RestClient.RequestHeadersSpec.class);
-        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
 
         when(restClient.get()).thenReturn(spec);
         try {
             when(spec.uri(any(java.net.URI.class))).thenReturn(headersSpec);
         } catch (Exception ignored) {}
-        when(headersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class)))
+        when(headersSpec.exchange(any(ExchangeFunction.class)))
                 .thenThrow(new org.springframework.web.client.RestClientException("Service unavailable"));
 
         assertThrows(org.springframework.web.client.RestClientException.class, () -> jobClient.getJobs());
@@ -0,0 +1,113 @@
+package br.com.jboard.orchestrator.clients;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int FOLLOWERS = 20;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    private double count(String operation, String role) {
+        return meterRegistry.get(SingleFlight.METRIC_NAME).tag("operation", operation).tag("role", role).counter().count();
+    }
+
+    private void awaitFollowers(String operation) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find(SingleFlight.METRIC_NAME).tag("operation", operation).tag("role", "follower").counter() == null
+                || count(operation, "follower") < FOLLOWERS) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join the flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private List<Future<String>> startFlight(ExecutorService executor, String operation, CountDownLatch release,
+                                             AtomicInteger calls, RuntimeException failure) throws InterruptedException {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(operation, "key", () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            if (failure != null) throw failure;
+            return "value";
+        })));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(operation, "key", () -> {
+                calls.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        awaitFollowers(operation);
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Test
+    void execute_concurrentCallsWithSameKey_shareOneUpstreamCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = startFlight(executor, "skills", release, calls, null);
+            release.countDown();
+
+            for (Future<String> result : results) assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1, count("skills", "leader"));
+        assertEquals(FOLLOWERS, count("skills", "follower"));
+        assertEquals((double) FOLLOWERS / (FOLLOWERS + 1),
+                meterRegistry.get(SingleFlight.METRIC_NAME + ".ratio").tag("operation", "skills").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void execute_upstreamFailure_isPropagatedToEveryWaiter() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("Service unavailable");
+        try (ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1)) {
+            List<Future<String>> results = startFlight(executor, "jobs", release, calls, failure);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                Exception ex = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertSame(failure, ex.getCause());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_afterFlightCompletes_callsUpstreamAgain() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("user", "ana", calls::incrementAndGet);
+        singleFlight.execute("user", "ana", calls::incrementAndGet);
+        singleFlight.execute("user", "bia", calls::incrementAndGet);
+
+        assertEquals(3, calls.get());
+        assertEquals(0, count("user", "follower"));
+    }
+}
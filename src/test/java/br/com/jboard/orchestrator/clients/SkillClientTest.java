@@ -3,10 +3,10 @@ package br.com.jboard.orchestrator.clients;
 import br.com.jboard.orchestrator.models.Skill;
 import br.com.jboard.orchestrator.models.dtos.SkillBackendResponseDTO;
 import br.com.jboard.orchestrator.models.exceptions.InternalServerErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestClient;
@@ -24,11 +24,11 @@ import static org.mockito.Mockito.*;
 class SkillClientTest {
     @Mock
     RestClient restClient;
-    @InjectMocks
     SkillClient skillClient;
 
     @BeforeEach
     void setUp() throws Exception {
+        skillClient = new SkillClient(restClient, new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = SkillClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(skillClient, "http://localhost");
@@ -127,7 +127,7 @@ class SkillClientTest {
 
     @Test
     void getAllSkills_withInvalidUrl_throwsInternalServerErrorException() throws Exception {
-        SkillClient client = new SkillClient(restClient);
+        SkillClient client = new SkillClient(restClient, new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = SkillClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(client, "::::");
@@ -180,7 +180,7 @@ class SkillClientTest {
 
     @Test
     void addSkill_withInvalidUrl_throwsInternalServerErrorException() throws Exception {
-        SkillClient client = new SkillClient(restClient);
+        SkillClient client = new SkillClient(restClient, new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = SkillClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(client, "::::");
@@ -236,7 +236,7 @@ class SkillClientTest {
 
     @Test
     void removeSkill_withInvalidUrl_throwsInternalServerErrorException() throws Exception {
-        SkillClient client = new SkillClient(restClient);
+        SkillClient client = new SkillClient(restClient, new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = SkillClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(client, "::::");
@@ -290,7 +290,7 @@ class SkillClientTest {
 
     @Test
     void deleteAllSkills_withInvalidUrl_throwsInternalServerErrorException() throws Exception {
-        SkillClient client = new SkillClient(restClient);
+        SkillClient client = new SkillClient(restClient, new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = SkillClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(client, "::::");
@@ -2,10 +2,10 @@ package br.com.jboard.orchestrator.clients;
 
 import br.com.jboard.orchestrator.models.User;
 import br.com.jboard.orchestrator.models.enums.RoleEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
@@ -22,11 +22,11 @@ import static org.mockito.Mockito.*;
 class UserClientTest {
     @Mock
     RestClient restClient;
-    @InjectMocks
     UserClient userClient;
 
     @BeforeEach
     void setUp() throws Exception {
+        userClient = new UserClient(restClient, new SingleFlight(new SimpleMeterRegistry()));
         Field urlField = UserClient.class.getDeclaredField("url");
         urlField.setAccessible(true);
         urlField.set(userClient, "http://localhost");
@@ -0,0 +1,32 @@
+package br.com.jboard.orchestrator.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StaleWhileRevalidateCacheMetricsTest {
+
+    @Test
+    void bindTo_exposesHitMissPutAndEvictionCounts() {
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache("skills", Duration.ofMinutes(1),
+                Duration.ofMinutes(10), Duration.ofHours(1), 1, Runnable::run);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new StaleWhileRevalidateCacheMetrics(cache, Tags.empty()).bindTo(registry);
+
+        cache.get("alice", () -> "java");
+        cache.get("alice", () -> "kotlin");
+        cache.get("bob", () -> "go");
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "skills").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", "skills").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(2.0, registry.get("cache.puts").tag("cache", "skills").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").tag("cache", "skills").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", "skills").gauge().value());
+    }
+}
@@ -0,0 +1,272 @@
+package br.com.jboard.orchestrator.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleWhileRevalidateCacheTest {
+    private MutableClock clock;
+    private List<Runnable> pendingRefreshes;
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        pendingRefreshes = new ArrayList<>();
+        cache = new StaleWhileRevalidateCache("test", Duration.ofSeconds(60), Duration.ofSeconds(300),
+                Duration.ofSeconds(1800), 2, pendingRefreshes::add, clock);
+    }
+
+    @Test
+    void get_freshEntry_doesNotCallLoader() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("key", () -> "v" + calls.incrementAndGet());
+
+        clock.advance(Duration.ofSeconds(59));
+
+        assertEquals("v1", cache.get("key", () -> "v" + calls.incrementAndGet()));
+        assertEquals(1, calls.get());
+        assertTrue(pendingRefreshes.isEmpty());
+    }
+
+    @Test
+    void get_staleEntry_returnsStaleAndRevalidatesOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> loader = () -> "v" + calls.incrementAndGet();
+        cache.get("key", loader);
+
+        clock.advance(Duration.ofSeconds(120));
+
+        assertEquals("v1", cache.get("key", loader));
+        assertEquals("v1", cache.get("key", loader));
+        assertEquals(1, pendingRefreshes.size());
+        assertNull(cache.get("key"));
+
+        pendingRefreshes.remove(0).run();
+
+        assertEquals("v2", cache.get("key", loader));
+        assertEquals("v2", cache.get("key").get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_failedRevalidation_keepsStaleEntry() {
+        cache.get("key", () -> "v1");
+        clock.advance(Duration.ofSeconds(120));
+
+        cache.get("key", () -> {
+            throw new ResourceAccessException("timeout");
+        });
+        pendingRefreshes.remove(0).run();
+
+        assertEquals("v1", cache.get("key", () -> "ignored"));
+        assertEquals(1, pendingRefreshes.size());
+    }
+
+    @Test
+    void get_pastRevalidateWindow_loadsSynchronously() {
+        cache.get("key", () -> "v1");
+        clock.advance(Duration.ofSeconds(400));
+
+        assertEquals("v2", cache.get("key", () -> "v2"));
+        assertTrue(pendingRefreshes.isEmpty());
+    }
+
+    @Test
+    void get_upstreamDownWithinStaleIfError_returnsStale() {
+        cache.get("key", () -> "v1");
+        clock.advance(Duration.ofSeconds(1000));
+
+        assertEquals("v1", cache.get("key", () -> {
+            throw new ResourceAccessException("connection refused");
+        }));
+        assertEquals("v1", cache.get("key", () -> {
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        }));
+    }
+
+    @Test
+    void get_upstreamDownPastStaleIfError_propagates() {
+        cache.get("key", () -> "v1");
+        clock.advance(Duration.ofSeconds(2000));
+
+        assertThrows(ResourceAccessException.class, () -> cache.get("key", () -> {
+            throw new ResourceAccessException("connection refused");
+        }));
+    }
+
+    @Test
+    void get_clientError_isNeverMaskedByStaleEntry() {
+        cache.get("key", () -> "v1");
+        clock.advance(Duration.ofSeconds(1000));
+
+        assertThrows(HttpClientErrorException.class, () -> cache.get("key", () -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+    }
+
+    @Test
+    void get_nullValue_isNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertNull(cache.get("key", () -> {
+            calls.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("key", () -> {
+            calls.incrementAndGet();
+            return null;
+        }));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void evict_removesEntryEvenWithinStaleIfError() {
+        cache.get("key", () -> "v1");
+        clock.advance(Duration.ofSeconds(1000));
+        cache.evict("key");
+
+        assertThrows(ResourceAccessException.class, () -> cache.get("key", () -> {
+            throw new ResourceAccessException("connection refused");
+        }));
+    }
+
+    @Test
+    void put_overMaxSize_evictsLeastRecentlyUsed() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a").get());
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c").get());
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void put_concurrentWriters_neverExceedMaxSize() throws InterruptedException {
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            int offset = t * 1000;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.put("key-" + (offset + i), i);
+                    cache.get("key-" + (offset + i / 2));
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) writer.join();
+
+        assertEquals(2, cache.size());
+        assertEquals(4000 - 2, cache.evictionCount());
+    }
+
+    @Test
+    void update_replacesValueKeepingAgeAndWithoutCountingLookups() {
+        cache.put("key", "v1");
+        clock.advance(Duration.ofSeconds(59));
+
+        cache.update("key", value -> value + "+");
+        cache.update("missing", value -> "never");
+
+        assertEquals("v1+", cache.get("key").get());
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(cache.get("key"));
+        assertNull(cache.get("missing"));
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void get_evictedWhileLoading_doesNotCacheLoadedValue() {
+        String value = cache.get("key", () -> {
+            cache.evict("key");
+            return "before-evict";
+        });
+
+        assertEquals("before-evict", value);
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_updatedWhileLoading_doesNotOverwriteWithLoadedValue() {
+        cache.get("key", () -> {
+            cache.put("key", "fresh");
+            return "loaded-before-put";
+        });
+        cache.get("other", () -> {
+            cache.update("other", current -> current + "+");
+            return "loaded-before-update";
+        });
+
+        assertEquals("fresh", cache.get("key").get());
+        assertNull(cache.get("other"));
+    }
+
+    @Test
+    void get_recentlyReadEntry_survivesEviction() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    void get_countsHitsAndMisses() {
+        cache.get("key", () -> "v1");
+        cache.get("key", () -> "v2");
+        cache.get("other");
+        clock.advance(Duration.ofSeconds(120));
+        cache.get("key", () -> "v2");
+
+        assertEquals(2, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(1, cache.putCount());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
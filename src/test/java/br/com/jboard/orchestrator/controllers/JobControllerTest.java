@@ -1,39 +1,353 @@
 package br.com.jboard.orchestrator.controllers;
 
-import br.com.jboard.orchestrator.models.dtos.JobResponseDTO;
+import br.com.jboard.orchestrator.catalog.JobEntry;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.dtos.JobChangesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobFacetsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import br.com.jboard.orchestrator.serialization.ExportFormat;
+import br.com.jboard.orchestrator.serialization.JobExportWriter;
+import br.com.jboard.orchestrator.serialization.JobJsonWriter;
+import br.com.jboard.orchestrator.serialization.JobProjection;
+import br.com.jboard.orchestrator.serialization.SerializedJobCatalog;
+import br.com.jboard.orchestrator.serialization.SerializedJobCatalog.SerializedJobs;
+import br.com.jboard.orchestrator.serialization.WireFormat;
+import br.com.jboard.orchestrator.services.JobChangesService;
+import br.com.jboard.orchestrator.services.JobFacetService;
+import br.com.jboard.orchestrator.services.JobRecommendationService;
 import br.com.jboard.orchestrator.services.JobService;
+import br.com.jboard.orchestrator.services.JobStreamService;
+import br.com.jboard.orchestrator.utils.AuthUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JobControllerTest {
     @Mock
     JobService jobService;
+    @Mock
+    JobFacetService jobFacetService;
+    @Mock
+    JobJsonWriter jobJsonWriter;
+    @Mock
+    JobExportWriter jobExportWriter;
+    @Mock
+    SerializedJobCatalog serializedJobCatalog;
+    @Mock
+    JobChangesService jobChangesService;
+    @Mock
+    JobRecommendationService jobRecommendationService;
+    @Mock
+    JobStreamService jobStreamService;
+    @Mock
+    AuthUtils authUtils;
     @InjectMocks
     JobController jobController;
 
+    private SerializedJobs serializedJobs() {
+        SerializedJobs serialized = mock(SerializedJobs.class);
+        lenient().when(serialized.getIdentity()).thenReturn("{\"data\":[]}".getBytes());
+        lenient().when(serialized.getGzip()).thenReturn(new byte[]{1, 2, 3});
+        lenient().when(serialized.getIdentityETag()).thenReturn("\"abc\"");
+        lenient().when(serialized.getGzipETag()).thenReturn("\"abc-gzip\"");
+        return serialized;
+    }
+
+    @Test
+    void findAll_default_writesPreSerializedBytes() throws Exception {
+        SerializedJobs serialized = serializedJobs();
+        when(serializedJobCatalog.current()).thenReturn(Optional.of(serialized));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findAll(new JobQueryDTO(), new MockHttpServletRequest("GET", "/api/jobs"), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"data\":[]}", response.getContentAsString());
+        assertEquals("\"abc\"", response.getHeader("ETag"));
+        assertEquals("Accept, Accept-Encoding", response.getHeader("Vary"));
+        assertNull(response.getHeader("Content-Encoding"));
+        verifyNoInteractions(jobService, jobJsonWriter);
+    }
+
+    @Test
+    void findAll_defaultAcceptingGzip_writesCompressedBytes() throws Exception {
+        SerializedJobs serialized = serializedJobs();
+        when(serializedJobCatalog.current()).thenReturn(Optional.of(serialized));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findAll(new JobQueryDTO(), request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("\"abc-gzip\"", response.getHeader("ETag"));
+        assertArrayEquals(new byte[]{1, 2, 3}, response.getContentAsByteArray());
+    }
+
+    @Test
+    void findAll_defaultMatchingETag_returnsNotModified() throws Exception {
+        SerializedJobs serialized = serializedJobs();
+        when(serializedJobCatalog.current()).thenReturn(Optional.of(serialized));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("If-None-Match", "\"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findAll(new JobQueryDTO(), request, response);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void findAll_defaultNotSerializedYet_streamsPage() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        JobPage page = mock(JobPage.class);
+        when(serializedJobCatalog.current()).thenReturn(Optional.empty());
+        when(jobService.getJobs(query)).thenReturn(page);
+
+        jobController.findAll(query, new MockHttpServletRequest("GET", "/api/jobs"), new MockHttpServletResponse());
+
+        verify(jobJsonWriter).write(eq(page), eq(JobProjection.ALL), eq(WireFormat.JSON), any());
+    }
+
+    @Test
+    void findAll_filtered_skipsPreSerializedBytes() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setLimit(10);
+        JobPage page = mock(JobPage.class);
+        when(jobService.getJobs(query)).thenReturn(page);
+
+        jobController.findAll(query, new MockHttpServletRequest("GET", "/api/jobs"), new MockHttpServletResponse());
+
+        verify(jobJsonWriter).write(eq(page), eq(JobProjection.ALL), eq(WireFormat.JSON), any());
+        verifyNoInteractions(serializedJobCatalog);
+    }
+
+    @Test
+    void findAll_success() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        JobPage page = mock(JobPage.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(jobService.getJobs(query)).thenReturn(page);
+        when(page.getVersion()).thenReturn(3L);
+
+        jobController.findAll(query, new MockHttpServletRequest("GET", "/api/jobs"), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("3", response.getHeader("X-Catalog-Version"));
+        verify(jobJsonWriter).write(eq(page), eq(JobProjection.ALL), eq(WireFormat.JSON), any());
+    }
+
+    @Test
+    void findAll_exception() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        when(jobService.getJobs(query)).thenThrow(new RuntimeException("erro"));
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> jobController.findAll(query, new MockHttpServletRequest("GET", "/api/jobs"),
+                        new MockHttpServletResponse()));
+        assertEquals("erro", ex.getMessage());
+        verify(jobJsonWriter, never()).write(any(), any(), any(), any());
+    }
+
+    @Test
+    void export_defaultFormat_streamsNdjsonAttachment() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        JobPage page = mock(JobPage.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(jobService.getJobs(query)).thenReturn(page);
+        when(page.getVersion()).thenReturn(4L);
+
+        jobController.export(query, null, new MockHttpServletRequest("GET", "/api/jobs/export"), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+        assertEquals("attachment; filename=\"jobs-v4.ndjson\"", response.getHeader("Content-Disposition"));
+        assertEquals("4", response.getHeader("X-Catalog-Version"));
+        verify(jobExportWriter).write(eq(page), eq(JobProjection.ALL), eq(ExportFormat.NDJSON), any());
+    }
+
+    @Test
+    void export_csvAcceptHeader_streamsCsvWithProjection() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setFields("id,title");
+        JobPage page = mock(JobPage.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/export");
+        request.addHeader("Accept", "text/csv");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(jobService.getJobs(query)).thenReturn(page);
+
+        jobController.export(query, null, request, response);
+
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        verify(jobExportWriter).write(eq(page), eq(JobProjection.of("id,title")), eq(ExportFormat.CSV), any());
+    }
+
     @Test
-    void findAll_success() {
-        JobResponseDTO dto = mock(JobResponseDTO.class);
-        when(jobService.getJobs()).thenReturn(dto);
-        ResponseEntity<JobResponseDTO> response = jobController.findAll();
+    void export_invalidFormat_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> jobController.export(new JobQueryDTO(), "xml",
+                new MockHttpServletRequest("GET", "/api/jobs/export"), new MockHttpServletResponse()));
+        verifyNoInteractions(jobService, jobExportWriter);
+    }
+
+    @Test
+    void findFacets_success() {
+        JobQueryDTO query = new JobQueryDTO();
+        JobFacetsResponseDTO dto = mock(JobFacetsResponseDTO.class);
+        when(jobFacetService.getFacets(query)).thenReturn(dto);
+        ResponseEntity<JobFacetsResponseDTO> response = jobController.findFacets(query);
         assertEquals(200, response.getStatusCode().value());
         assertEquals(dto, response.getBody());
     }
 
     @Test
-    void findAll_exception() {
-        when(jobService.getJobs()).thenThrow(new RuntimeException("erro"));
-        RuntimeException ex = assertThrows(RuntimeException.class, () -> jobController.findAll());
-        assertEquals("erro", ex.getMessage());
+    void findChanges_success() {
+        JobChangesResponseDTO dto = JobChangesResponseDTO.fullResync(1, 5);
+        when(jobChangesService.getChanges(1)).thenReturn(dto);
+        ResponseEntity<JobChangesResponseDTO> response = jobController.findChanges(1);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(dto, response.getBody());
+    }
+
+    @Test
+    void stream_subscribesWithFiltersAndLastEventId() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setField(List.of("Backend"));
+        SseEmitter emitter = new SseEmitter();
+        when(jobStreamService.subscribe(query, 7L)).thenReturn(emitter);
+
+        assertSame(emitter, jobController.stream(query, 7L));
+    }
+
+    @Test
+    void findForMe_streamsRecommendedPageForAuthenticatedUser() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/for-me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JobPage page = mock(JobPage.class);
+        when(page.getVersion()).thenReturn(3L);
+        when(authUtils.getUsernameFromRequest(request)).thenReturn("user");
+        when(jobRecommendationService.getJobsForUser("user", query)).thenReturn(page);
+
+        jobController.findForMe(query, request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("3", response.getHeader(JobController.CATALOG_VERSION_HEADER));
+        verify(jobJsonWriter).write(eq(page), eq(JobProjection.ALL), eq(WireFormat.JSON), any());
+    }
+
+    @Test
+    void findById_writesJobWithETag() throws Exception {
+        JobStore store = JobStore.of(List.of());
+        when(jobService.getJob("a")).thenReturn(new JobEntry(store, 0, 0xabcL, 3));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findById("a", null, new MockHttpServletRequest("GET", "/api/jobs/a"), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"abc\"", response.getHeader("ETag"));
+        assertEquals("3", response.getHeader("X-Catalog-Version"));
+        verify(jobJsonWriter).writeJob(eq(store), eq(0), eq(JobProjection.ALL), eq(WireFormat.JSON), any());
+    }
+
+    @Test
+    void findById_matchingETag_returnsNotModified() throws Exception {
+        when(jobService.getJob("a")).thenReturn(new JobEntry(JobStore.of(List.of()), 0, 0xabcL, 3));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/a");
+        request.addHeader("If-None-Match", "\"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findById("a", null, request, response);
+
+        assertEquals(304, response.getStatus());
+        verifyNoInteractions(jobJsonWriter);
+    }
+
+    @Test
+    void findAll_withFields_streamsProjectedPage() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setFields("id,title");
+        JobPage page = mock(JobPage.class);
+        when(jobService.getJobs(query)).thenReturn(page);
+
+        jobController.findAll(query, new MockHttpServletRequest("GET", "/api/jobs"), new MockHttpServletResponse());
+
+        verify(jobJsonWriter).write(eq(page), eq(JobProjection.of("title,id")), eq(WireFormat.JSON), any());
+        verifyNoInteractions(serializedJobCatalog);
+    }
+
+    @Test
+    void findAll_unknownField_throwsBadRequestBeforeQuerying() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setFields("id,salary");
+
+        assertThrows(BadRequestException.class, () -> jobController.findAll(query,
+                new MockHttpServletRequest("GET", "/api/jobs"), new MockHttpServletResponse()));
+        verifyNoInteractions(jobService);
+    }
+
+    @Test
+    void findById_withFields_usesProjectionSpecificETag() throws Exception {
+        when(jobService.getJob("a")).thenReturn(new JobEntry(JobStore.of(List.of()), 0, 0xabcL, 3));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/a");
+        request.addHeader("If-None-Match", "\"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findById("a", "id,title", request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"abc-f3\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void findAll_acceptingCbor_streamsBinaryPageInsteadOfPreSerializedJson() throws Exception {
+        JobQueryDTO query = new JobQueryDTO();
+        JobPage page = mock(JobPage.class);
+        when(jobService.getJobs(query)).thenReturn(page);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("Accept", "application/cbor");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findAll(query, request, response);
+
+        assertEquals("application/cbor", response.getContentType());
+        assertEquals("Accept", response.getHeader("Vary"));
+        verify(jobJsonWriter).write(eq(page), eq(JobProjection.ALL), eq(WireFormat.CBOR), any());
+        verifyNoInteractions(serializedJobCatalog);
+    }
+
+    @Test
+    void findById_acceptingProtobuf_usesFormatSpecificETag() throws Exception {
+        JobStore store = JobStore.of(List.of());
+        when(jobService.getJob("a")).thenReturn(new JobEntry(store, 0, 0xabcL, 3));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/a");
+        request.addHeader("Accept", "application/x-protobuf");
+        request.addHeader("If-None-Match", "\"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jobController.findById("a", null, request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"abc-protobuf\"", response.getHeader("ETag"));
+        assertEquals("application/x-protobuf", response.getContentType());
+        verify(jobJsonWriter).writeJob(eq(store), eq(0), eq(JobProjection.ALL), eq(WireFormat.PROTOBUF), any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package br.com.jboard.orchestrator.controllers;
+
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsHistoryResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.services.JobStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatsControllerTest {
+
+    @Mock
+    private JobStatsService jobStatsService;
+
+    @InjectMocks
+    private JobStatsController jobStatsController;
+
+    @Test
+    void getStats_ShouldReturnAggregations() {
+        JobQueryDTO query = new JobQueryDTO();
+        JobStatsResponseDTO responseDTO = new JobStatsResponseDTO(3, List.of("company"), "week", List.of(), new MetaDTO(0));
+        when(jobStatsService.getStats(query, "company", "week", 10)).thenReturn(responseDTO);
+
+        ResponseEntity<JobStatsResponseDTO> result = jobStatsController.getStats(query, "company", "week", 10);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(responseDTO, result.getBody());
+    }
+
+    @Test
+    void getHistory_ShouldReturnSamples() {
+        JobStatsHistoryResponseDTO responseDTO = new JobStatsHistoryResponseDTO("field", List.of());
+        when(jobStatsService.getHistory("field")).thenReturn(responseDTO);
+
+        ResponseEntity<JobStatsHistoryResponseDTO> result = jobStatsController.getHistory("field");
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(responseDTO, result.getBody());
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.jboard.orchestrator.controllers;
+
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchMatchesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchResponseDTO;
+import br.com.jboard.orchestrator.services.SavedSearchService;
+import br.com.jboard.orchestrator.utils.AuthUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchControllerTest {
+
+    @Mock
+    private SavedSearchService savedSearchService;
+
+    @Mock
+    private AuthUtils authUtils;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private SavedSearchController savedSearchController;
+
+    private final String testUsername = "testuser";
+
+    @BeforeEach
+    void setUp() {
+        when(authUtils.getUsernameFromRequest(any(HttpServletRequest.class))).thenReturn(testUsername);
+    }
+
+    @Test
+    void getSavedSearches_ShouldReturnUserSearches() {
+        SavedSearchResponseDTO responseDTO = new SavedSearchResponseDTO(List.of(new SavedSearchDTO()), new MetaDTO(1));
+        when(savedSearchService.getSavedSearches(testUsername)).thenReturn(responseDTO);
+
+        ResponseEntity<SavedSearchResponseDTO> result = savedSearchController.getSavedSearches(request);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(responseDTO, result.getBody());
+    }
+
+    @Test
+    void createSavedSearch_ShouldReturnCreatedSearch() {
+        SavedSearchDTO savedSearchDTO = new SavedSearchDTO();
+        savedSearchDTO.setName("Java remoto");
+        when(savedSearchService.createSavedSearch(testUsername, savedSearchDTO)).thenReturn(savedSearchDTO);
+
+        ResponseEntity<SavedSearchDTO> result = savedSearchController.createSavedSearch(savedSearchDTO, request);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(savedSearchDTO, result.getBody());
+    }
+
+    @Test
+    void deleteSavedSearch_ShouldReturnOk() {
+        ResponseEntity<Void> result = savedSearchController.deleteSavedSearch("s1", request);
+
+        assertEquals(200, result.getStatusCode().value());
+        verify(savedSearchService).deleteSavedSearch(testUsername, "s1");
+    }
+
+    @Test
+    void getMatches_ShouldPassCursor() {
+        SavedSearchMatchesResponseDTO responseDTO = new SavedSearchMatchesResponseDTO(5, 5, List.of());
+        when(savedSearchService.getMatches(testUsername, 5)).thenReturn(responseDTO);
+
+        ResponseEntity<SavedSearchMatchesResponseDTO> result = savedSearchController.getMatches(5, request);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(responseDTO, result.getBody());
+    }
+}
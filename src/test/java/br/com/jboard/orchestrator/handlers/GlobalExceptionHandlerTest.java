@@ -2,6 +2,7 @@ package br.com.jboard.orchestrator.handlers;
 
 import br.com.jboard.orchestrator.models.exceptions.ForbiddenException;
 import br.com.jboard.orchestrator.models.exceptions.InternalServerErrorException;
+import br.com.jboard.orchestrator.models.exceptions.NotFoundException;
 import br.com.jboard.orchestrator.models.exceptions.UnauthorizedException;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -73,6 +74,14 @@ class GlobalExceptionHandlerTest {
         assertEquals("Acesso negado", response.getBody());
     }
 
+    @Test
+    void handleNotFoundException_withMessage_returnsNotFound() {
+        ResponseEntity<String> response = handler.handleNotFoundException(new NotFoundException("Vaga não encontrada"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Vaga não encontrada", response.getBody());
+    }
+
     @Test
     void handleAccessDeniedException_returnsForbiddenResponse() {
         ResponseEntity<String> response = handler.handleAccessDeniedException();
@@ -0,0 +1,29 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportFormatTest {
+
+    @Test
+    void resolve_formatParam_winsOverAccept() {
+        assertEquals(ExportFormat.CSV, ExportFormat.resolve("CSV", "application/x-ndjson"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.resolve(" ndjson ", "text/csv"));
+    }
+
+    @Test
+    void resolve_acceptHeader_selectsHighestQuality() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.resolve(null, null));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.resolve(null, "*/*"));
+        assertEquals(ExportFormat.CSV, ExportFormat.resolve(null, "text/csv"));
+        assertEquals(ExportFormat.CSV, ExportFormat.resolve(null, "application/x-ndjson;q=0.5, text/csv"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.resolve(null, "not a media type"));
+    }
+
+    @Test
+    void resolve_unknownFormat_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> ExportFormat.resolve("xml", null));
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.dtos.SkillResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonProtobufHttpMessageConverterTest {
+    private final JacksonProtobufHttpMessageConverter converter = new JacksonProtobufHttpMessageConverter();
+
+    @Test
+    void canWrite_onlyResponseTypesWithSchema() {
+        assertTrue(converter.canWrite(SkillResponseDTO.class, WireFormat.PROTOBUF.getMediaType()));
+        assertFalse(converter.canWrite(SkillResponseDTO.class, WireFormat.CBOR.getMediaType()));
+        assertFalse(converter.canWrite(JobDTO.class, WireFormat.PROTOBUF.getMediaType()));
+        assertFalse(converter.canRead(SkillResponseDTO.class, WireFormat.PROTOBUF.getMediaType()));
+    }
+
+    @Test
+    void write_skillResponse_decodesWithPublishedSchema() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(new SkillResponseDTO(List.of("java", "kotlin"), new MetaDTO(2)),
+                WireFormat.PROTOBUF.getMediaType(), message);
+
+        JsonNode decoded = new ProtobufMapper().reader(ProtobufSchemas.SKILL_RESPONSE)
+                .readTree(message.getBodyAsBytes());
+        assertEquals("application/x-protobuf", message.getHeaders().getContentType().toString());
+        assertEquals("kotlin", decoded.get("skills").get(1).asText());
+        assertEquals(2, decoded.get("meta").get("totalRecords").asLong());
+    }
+}
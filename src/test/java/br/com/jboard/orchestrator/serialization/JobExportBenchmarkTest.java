@@ -0,0 +1,81 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobExportBenchmarkTest {
+    private static final int JOBS = 100_000;
+    private static final String[] FIELDS = {"Backend", "Frontend", "Data", "Mobile", "DevOps"};
+    private static final String[] LEVELS = {"Junior", "Mid", "Senior"};
+    private static final String[] WORKPLACES = {"Remote", "Hybrid", "On-site"};
+
+    private static JobPage page() {
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            Job job = job(Integer.toString(i), FIELDS[random.nextInt(FIELDS.length)],
+                    LEVELS[random.nextInt(LEVELS.length)], WORKPLACES[random.nextInt(WORKPLACES.length)],
+                    "Full-time", "Company " + random.nextInt(500), random.nextBoolean());
+            job.setTitle(job.getSeniorityLevel() + " " + job.getField() + " Engineer, " + i);
+            job.setUpdatedAt("2025-01-" + (10 + random.nextInt(20)) + "T12:00:00Z");
+            job.setPublishedDate("2025-01-0" + (1 + random.nextInt(9)));
+            job.setCompensationTierSummary("R$ " + (5 + random.nextInt(20)) + "k – " + (25 + random.nextInt(20)) + "k");
+            job.setOfficeLocation("São Paulo, Brazil");
+            job.setUrl("https://jobs.example.com/postings/" + i);
+            jobs.add(job);
+        }
+        return JobPage.all(JobStore.of(jobs), new MetaDTO(JOBS));
+    }
+
+    @Test
+    void write_fullCatalog_reportsThroughputPerFormat() throws IOException {
+        JobExportWriter writer = new JobExportWriter(new ObjectMapper());
+        JobPage page = page();
+
+        for (ExportFormat format : ExportFormat.values()) {
+            CountingOutputStream out = new CountingOutputStream();
+            for (int i = 0; i < 5; i++) writer.write(page, JobProjection.ALL, format, out);
+
+            int runs = 10;
+            out.count = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) writer.write(page, JobProjection.ALL, format, out);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            double jobsPerSecond = JOBS * runs / seconds;
+            double megabytesPerSecond = out.count / seconds / (1024 * 1024);
+
+            System.out.printf("%-6s %d vagas: %,d bytes por exportação, %,.0f vagas/s, %.1f MB/s%n",
+                    format, JOBS, out.count / runs, jobsPerSecond, megabytesPerSecond);
+            assertTrue(jobsPerSecond > 100_000, format + " deveria exportar mais de 100 mil vagas/s");
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobExportWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JobExportWriter writer = new JobExportWriter(objectMapper);
+
+    private static JobPage page(Job... jobs) {
+        return JobPage.all(JobStore.of(List.of(jobs)), new MetaDTO(jobs.length));
+    }
+
+    private String write(JobPage page, JobProjection projection, ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(page, projection, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void write_ndjson_oneJobDTOPerLine() throws IOException {
+        Job first = job("1", "Backend", "Senior", "Remote", "CLT", "Acme", true);
+        Job second = job("2", "Frontend", "Junior", "Hybrid", "PJ", "Globex", false);
+        second.setDuplicates(2);
+
+        String ndjson = write(page(first, second), JobProjection.ALL, ExportFormat.NDJSON);
+
+        assertEquals(objectMapper.writeValueAsString(new JobDTO(first)) + "\n"
+                + objectMapper.writeValueAsString(new JobDTO(second)) + "\n", ndjson);
+    }
+
+    @Test
+    void write_csv_headerFromProjectionAndRowsPerJob() throws IOException {
+        Job first = job("1");
+        first.setTitle("Desenvolvedor Java");
+        first.setCompany("Acme");
+        Job second = job("2");
+        second.setTitle("Dev \"Sênior\", React");
+        second.setOfficeLocation("São Paulo\nBrasil");
+
+        String csv = write(page(first, second), JobProjection.of("id,title,company,officeLocation"), ExportFormat.CSV);
+
+        assertEquals("id,title,officeLocation,company\r\n"
+                + "1,Desenvolvedor Java,,Acme\r\n"
+                + "2,\"Dev \"\"Sênior\"\", React\",\"São Paulo\nBrasil\",\r\n", csv);
+    }
+
+    @Test
+    void write_csv_countsDuplicates() throws IOException {
+        Job job = job("1");
+        job.setDuplicates(4);
+
+        assertEquals("id,duplicates\r\n1,4\r\n", write(page(job), JobProjection.of("id,duplicates"), ExportFormat.CSV));
+    }
+
+    @Test
+    void write_returnsNumberOfJobsWritten() throws IOException {
+        JobPage page = page(job("1"), job("2"), job("3"));
+
+        assertEquals(3, writer.write(page, JobProjection.ALL, ExportFormat.CSV, new ByteArrayOutputStream()));
+        assertEquals(3, writer.write(page, JobProjection.ALL, ExportFormat.NDJSON, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void write_largeExport_doesNotCloseTarget() throws IOException {
+        Job[] jobs = new Job[5_000];
+        for (int i = 0; i < jobs.length; i++) jobs[i] = job(Integer.toString(i));
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("Stream should stay open for the servlet container");
+            }
+        };
+
+        writer.write(page(jobs), JobProjection.of("id,title"), ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(5_001, lines.length);
+        assertEquals("4999,Job 4999", lines[5_000]);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.Job;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobJsonReaderTest {
+    private final JobJsonReader reader = new JobJsonReader(new ObjectMapper());
+
+    private List<Job> read(String json) throws IOException {
+        JobStore store = reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return IntStream.range(0, store.size()).mapToObj(store::job).toList();
+    }
+
+    @Test
+    void read_mapsAllFields() throws IOException {
+        List<Job> jobs = read("""
+                [{"id":"1","title":"Dev Java","updatedAt":"2025-01-05","employmentType":"Full-time",
+                  "publishedDate":"2025-01-01","applicationDeadline":"2025-02-01",
+                  "compensationTierSummary":"R$ 8k – 12k","workplaceType":"Remote","officeLocation":"São Paulo",
+                  "isBrazilianFriendly":{"isFriendly":true,"reason":"Aceita CLT"},"company":"Acme",
+                  "url":"https://jobs.example.com/1","seniorityLevel":"Senior","field":"Backend"}]
+                """);
+
+        Job job = jobs.get(0);
+        assertEquals("1", job.getId());
+        assertEquals("Dev Java", job.getTitle());
+        assertEquals("2025-01-05", job.getUpdatedAt());
+        assertEquals("Full-time", job.getEmploymentType());
+        assertEquals("2025-01-01", job.getPublishedDate());
+        assertEquals("2025-02-01", job.getApplicationDeadline());
+        assertEquals("R$ 8k – 12k", job.getCompensationTierSummary());
+        assertEquals("Remote", job.getWorkplaceType());
+        assertEquals("São Paulo", job.getOfficeLocation());
+        assertTrue(job.getIsBrazilianFriendly().isFriendly());
+        assertEquals("Aceita CLT", job.getIsBrazilianFriendly().getReason());
+        assertEquals("Acme", job.getCompany());
+        assertEquals("https://jobs.example.com/1", job.getUrl());
+        assertEquals("Senior", job.getSeniorityLevel());
+        assertEquals("Backend", job.getField());
+    }
+
+    @Test
+    void read_deduplicatesRepeatedValues() throws IOException {
+        List<Job> jobs = read("""
+                [{"id":"1","company":"Acme","field":"Backend","seniorityLevel":"Senior"},
+                 {"id":"2","company":"Acme","field":"Backend","seniorityLevel":"Senior"}]
+                """);
+
+        assertSame(jobs.get(0).getCompany(), jobs.get(1).getCompany());
+        assertSame(jobs.get(0).getField(), jobs.get(1).getField());
+        assertSame(jobs.get(0).getSeniorityLevel(), jobs.get(1).getSeniorityLevel());
+    }
+
+    @Test
+    void read_coercesScalarsAndSkipsUnknownFields() throws IOException {
+        List<Job> jobs = read("""
+                [{"id":42,"title":null,"tags":["a",{"b":1}],"company":{"name":"x"},
+                  "isBrazilianFriendly":{"friendly":"true"}}, null]
+                """);
+
+        assertEquals(1, jobs.size());
+        assertEquals("42", jobs.get(0).getId());
+        assertNull(jobs.get(0).getTitle());
+        assertNull(jobs.get(0).getCompany());
+        assertTrue(jobs.get(0).getIsBrazilianFriendly().isFriendly());
+    }
+
+    @Test
+    void read_emptyOrNullBody_returnsEmptyList() throws IOException {
+        assertTrue(read("").isEmpty());
+        assertTrue(read("null").isEmpty());
+        assertEquals(0, reader.read(null).size());
+    }
+
+    @Test
+    void read_notAnArray_throws() {
+        assertThrows(JsonProcessingException.class, () -> read("{\"id\":\"1\"}"));
+        assertThrows(JsonProcessingException.class, () -> read("[{\"id\":\"1\""));
+    }
+}
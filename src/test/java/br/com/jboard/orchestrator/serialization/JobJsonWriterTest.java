@@ -0,0 +1,162 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import br.com.jboard.orchestrator.models.dtos.JobResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobJsonWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JobJsonWriter writer = new JobJsonWriter(objectMapper);
+
+    private Job fullJob(String id) {
+        Job job = job(id, "Backend", "Senior", "Remote", "Full-time", "Acme", true);
+        job.setUpdatedAt("2025-01-05");
+        job.setPublishedDate("2025-01-01");
+        job.setApplicationDeadline("2025-02-01");
+        job.setCompensationTierSummary("R$ 8k – 12k");
+        job.setOfficeLocation("São Paulo");
+        job.setUrl("https://jobs.example.com/" + id);
+        return job;
+    }
+
+    private String write(JobPage page) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(page, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void write_matchesJobResponseDTOWireFormat() throws IOException {
+        List<Job> jobs = List.of(fullJob("1"), fullJob("2"));
+        jobs.get(1).setDuplicates(3);
+        MetaDTO meta = new MetaDTO(2);
+
+        String streamed = write(JobPage.all(JobStore.of(jobs), meta));
+        String expected = objectMapper.writeValueAsString(
+                new JobResponseDTO(jobs.stream().map(JobDTO::new).toList(), meta));
+
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    void write_paginatedMeta_includesCursorFields() throws IOException {
+        List<Job> jobs = List.of(fullJob("1"), fullJob("2"), fullJob("3"));
+        MetaDTO meta = new MetaDTO(3, 1, true, "abc");
+
+        String streamed = write(JobPage.ofOrdinals(JobStore.of(jobs), new int[]{2}, meta));
+        String expected = objectMapper.writeValueAsString(
+                new JobResponseDTO(List.of(new JobDTO(jobs.get(2))), meta));
+
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    void write_nullFields_areWrittenAsNull() throws IOException {
+        String streamed = write(JobPage.all(JobStore.of(List.of(job("1"))), new MetaDTO(1)));
+
+        assertTrue(streamed.contains("\"url\":null"));
+        assertTrue(streamed.endsWith("\"meta\":{\"totalRecords\":1}}"));
+    }
+
+    @Test
+    void write_escapesTextColumns() throws IOException {
+        Job job = fullJob("1");
+        job.setTitle("Dev \"Sênior\" \\ Back\nend");
+        List<Job> jobs = List.of(job);
+        MetaDTO meta = new MetaDTO(1);
+
+        String streamed = write(JobPage.all(JobStore.of(jobs), meta));
+        String expected = objectMapper.writeValueAsString(new JobResponseDTO(List.of(new JobDTO(job)), meta));
+
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    void write_withProjection_keepsOnlyRequestedFieldsInCanonicalOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(JobPage.all(JobStore.of(List.of(fullJob("1"))), new MetaDTO(1)),
+                JobProjection.of("workplaceType, company,title,id"), out);
+
+        assertEquals("{\"data\":[{\"id\":\"1\",\"title\":\"Job 1\",\"workplaceType\":\"Remote\","
+                + "\"company\":\"Acme\"}],\"meta\":{\"totalRecords\":1}}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeJob_withProjection_writesSingleObject() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeJob(JobStore.of(List.of(fullJob("1"))), 0, JobProjection.of("id,url"), out);
+
+        assertEquals("{\"id\":\"1\",\"url\":\"https://jobs.example.com/1\"}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeJob_allFields_matchesJobDTO() throws IOException {
+        Job job = fullJob("1");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeJob(JobStore.of(List.of(job)), 0, JobProjection.ALL, out);
+
+        assertEquals(objectMapper.writeValueAsString(new JobDTO(job)), out.toString(StandardCharsets.UTF_8));
+    }
+
+    private byte[] write(JobPage page, WireFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(page, JobProjection.ALL, format, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void write_cborAndSmile_decodeToSameDocumentAsJson() throws IOException {
+        List<Job> jobs = List.of(fullJob("1"), job("2"));
+        JobPage page = JobPage.all(JobStore.of(jobs), new MetaDTO(2, 2, false, null));
+        JsonNode json = objectMapper.readTree(write(page));
+
+        assertEquals(json, new CBORMapper().readTree(write(page, WireFormat.CBOR)));
+        assertEquals(json, new SmileMapper().readTree(write(page, WireFormat.SMILE)));
+    }
+
+    @Test
+    void write_protobuf_decodesWithPublishedSchema() throws IOException {
+        Job duplicated = fullJob("2");
+        duplicated.setDuplicates(3);
+        JobPage page = JobPage.all(JobStore.of(List.of(job("1"), duplicated)), new MetaDTO(2));
+
+        JsonNode decoded = new ProtobufMapper().reader(ProtobufSchemas.JOB_RESPONSE)
+                .readTree(write(page, WireFormat.PROTOBUF));
+
+        assertEquals(2, decoded.get("data").size());
+        assertEquals("Job 1", decoded.get("data").get(0).get("title").asText());
+        assertFalse(decoded.get("data").get(0).has("url"));
+        assertEquals("https://jobs.example.com/2", decoded.get("data").get(1).get("url").asText());
+        assertEquals(3, decoded.get("data").get(1).get("duplicates").asInt());
+        assertEquals(2, decoded.get("meta").get("totalRecords").asLong());
+    }
+
+    @Test
+    void writeJob_protobuf_usesJobMessage() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeJob(JobStore.of(List.of(fullJob("1"))), 0, JobProjection.of("id,company"), WireFormat.PROTOBUF, out);
+
+        JsonNode decoded = new ProtobufMapper().reader(ProtobufSchemas.JOB).readTree(out.toByteArray());
+
+        assertEquals("1", decoded.get("id").asText());
+        assertEquals("Acme", decoded.get("company").asText());
+        assertFalse(decoded.has("title"));
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobProjectionTest {
+
+    @Test
+    void of_sameFieldSet_reusesCompiledProjection() {
+        assertSame(JobProjection.of("id,title"), JobProjection.of(" title , id,id"));
+        assertNotSame(JobProjection.of("id,title"), JobProjection.of("id"));
+    }
+
+    @Test
+    void of_blankOrAllFields_returnsAll() {
+        assertSame(JobProjection.ALL, JobProjection.of(null));
+        assertSame(JobProjection.ALL, JobProjection.of(" , "));
+        assertSame(JobProjection.ALL, JobProjection.of("id,title,updatedAt,employmentType,publishedDate,"
+                + "applicationDeadline,compensationTierSummary,workplaceType,officeLocation,company,url,"
+                + "seniorityLevel,field,duplicates"));
+    }
+
+    @Test
+    void of_unknownField_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> JobProjection.of("id,salary"));
+        assertThrows(BadRequestException.class, () -> JobProjection.of("ID"));
+    }
+
+    @Test
+    void etag_variesByProjection() {
+        assertEquals("\"abc\"", JobProjection.ALL.etag("\"abc\""));
+        assertEquals("\"abc-f3\"", JobProjection.of("id,title").etag("\"abc\""));
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobStore;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class JobWireFormatBenchmarkTest {
+    private static final int JOBS = 10_000;
+    private static final String[] FIELDS = {"Backend", "Frontend", "Data", "Mobile", "DevOps"};
+    private static final String[] LEVELS = {"Junior", "Mid", "Senior"};
+    private static final String[] WORKPLACES = {"Remote", "Hybrid", "On-site"};
+
+    private static JobPage page() {
+        Random random = new Random(42);
+        List<Job> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            Job job = job(Integer.toString(i), FIELDS[random.nextInt(FIELDS.length)],
+                    LEVELS[random.nextInt(LEVELS.length)], WORKPLACES[random.nextInt(WORKPLACES.length)],
+                    "Full-time", "Company " + random.nextInt(500), random.nextBoolean());
+            job.setTitle(job.getSeniorityLevel() + " " + job.getField() + " Engineer " + i);
+            job.setUpdatedAt("2025-01-" + (10 + random.nextInt(20)) + "T12:00:00Z");
+            job.setPublishedDate("2025-01-0" + (1 + random.nextInt(9)));
+            job.setCompensationTierSummary("R$ " + (5 + random.nextInt(20)) + "k – " + (25 + random.nextInt(20)) + "k");
+            job.setOfficeLocation("São Paulo, Brazil");
+            job.setUrl("https://jobs.example.com/postings/" + i);
+            jobs.add(job);
+        }
+        return JobPage.all(JobStore.of(jobs), new MetaDTO(JOBS));
+    }
+
+    @Test
+    void write_jobsList_comparesEncodeTimeAndSizePerFormat() throws IOException {
+        JobJsonWriter writer = new JobJsonWriter(new ObjectMapper());
+        JobPage page = page();
+        Map<WireFormat, Integer> sizes = new EnumMap<>(WireFormat.class);
+
+        for (WireFormat format : WireFormat.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 22);
+            for (int i = 0; i < 20; i++) {
+                out.reset();
+                writer.write(page, JobProjection.ALL, format, out);
+            }
+
+            int runs = 50;
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                out.reset();
+                writer.write(page, JobProjection.ALL, format, out);
+            }
+            double millis = (System.nanoTime() - start) / 1_000_000.0 / runs;
+            sizes.put(format, out.size());
+
+            System.out.printf("%-8s %d vagas: %,d bytes, %.2f ms por lista%n", format, JOBS, out.size(), millis);
+        }
+
+        for (WireFormat format : List.of(WireFormat.CBOR, WireFormat.SMILE, WireFormat.PROTOBUF)) {
+            assertTrue(sizes.get(format) < sizes.get(WireFormat.JSON), format + " deveria ser menor que JSON");
+        }
+    }
+}
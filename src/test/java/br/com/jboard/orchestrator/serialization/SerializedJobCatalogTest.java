@@ -0,0 +1,110 @@
+package br.com.jboard.orchestrator.serialization;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.serialization.SerializedJobCatalog.SerializedJobs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SerializedJobCatalogTest {
+    @Mock
+    JobCatalog jobCatalog;
+
+    private final JobJsonWriter jobJsonWriter = new JobJsonWriter(new ObjectMapper());
+    private SerializedJobCatalog serializedJobCatalog;
+
+    @BeforeEach
+    void setUp() {
+        serializedJobCatalog = new SerializedJobCatalog(jobCatalog, jobJsonWriter);
+    }
+
+    private JobSnapshot snapshot(long version, List<Job> jobs) {
+        return new JobSnapshot(version, jobs, Instant.now());
+    }
+
+    private SerializedJobs refresh(JobSnapshot snapshot) {
+        serializedJobCatalog.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, snapshot));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        return serializedJobCatalog.current().orElseThrow();
+    }
+
+    @Test
+    void onCatalogRefreshed_serializesDefaultResponse() throws IOException {
+        JobSnapshot snapshot = snapshot(1, List.of(job("1"), job("2")));
+
+        SerializedJobs serialized = refresh(snapshot);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        jobJsonWriter.write(JobPage.all(snapshot.getStore(), new MetaDTO(2)), expected);
+        assertArrayEquals(expected.toByteArray(), serialized.getIdentity());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(serialized.getGzip()))) {
+            assertArrayEquals(serialized.getIdentity(), in.readAllBytes());
+        }
+        assertEquals(1, serialized.getVersion());
+    }
+
+    @Test
+    void onCatalogRefreshed_sameContent_keepsETag() {
+        SerializedJobs first = refresh(snapshot(1, List.of(job("1"))));
+        SerializedJobs second = refresh(snapshot(2, List.of(job("1"))));
+
+        assertEquals(first.getIdentityETag(), second.getIdentityETag());
+        assertEquals(first.getGzipETag(), second.getGzipETag());
+        assertNotEquals(first.getIdentityETag(), first.getGzipETag());
+    }
+
+    @Test
+    void onCatalogRefreshed_changedContent_changesETag() {
+        SerializedJobs first = refresh(snapshot(1, List.of(job("1"))));
+        SerializedJobs second = refresh(snapshot(2, List.of(job("1"), job("2"))));
+
+        assertNotEquals(first.getIdentityETag(), second.getIdentityETag());
+    }
+
+    @Test
+    void current_serializedForOlderVersion_returnsEmpty() {
+        serializedJobCatalog.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, snapshot(1, List.of(job("1")))));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot(2, List.of(job("1"))));
+
+        assertTrue(serializedJobCatalog.current().isEmpty());
+    }
+
+    @Test
+    void acceptsGzip_negotiatesQuality() {
+        assertTrue(SerializedJobCatalog.acceptsGzip("gzip, deflate, br"));
+        assertTrue(SerializedJobCatalog.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(SerializedJobCatalog.acceptsGzip("*"));
+        assertFalse(SerializedJobCatalog.acceptsGzip(null));
+        assertFalse(SerializedJobCatalog.acceptsGzip("identity"));
+        assertFalse(SerializedJobCatalog.acceptsGzip("gzip;q=0"));
+        assertFalse(SerializedJobCatalog.acceptsGzip("gzip;q=0, *"));
+    }
+
+    @Test
+    void current_staleCatalog_isNotServedPreSerialized() {
+        serializedJobCatalog.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, snapshot(1, List.of(job("1")))));
+        when(jobCatalog.isStale()).thenReturn(true);
+
+        assertTrue(serializedJobCatalog.current().isEmpty());
+    }
+}
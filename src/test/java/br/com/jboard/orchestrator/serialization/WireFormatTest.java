@@ -0,0 +1,44 @@
+package br.com.jboard.orchestrator.serialization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireFormatTest {
+
+    @Test
+    void negotiate_missingOrWildcardAccept_defaultsToJson() {
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(null));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(""));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/*"));
+    }
+
+    @Test
+    void negotiate_binaryMediaType_selectsFormat() {
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/cbor"));
+        assertEquals(WireFormat.SMILE, WireFormat.negotiate("application/x-jackson-smile, */*;q=0.1"));
+        assertEquals(WireFormat.PROTOBUF, WireFormat.negotiate("application/x-protobuf"));
+    }
+
+    @Test
+    void negotiate_prefersHighestQuality() {
+        assertEquals(WireFormat.SMILE,
+                WireFormat.negotiate("application/json;q=0.5, application/x-jackson-smile;q=0.9"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/cbor;q=0.2, application/json"));
+    }
+
+    @Test
+    void negotiate_rejectedOrUnknownTypes_fallBackToJson() {
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/x-protobuf;q=0"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("text/html"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("not a media type"));
+    }
+
+    @Test
+    void etag_suffixesBinaryFormats() {
+        assertEquals("\"abc\"", WireFormat.JSON.etag("\"abc\""));
+        assertEquals("\"abc-cbor\"", WireFormat.CBOR.etag("\"abc\""));
+        assertEquals("\"abc-f3-protobuf\"", WireFormat.PROTOBUF.etag("\"abc-f3\""));
+    }
+}
@@ -24,6 +24,10 @@ class AuthenticationServiceTest {
     UserClient userClient;
     @Mock
     SkillService skillService;
+    @Mock
+    SavedSearchService savedSearchService;
+    @Mock
+    AuthorizationService authorizationService;
     @InjectMocks
     AuthenticationService authenticationService;
 
@@ -151,6 +155,7 @@ class AuthenticationServiceTest {
         authenticationService.deleteAccount(username);
 
         verify(skillService).deleteAllSkills(username);
+        verify(savedSearchService).deleteAll(username);
         verify(userClient).deleteAccount(username);
     }
 
@@ -172,6 +177,7 @@ class AuthenticationServiceTest {
 
         assertThrows(RuntimeException.class, () -> authenticationService.deleteAccount(username));
         verify(skillService).deleteAllSkills(username);
+        verify(savedSearchService, never()).deleteAll(username);
         verify(userClient, never()).deleteAccount(username);
     }
 
@@ -1,13 +1,15 @@
 package br.com.jboard.orchestrator.services;
 
 import br.com.jboard.orchestrator.clients.UserClient;
+import br.com.jboard.orchestrator.config.CacheConfig;
 import br.com.jboard.orchestrator.models.User;
 import br.com.jboard.orchestrator.models.enums.RoleEnum;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -18,9 +20,13 @@ import static org.mockito.Mockito.*;
 class AuthorizationServiceTest {
     @Mock
     UserClient userClient;
-    @InjectMocks
     AuthorizationService authorizationService;
 
+    @BeforeEach
+    void setUp() {
+        authorizationService = new AuthorizationService(userClient, new ConcurrentMapCacheManager(CacheConfig.USERS));
+    }
+
     @Test
     void loadUserByUsername_existingUser_returnsUserDetails() {
         String username = "testuser";
@@ -136,4 +142,30 @@ class AuthorizationServiceTest {
         assertEquals(username, userDetails.getUsername());
         verify(userClient).getUserByUsername(username);
     }
+
+    @Test
+    void loadUserByUsername_repeatedCalls_hitsUserClientOnce() {
+        String username = "cacheduser";
+        when(userClient.getUserByUsername(username)).thenReturn(new User(username, "password", RoleEnum.FREE));
+
+        authorizationService.loadUserByUsername(username);
+        authorizationService.loadUserByUsername(username);
+
+        verify(userClient, times(1)).getUserByUsername(username);
+    }
+
+    @Test
+    void evictUser_forcesReload() {
+        String username = "evicteduser";
+        when(userClient.getUserByUsername(username))
+                .thenReturn(new User(username, "password", RoleEnum.FREE))
+                .thenReturn(new User(username, "password", RoleEnum.PREMIUM));
+
+        authorizationService.loadUserByUsername(username);
+        authorizationService.evictUser(username);
+        UserDetails userDetails = authorizationService.loadUserByUsername(username);
+
+        assertEquals(2, userDetails.getAuthorities().size());
+        verify(userClient, times(2)).getUserByUsername(username);
+    }
 }
@@ -0,0 +1,131 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobChangesResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobChangesServiceTest {
+    @Mock
+    JobCatalog jobCatalog;
+
+    private JobChangesService jobChangesService;
+    private JobSnapshot current;
+
+    @BeforeEach
+    void setUp() {
+        jobChangesService = new JobChangesService(jobCatalog, 3);
+    }
+
+    private void publish(Job... jobs) {
+        JobSnapshot previous = current;
+        current = new JobSnapshot(previous == null ? 1 : previous.getVersion() + 1, List.of(jobs), Instant.now());
+        jobChangesService.onCatalogRefreshed(new JobCatalogRefreshedEvent(previous, current));
+    }
+
+    private Job titled(String id, String title) {
+        Job job = job(id);
+        job.setTitle(title);
+        return job;
+    }
+
+    private List<String> ids(List<JobDTO> jobs) {
+        return jobs.stream().map(JobDTO::getId).toList();
+    }
+
+    @Test
+    void getChanges_singleRefresh_returnsDiff() {
+        publish(job("1"), job("2"));
+        publish(job("1"), titled("2", "Novo"), job("3"));
+
+        JobChangesResponseDTO changes = jobChangesService.getChanges(1);
+
+        assertFalse(changes.isFullResync());
+        assertEquals(2, changes.getVersion());
+        assertEquals(List.of("3"), ids(changes.getAdded()));
+        assertEquals(List.of("2"), ids(changes.getUpdated()));
+        assertTrue(changes.getRemoved().isEmpty());
+    }
+
+    @Test
+    void getChanges_severalRefreshes_collapsesChanges() {
+        publish(job("1"), job("2"));
+        publish(job("1"), job("2"), job("3"));
+        publish(job("1"), titled("3", "Atualizada"));
+        publish(titled("2", "Voltou"), titled("3", "Atualizada"));
+
+        JobChangesResponseDTO changes = jobChangesService.getChanges(1);
+
+        assertEquals(4, changes.getVersion());
+        assertEquals(List.of("3"), ids(changes.getAdded()));
+        assertEquals(List.of("2"), ids(changes.getUpdated()));
+        assertEquals("Voltou", changes.getUpdated().get(0).getTitle());
+        assertEquals(List.of("1"), changes.getRemoved());
+    }
+
+    @Test
+    void getChanges_addedThenRemoved_isOmitted() {
+        publish(job("1"));
+        publish(job("1"), job("2"));
+        publish(job("1"));
+
+        JobChangesResponseDTO changes = jobChangesService.getChanges(1);
+
+        assertTrue(changes.getAdded().isEmpty());
+        assertTrue(changes.getUpdated().isEmpty());
+        assertTrue(changes.getRemoved().isEmpty());
+    }
+
+    @Test
+    void getChanges_upToDate_returnsEmpty() {
+        publish(job("1"));
+        publish(job("1"), job("2"));
+
+        JobChangesResponseDTO changes = jobChangesService.getChanges(2);
+
+        assertFalse(changes.isFullResync());
+        assertTrue(changes.getAdded().isEmpty());
+    }
+
+    @Test
+    void getChanges_outsideHistory_signalsFullResync() {
+        for (int i = 1; i <= 6; i++) {
+            publish(job(String.valueOf(i)));
+        }
+
+        assertTrue(jobChangesService.getChanges(1).isFullResync());
+        assertFalse(jobChangesService.getChanges(3).isFullResync());
+        assertTrue(jobChangesService.getChanges(7).isFullResync());
+        assertTrue(jobChangesService.getChanges(-1).isFullResync());
+    }
+
+    @Test
+    void getChanges_notLoaded_loadsCatalog() {
+        JobSnapshot snapshot = new JobSnapshot(1, List.of(job("1")), Instant.now());
+        when(jobCatalog.getSnapshot()).thenAnswer(invocation -> {
+            jobChangesService.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, snapshot));
+            return snapshot;
+        });
+
+        JobChangesResponseDTO changes = jobChangesService.getChanges(0);
+
+        assertTrue(changes.isFullResync());
+        assertEquals(1, changes.getVersion());
+        verify(jobCatalog).getSnapshot();
+    }
+}
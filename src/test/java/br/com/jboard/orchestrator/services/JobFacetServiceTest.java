@@ -0,0 +1,112 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.dtos.FacetValueDTO;
+import br.com.jboard.orchestrator.models.dtos.JobFacetsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobFacetServiceTest {
+    @Mock
+    JobCatalog jobCatalog;
+
+    JobFacetService jobFacetService;
+
+    private final JobSnapshot snapshot = new JobSnapshot(1, List.of(
+            job("a", "Backend", "Senior", "Remote", "Full-time", "Acme", true),
+            job("b", "Frontend", "Junior", "Remote", "Full-time", "Acme", false),
+            job("c", "Backend", "Junior", "Hybrid", "Contract", "Globex", true),
+            job("d", "Backend", "Mid", "Remote", "Full-time", "Initech", false)), Instant.now());
+
+    @BeforeEach
+    void setUp() {
+        jobFacetService = new JobFacetService(jobCatalog, new ConcurrentMapCacheManager(JobFacetService.CACHE_NAME));
+    }
+
+    @Test
+    void getFacets_noFilter_returnsCountsSortedByCount() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        JobFacetsResponseDTO response = jobFacetService.getFacets(new JobQueryDTO());
+
+        assertEquals(4, response.getMeta().getTotalRecords());
+        assertEquals(List.of(new FacetValueDTO("Remote", 3), new FacetValueDTO("Hybrid", 1)),
+                response.getFacets().get("workplaceType"));
+        assertEquals(List.of(new FacetValueDTO("Backend", 3), new FacetValueDTO("Frontend", 1)),
+                response.getFacets().get("field"));
+        assertEquals(7, response.getFacets().size());
+    }
+
+    @Test
+    void getFacets_withFilter_countsOnlyMatchesAndOmitsZeroes() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobQueryDTO query = new JobQueryDTO();
+        query.setWorkplaceType(List.of("remote"));
+
+        JobFacetsResponseDTO response = jobFacetService.getFacets(query);
+
+        assertEquals(3, response.getMeta().getTotalRecords());
+        assertEquals(List.of(new FacetValueDTO("Acme", 2), new FacetValueDTO("Initech", 1)),
+                response.getFacets().get("company"));
+    }
+
+    @Test
+    void getFacets_sameNormalizedFilter_isServedFromCache() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobQueryDTO first = new JobQueryDTO();
+        first.setField(List.of("Backend"));
+        JobQueryDTO second = new JobQueryDTO();
+        second.setField(List.of(" backend"));
+
+        assertSame(jobFacetService.getFacets(first), jobFacetService.getFacets(second));
+    }
+
+    @Test
+    void onCatalogRefreshed_clearsCache() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobFacetsResponseDTO before = jobFacetService.getFacets(new JobQueryDTO());
+
+        jobFacetService.onCatalogRefreshed(new JobCatalogRefreshedEvent(snapshot, snapshot));
+
+        assertNotSame(before, jobFacetService.getFacets(new JobQueryDTO()));
+    }
+
+    @Test
+    void getFacets_withSearch_countsOnlySearchMatches() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobQueryDTO query = new JobQueryDTO();
+        query.setQ("globex");
+
+        JobFacetsResponseDTO response = jobFacetService.getFacets(query);
+
+        assertEquals(1, response.getMeta().getTotalRecords());
+        assertEquals(List.of(new FacetValueDTO("Hybrid", 1)), response.getFacets().get("workplaceType"));
+    }
+
+    @Test
+    void getFacets_withIds_countsOnlyRequestedJobs() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobQueryDTO query = new JobQueryDTO();
+        query.setIds(List.of("a", " b", "missing"));
+
+        JobFacetsResponseDTO response = jobFacetService.getFacets(query);
+
+        assertEquals(2, response.getMeta().getTotalRecords());
+        assertEquals(List.of(new FacetValueDTO("Acme", 2)), response.getFacets().get("company"));
+    }
+}
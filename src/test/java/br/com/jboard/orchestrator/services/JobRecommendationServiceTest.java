@@ -0,0 +1,160 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobCursor;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.catalog.JobSortKey;
+import br.com.jboard.orchestrator.catalog.SortDirection;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.MetaDTO;
+import br.com.jboard.orchestrator.models.dtos.SkillResponseDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobRecommendationServiceTest {
+    @Mock
+    JobCatalog jobCatalog;
+    @Mock
+    SkillService skillService;
+
+    ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(JobRecommendationService.CACHE_NAME);
+    JobRecommendationService jobRecommendationService;
+
+    private final JobSnapshot snapshot = new JobSnapshot(1, List.of(
+            titled(job("a", "Backend", "Senior", "Remote", "Full-time", "Acme", true), "Java Developer"),
+            titled(job("b", "Data", "Junior", "Remote", "Full-time", "Acme", false), "Python Engineer"),
+            titled(job("c", "Java", "Junior", "Hybrid", "Contract", "Globex", true), "Software Engineer"),
+            titled(job("d", "Frontend", "Mid", "Remote", "Full-time", "Initech", false), "React Developer")),
+            Instant.now());
+
+    private static Job titled(Job job, String title) {
+        job.setTitle(title);
+        return job;
+    }
+
+    @BeforeEach
+    void setUp() {
+        jobRecommendationService = new JobRecommendationService(jobCatalog, skillService, cacheManager);
+    }
+
+    private void givenSkills(String... skills) {
+        when(skillService.getAllSkills("user")).thenReturn(new SkillResponseDTO(List.of(skills), new MetaDTO(skills.length)));
+    }
+
+    private List<String> ids(JobPage page) {
+        List<String> ids = new ArrayList<>();
+        JobPage.JobIterator jobs = page.iterator();
+        while (jobs.hasNext()) ids.add(page.getStore().id(jobs.nextOrdinal()));
+        return ids;
+    }
+
+    @Test
+    void getJobsForUser_ranksJobsBySkillMatch() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        givenSkills("Java", "python");
+
+        JobPage page = jobRecommendationService.getJobsForUser("user", new JobQueryDTO());
+
+        assertEquals(List.of("b", "a", "c"), ids(page));
+        assertEquals(3, page.getMeta().getTotalRecords());
+        assertFalse(page.getMeta().getHasMore());
+        assertEquals(1, page.getVersion());
+    }
+
+    @Test
+    void getJobsForUser_appliesLimitAndFilters() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        givenSkills("java", "engineer", "developer");
+        JobQueryDTO query = new JobQueryDTO();
+        query.setLimit(1);
+        query.setWorkplaceType(List.of("remote"));
+
+        JobPage page = jobRecommendationService.getJobsForUser("user", query);
+
+        assertEquals(List.of("a"), ids(page));
+        assertEquals(3, page.getMeta().getTotalRecords());
+        assertTrue(page.getMeta().getHasMore());
+    }
+
+    @Test
+    void getJobsForUser_noSkills_returnsEmptyPage() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        givenSkills();
+
+        JobPage page = jobRecommendationService.getJobsForUser("user", new JobQueryDTO());
+
+        assertEquals(List.of(), ids(page));
+        assertEquals(0, page.getMeta().getTotalRecords());
+    }
+
+    @Test
+    void getJobsForUser_sameSkillSet_isServedFromCacheUntilCatalogChanges() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        givenSkills("Java", "python");
+        jobRecommendationService.getJobsForUser("user", new JobQueryDTO());
+        givenSkills("PYTHON ", "java");
+        jobRecommendationService.getJobsForUser("user", new JobQueryDTO());
+
+        ConcurrentMap<?, ?> cache = (ConcurrentMap<?, ?>) cacheManager.getCache(JobRecommendationService.CACHE_NAME).getNativeCache();
+        assertEquals(1, cache.size());
+
+        jobRecommendationService.onCatalogRefreshed(new JobCatalogRefreshedEvent(snapshot, snapshot));
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    void getJobsForUser_nextCursor_continuesAfterLastJob() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        givenSkills("java", "engineer", "developer");
+        JobQueryDTO query = new JobQueryDTO();
+        query.setLimit(2);
+
+        JobPage first = jobRecommendationService.getJobsForUser("user", query);
+        assertTrue(first.getMeta().getHasMore());
+        assertNotNull(first.getMeta().getNextCursor());
+
+        query.setCursor(first.getMeta().getNextCursor());
+        JobPage second = jobRecommendationService.getJobsForUser("user", query);
+
+        List<String> all = new ArrayList<>(ids(first));
+        all.addAll(ids(second));
+        assertEquals(4, all.size());
+        assertEquals(4, all.stream().distinct().count());
+        assertFalse(second.getMeta().getHasMore());
+        assertNull(second.getMeta().getNextCursor());
+    }
+
+    @Test
+    void getJobsForUser_unsupportedSort_throwsBadRequest() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setSort("salary");
+
+        assertThrows(BadRequestException.class, () -> jobRecommendationService.getJobsForUser("user", query));
+    }
+
+    @Test
+    void getJobsForUser_cursorFromAnotherSort_throwsBadRequest() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setCursor(new JobCursor(JobSortKey.SALARY, SortDirection.DESC, "100000", "a").encode());
+
+        assertThrows(BadRequestException.class, () -> jobRecommendationService.getJobsForUser("user", query));
+    }
+}
@@ -1,41 +1,54 @@
 package br.com.jboard.orchestrator.services;
 
-import br.com.jboard.orchestrator.clients.JobClient;
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobEntry;
+import br.com.jboard.orchestrator.catalog.JobPage;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
 import br.com.jboard.orchestrator.models.Job;
-import br.com.jboard.orchestrator.models.dtos.JobResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import br.com.jboard.orchestrator.models.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JobServiceTest {
     @Mock
-    JobClient jobClient;
+    JobCatalog jobCatalog;
     @InjectMocks
     JobService jobService;
 
+    private JobSnapshot snapshotOf(List<Job> jobs) {
+        return new JobSnapshot(1, jobs, Instant.now());
+    }
+
     @Test
     void getJobs_success() {
-        List<Job> jobs = Collections.emptyList();
-        when(jobClient.getJobs()).thenReturn(jobs);
-        JobResponseDTO response = jobService.getJobs();
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(Collections.emptyList()));
+        JobPage response = jobService.getJobs(new JobQueryDTO());
         assertNotNull(response);
         assertEquals(0, response.getMeta().getTotalRecords());
+        assertEquals(1, response.getVersion());
     }
 
     @Test
     void getJobs_exception() {
-        when(jobClient.getJobs()).thenThrow(new RuntimeException("erro"));
-        RuntimeException ex = assertThrows(RuntimeException.class, () -> jobService.getJobs());
+        when(jobCatalog.getSnapshot()).thenThrow(new RuntimeException("erro"));
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> jobService.getJobs(new JobQueryDTO()));
         assertEquals("erro", ex.getMessage());
     }
 
@@ -44,50 +57,424 @@ class JobServiceTest {
         Job job1 = mock(Job.class);
         Job job2 = mock(Job.class);
         Job job3 = mock(Job.class);
-        List<Job> jobs = Arrays.asList(job1, job2, job3);
+        JobSnapshot snapshot = snapshotOf(Arrays.asList(job1, job2, job3));
 
-        when(jobClient.getJobs()).thenReturn(jobs);
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
 
-        JobResponseDTO response = jobService.getJobs();
+        JobPage response = jobService.getJobs(new JobQueryDTO());
 
         assertNotNull(response);
         assertEquals(3, response.getMeta().getTotalRecords());
-        assertEquals(3, response.getData().size());
-        verify(jobClient).getJobs();
+        assertEquals(3, ids(response).size());
+        verify(jobCatalog).getSnapshot();
     }
 
     @Test
     void getJobs_withSingleJob_returnsCorrectStructure() {
-        Job job = mock(Job.class);
-        List<Job> jobs = Collections.singletonList(job);
+        JobSnapshot snapshot = snapshotOf(Collections.singletonList(mock(Job.class)));
 
-        when(jobClient.getJobs()).thenReturn(jobs);
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
 
-        JobResponseDTO response = jobService.getJobs();
+        JobPage response = jobService.getJobs(new JobQueryDTO());
 
         assertNotNull(response);
-        assertNotNull(response.getData());
         assertNotNull(response.getMeta());
         assertEquals(1, response.getMeta().getTotalRecords());
-        assertEquals(1, response.getData().size());
+        assertEquals(1, ids(response).size());
     }
 
     @Test
-    void getJobs_clientThrowsSpecificException_propagatesException() {
+    void getJobs_catalogThrowsSpecificException_propagatesException() {
         RuntimeException specificException = new RuntimeException("Connection timeout");
-        when(jobClient.getJobs()).thenThrow(specificException);
+        when(jobCatalog.getSnapshot()).thenThrow(specificException);
 
-        RuntimeException thrown = assertThrows(RuntimeException.class, () -> jobService.getJobs());
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> jobService.getJobs(new JobQueryDTO()));
 
         assertEquals("Connection timeout", thrown.getMessage());
-        verify(jobClient).getJobs();
+        verify(jobCatalog).getSnapshot();
+    }
+
+    @Test
+    void getJobs_servesFromSnapshotWithoutReloading() {
+        JobSnapshot snapshot = snapshotOf(List.of(mock(Job.class)));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        jobService.getJobs(new JobQueryDTO());
+        jobService.getJobs(new JobQueryDTO());
+
+        verify(jobCatalog, times(2)).getSnapshot();
+        verify(jobCatalog, never()).refresh();
+    }
+
+    private JobSnapshot datedSnapshot() {
+        return snapshotOf(List.of(
+                job("a", "2025-01-01", "2025-02-10", "2025-01-05"),
+                job("b", "2025-01-03", "2025-02-01", "2025-01-04"),
+                job("c", "2025-01-02", "2025-02-20", "2025-01-06"),
+                job("d", "2025-01-05", null, "2025-01-01"),
+                job("e", "2025-01-04", "2025-02-05", "2025-01-02")));
+    }
+
+    private JobQueryDTO query(Integer limit, String cursor, String sort, String order) {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setLimit(limit);
+        query.setCursor(cursor);
+        query.setSort(sort);
+        query.setOrder(order);
+        return query;
+    }
+
+    private List<String> ids(JobPage page) {
+        List<String> ids = new ArrayList<>();
+        JobPage.JobIterator jobs = page.iterator();
+        while (jobs.hasNext()) ids.add(page.getStore().id(jobs.nextOrdinal()));
+        return ids;
+    }
+
+    @Test
+    void getJobs_withoutPagination_keepsCatalogOrderAndMeta() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+
+        JobPage response = jobService.getJobs(new JobQueryDTO());
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), ids(response));
+        assertEquals(5, response.getMeta().getTotalRecords());
+        assertNull(response.getMeta().getNextCursor());
+        assertNull(response.getMeta().getHasMore());
+        assertEquals(List.of("a", "b", "c", "d", "e"), ids(response));
+    }
+
+    @Test
+    void getJobs_withLimit_defaultsToNewestFirstAndReturnsCursor() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+
+        JobPage response = jobService.getJobs(query(2, null, null, null));
+
+        assertEquals(List.of("d", "e"), ids(response));
+        assertEquals(5, response.getMeta().getTotalRecords());
+        assertEquals(2, response.getMeta().getPageSize());
+        assertTrue(response.getMeta().getHasMore());
+        assertNotNull(response.getMeta().getNextCursor());
+    }
+
+    @Test
+    void getJobs_followingCursors_walksWholeOrdering() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+
+        JobPage first = jobService.getJobs(query(2, null, "applicationDeadline", null));
+        JobPage second = jobService.getJobs(query(2, first.getMeta().getNextCursor(), null, null));
+        JobPage third = jobService.getJobs(query(2, second.getMeta().getNextCursor(), null, null));
+
+        assertEquals(List.of("b", "e"), ids(first));
+        assertEquals(List.of("a", "c"), ids(second));
+        assertEquals(List.of("d"), ids(third));
+        assertFalse(third.getMeta().getHasMore());
+        assertNull(third.getMeta().getNextCursor());
+    }
+
+    @Test
+    void getJobs_cursorStaysStableWhenCatalogChanges() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+        JobPage first = jobService.getJobs(query(2, null, "publishedDate", "asc"));
+
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(List.of(
+                job("z", "2024-12-31", null, null),
+                job("b", "2025-01-03", null, null),
+                job("c", "2025-01-02", null, null),
+                job("e", "2025-01-04", null, null))));
+        JobPage second = jobService.getJobs(query(2, first.getMeta().getNextCursor(), null, null));
+
+        assertEquals(List.of("a", "c"), ids(first));
+        assertEquals(List.of("b", "e"), ids(second));
+    }
+
+    @Test
+    void getJobs_sortWithoutLimit_returnsWholeSortedCatalog() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+
+        JobPage response = jobService.getJobs(query(null, null, "updatedAt", "asc"));
+
+        assertEquals(List.of("d", "e", "b", "a", "c"), ids(response));
+        assertNull(response.getMeta().getNextCursor());
+    }
+
+    @Test
+    void getJobs_cursorWithDifferentSort_throwsBadRequest() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+        JobPage first = jobService.getJobs(query(2, null, "publishedDate", null));
+
+        assertThrows(BadRequestException.class,
+                () -> jobService.getJobs(query(2, first.getMeta().getNextCursor(), "updatedAt", null)));
+    }
+
+    @Test
+    void getJobs_invalidSortKey_throwsBadRequest() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+
+        assertThrows(BadRequestException.class, () -> jobService.getJobs(query(10, null, "title", null)));
+    }
+
+    @Test
+    void getJobs_withFilterOnly_keepsCatalogOrder() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(List.of(
+                job("a", "Backend", "Senior", "Remote", "Full-time", "Acme", true),
+                job("b", "Frontend", "Junior", "Remote", "Full-time", "Acme", false),
+                job("c", "Backend", "Junior", "Hybrid", "Contract", "Globex", true))));
+        JobQueryDTO query = new JobQueryDTO();
+        query.setField(List.of("backend"));
+
+        JobPage response = jobService.getJobs(query);
+
+        assertEquals(List.of("a", "c"), ids(response));
+        assertEquals(2, response.getMeta().getTotalRecords());
+    }
+
+    @Test
+    void getJobs_withFilterAndPagination_countsOnlyMatches() {
+        List<Job> jobs = List.of(
+                job("a", "Backend", "Senior", "Remote", "Full-time", "Acme", true),
+                job("b", "Frontend", "Junior", "Remote", "Full-time", "Acme", false),
+                job("c", "Backend", "Junior", "Hybrid", "Contract", "Globex", true),
+                job("d", "Backend", "Mid", "Remote", "Full-time", "Initech", false));
+        jobs.get(0).setPublishedDate("2025-01-01");
+        jobs.get(1).setPublishedDate("2025-01-04");
+        jobs.get(2).setPublishedDate("2025-01-02");
+        jobs.get(3).setPublishedDate("2025-01-03");
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(jobs));
+
+        JobQueryDTO query = query(1, null, null, null);
+        query.setField(List.of("backend"));
+        JobPage first = jobService.getJobs(query);
+        query.setCursor(first.getMeta().getNextCursor());
+        JobPage second = jobService.getJobs(query);
+
+        assertEquals(List.of("d"), ids(first));
+        assertEquals(3, first.getMeta().getTotalRecords());
+        assertEquals(List.of("c"), ids(second));
+        assertTrue(second.getMeta().getHasMore());
+    }
+
+    private JobSnapshot searchableSnapshot() {
+        List<Job> jobs = List.of(
+                job("a", "Backend", "Senior", "Remote", "Full-time", "Acme", true),
+                job("b", "Data", "Senior", "Remote", "Full-time", "Globex", false),
+                job("c", "Backend", "Junior", "Hybrid", "Contract", "Globex", true));
+        jobs.get(0).setTitle("Desenvolvedor Java Sênior");
+        jobs.get(0).setPublishedDate("2025-01-01");
+        jobs.get(1).setTitle("Senior Data Engineer");
+        jobs.get(1).setPublishedDate("2025-01-03");
+        jobs.get(2).setTitle("Java Developer");
+        jobs.get(2).setPublishedDate("2025-01-02");
+        return snapshotOf(jobs);
+    }
+
+    @Test
+    void getJobs_withSearch_returnsRankedMatches() {
+        when(jobCatalog.getSnapshot()).thenReturn(searchableSnapshot());
+        JobQueryDTO query = new JobQueryDTO();
+        query.setQ("java senior");
+
+        JobPage response = jobService.getJobs(query);
+
+        assertEquals(List.of("a", "c", "b"), ids(response));
+        assertEquals(3, response.getMeta().getTotalRecords());
+    }
+
+    @Test
+    void getJobs_withSearchAndFilter_appliesBoth() {
+        when(jobCatalog.getSnapshot()).thenReturn(searchableSnapshot());
+        JobQueryDTO query = new JobQueryDTO();
+        query.setQ("java");
+        query.setCompany(List.of("globex"));
+
+        assertEquals(List.of("c"), ids(jobService.getJobs(query)));
     }
 
     @Test
-    void getJobs_nullReturnFromClient_handlesGracefully() {
-        when(jobClient.getJobs()).thenReturn(null);
+    void getJobs_withSearchAndExplicitSort_sortsMatches() {
+        when(jobCatalog.getSnapshot()).thenReturn(searchableSnapshot());
+        JobQueryDTO query = query(null, null, "publishedDate", "desc");
+        query.setQ("java");
+
+        assertEquals(List.of("c", "a"), ids(jobService.getJobs(query)));
+    }
+
+    @Test
+    void getJobs_withSearchPagination_followsRelevanceCursor() {
+        when(jobCatalog.getSnapshot()).thenReturn(searchableSnapshot());
+        JobQueryDTO query = query(1, null, null, null);
+        query.setQ("java senior");
+
+        JobPage first = jobService.getJobs(query);
+        query.setCursor(first.getMeta().getNextCursor());
+        JobPage second = jobService.getJobs(query);
+
+        assertEquals(List.of("a"), ids(first));
+        assertEquals(List.of("c"), ids(second));
+        assertTrue(second.getMeta().getHasMore());
+    }
+
+    @Test
+    void getJobs_relevanceSortWithoutSearch_throwsBadRequest() {
+        when(jobCatalog.getSnapshot()).thenReturn(searchableSnapshot());
+
+        assertThrows(BadRequestException.class, () -> jobService.getJobs(query(10, null, "relevance", null)));
+    }
+
+    @Test
+    void getJobs_expiredJobs_areHiddenFromDefaultAndFilteredPages() {
+        JobSnapshot snapshot = snapshotOf(List.of(job("a"), job("b"), job("c")))
+                .withoutOrdinals(2, RoaringBitmap.bitmapOf(1));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        JobPage all = jobService.getJobs(new JobQueryDTO());
+        JobQueryDTO sorted = new JobQueryDTO();
+        sorted.setSort("updatedAt");
+        JobPage sortedPage = jobService.getJobs(sorted);
+
+        assertEquals(2, all.getMeta().getTotalRecords());
+        assertEquals(List.of("a", "c"), ids(all));
+        assertEquals(2, sortedPage.getMeta().getTotalRecords());
+        assertFalse(ids(sortedPage).contains("b"));
+        assertEquals(2, all.getVersion());
+    }
+
+    @Test
+    void getJobs_postedWithinAndDeadlineAfter_filterByDateColumns() {
+        Instant now = Instant.now();
+        List<Job> jobs = List.of(
+                job("recent", now.minusSeconds(3_600).toString(), now.plusSeconds(86_400 * 10L).toString(), null),
+                job("old", now.minusSeconds(86_400 * 30L).toString(), now.plusSeconds(86_400 * 10L).toString(), null),
+                job("closing", now.minusSeconds(3_600).toString(), now.plusSeconds(3_600).toString(), null));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(jobs));
+
+        JobQueryDTO query = new JobQueryDTO();
+        query.setPostedWithin("7d");
+        query.setDeadlineAfter(now.plusSeconds(86_400).toString());
+        JobPage page = jobService.getJobs(query);
+
+        assertEquals(List.of("recent"), ids(page));
+        assertEquals(1, page.getMeta().getTotalRecords());
+    }
+
+    @Test
+    void getJobs_invalidPostedWithin_throwsBadRequest() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(List.of(job("a"))));
+        JobQueryDTO query = new JobQueryDTO();
+        query.setPostedWithin("soon");
+
+        assertThrows(BadRequestException.class, () -> jobService.getJobs(query));
+    }
+
+    @Test
+    void getJobs_staleCatalog_flagsMeta() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(List.of(job("a"))));
+        when(jobCatalog.isStale()).thenReturn(true);
+
+        JobPage page = jobService.getJobs(new JobQueryDTO());
+
+        assertTrue(page.getMeta().getStale());
+    }
+
+    @Test
+    void getJob_knownId_returnsEntryWithContentETag() {
+        JobSnapshot snapshot = snapshotOf(List.of(job("a"), job("b"), job("c")));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        JobEntry entry = jobService.getJob("b");
+
+        assertEquals("b", entry.store().id(entry.ordinal()));
+        assertEquals(1, entry.version());
+        assertEquals("\"" + Long.toHexString(snapshot.contentHash(1)) + "\"", entry.etag());
+        verify(jobCatalog, never()).refresh();
+    }
+
+    @Test
+    void getJob_unknownOrExpiredId_throwsNotFound() {
+        JobSnapshot snapshot = snapshotOf(List.of(job("a"), job("b")))
+                .withoutOrdinals(2, RoaringBitmap.bitmapOf(1));
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        assertThrows(NotFoundException.class, () -> jobService.getJob("missing"));
+        assertThrows(NotFoundException.class, () -> jobService.getJob("b"));
+    }
+
+    @Test
+    void getJobs_withIds_keepsRequestedOrderAndSkipsUnknown() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(List.of(job("a"), job("b"), job("c"))));
+        JobQueryDTO query = new JobQueryDTO();
+        query.setIds(List.of("c", "missing", "a", "c"));
+
+        JobPage page = jobService.getJobs(query);
+
+        assertEquals(List.of("c", "a"), ids(page));
+        assertEquals(2, page.getMeta().getTotalRecords());
+    }
+
+    @Test
+    void getJobs_withIdsAndFilter_appliesBoth() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshotOf(List.of(
+                job("a", "Backend", "Senior", "Remote", "Full-time", "Acme", true),
+                job("b", "Frontend", "Junior", "Remote", "Full-time", "Acme", false),
+                job("c", "Backend", "Junior", "Hybrid", "Contract", "Globex", true))));
+        JobQueryDTO query = new JobQueryDTO();
+        query.setIds(List.of("b", "c"));
+        query.setField(List.of("backend"));
+
+        assertEquals(List.of("c"), ids(jobService.getJobs(query)));
+    }
+
+    @Test
+    void getJobs_withIdsAndSort_sortsRequestedJobs() {
+        when(jobCatalog.getSnapshot()).thenReturn(datedSnapshot());
+        JobQueryDTO query = new JobQueryDTO();
+        query.setIds(List.of("a", "b", "c"));
+        query.setSort("publishedDate");
+
+        JobPage page = jobService.getJobs(query);
+
+        assertEquals(List.of("b", "c", "a"), ids(page));
+        assertEquals(3, page.getMeta().getTotalRecords());
+    }
+
+    private JobSnapshot salarySnapshot() {
+        List<Job> jobs = List.of(job("monthly"), job("annual"), job("hourly"), job("unparsed"), job("missing"));
+        jobs.get(0).setCompensationTierSummary("R$ 8k – 12k");
+        jobs.get(1).setCompensationTierSummary("$90K – $120K");
+        jobs.get(2).setCompensationTierSummary("$50 - $70/hr");
+        jobs.get(3).setCompensationTierSummary("A combinar");
+        return snapshotOf(jobs);
+    }
+
+    @Test
+    void getJobs_salaryRange_matchesOverlappingAnnualizedRanges() {
+        when(jobCatalog.getSnapshot()).thenReturn(salarySnapshot());
+        JobQueryDTO query = new JobQueryDTO();
+        query.setMinSalary(110_000L);
+        query.setMaxSalary(140_000L);
+
+        JobPage page = jobService.getJobs(query);
+
+        assertEquals(List.of("monthly", "annual", "hourly"), ids(page));
+    }
+
+    @Test
+    void getJobs_salaryRangeWithCurrencyAndPeriod_narrowsMatches() {
+        when(jobCatalog.getSnapshot()).thenReturn(salarySnapshot());
+        JobQueryDTO query = new JobQueryDTO();
+        query.setMinSalary(9_000L);
+        query.setSalaryPeriod("month");
+        query.setSalaryCurrency(List.of("usd"));
+
+        assertEquals(List.of("annual", "hourly"), ids(jobService.getJobs(query)));
+    }
+
+    @Test
+    void getJobs_sortBySalary_ordersByAnnualMaxWithUnknownLast() {
+        when(jobCatalog.getSnapshot()).thenReturn(salarySnapshot());
+
+        JobPage page = jobService.getJobs(query(10, null, "salary", null));
 
-        assertThrows(NullPointerException.class, () -> jobService.getJobs());
-        verify(jobClient).getJobs();
+        assertEquals(List.of("hourly", "monthly", "annual", "missing", "unparsed"), ids(page));
     }
 }
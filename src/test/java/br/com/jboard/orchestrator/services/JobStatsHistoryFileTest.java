@@ -0,0 +1,57 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobFacet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobStatsHistoryFileTest {
+    @TempDir
+    Path directory;
+
+    private JobStatsHistoryFile file() {
+        return new JobStatsHistoryFile(directory.resolve("data/jobs-stats-history.json").toString(),
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void writeThenRead_roundTripsSamplesInOrder() throws IOException {
+        Map<String, Long> companies = new LinkedHashMap<>();
+        companies.put("Globex", 3L);
+        companies.put("Acme", 1L);
+        List<JobStatsService.Sample> samples = List.of(
+                new JobStatsService.Sample(1, Instant.parse("2025-02-10T12:00:00Z"), 4, Map.of(JobFacet.COMPANY, companies)),
+                new JobStatsService.Sample(2, Instant.parse("2025-02-10T13:00:00Z"), 0, Map.of()));
+
+        JobStatsHistoryFile file = file();
+        file.write(samples);
+        List<JobStatsService.Sample> restored = file.read();
+
+        assertEquals(samples, restored);
+        assertEquals(List.of("Globex", "Acme"), List.copyOf(restored.get(0).counts().get(JobFacet.COMPANY).keySet()));
+    }
+
+    @Test
+    void read_missingFile_returnsEmpty() {
+        assertTrue(file().read().isEmpty());
+    }
+
+    @Test
+    void read_corruptFile_returnsEmpty() throws IOException {
+        Path path = directory.resolve("data/jobs-stats-history.json");
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "{not json");
+
+        assertTrue(file().read().isEmpty());
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobFacet;
+import br.com.jboard.orchestrator.catalog.JobFixtures;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsBucketDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsHistoryResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsResponseDTO;
+import br.com.jboard.orchestrator.models.dtos.JobStatsSampleDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatsServiceTest {
+    @Mock
+    JobCatalog jobCatalog;
+    @Mock
+    JobStatsHistoryFile historyFile;
+
+    JobStatsService jobStatsService;
+
+    private final JobSnapshot snapshot = new JobSnapshot(1, List.of(
+            job("a", "Backend", "Senior", "Acme", "2025-02-03"),
+            job("b", "Backend", "Junior", "Acme", "2025-02-11"),
+            job("c", "Frontend", "Senior", "Globex", "2025-02-10"),
+            job("d", "Backend", "Senior", "Initech", "2025-02-12")), Instant.now());
+
+    @BeforeEach
+    void setUp() {
+        jobStatsService = new JobStatsService(jobCatalog, new ConcurrentMapCacheManager(JobStatsService.CACHE_NAME),
+                historyFile, 3, Duration.ZERO, 2);
+    }
+
+    private static Job job(String id, String field, String seniorityLevel, String company, String publishedDate) {
+        Job job = JobFixtures.job(id, field, seniorityLevel, "Remote", "CLT", company, true);
+        job.setPublishedDate(publishedDate);
+        return job;
+    }
+
+    @Test
+    void getStats_groupBy_ranksGroupsByCount() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        JobStatsResponseDTO response = jobStatsService.getStats(new JobQueryDTO(), "company", null, null);
+
+        assertEquals(1, response.getVersion());
+        assertEquals(List.of("company"), response.getGroupBy());
+        assertNull(response.getInterval());
+        assertEquals(4, response.getMeta().getTotalRecords());
+        assertEquals(List.of(
+                new JobStatsBucketDTO(Map.of("company", "Acme"), null, 2),
+                new JobStatsBucketDTO(Map.of("company", "Globex"), null, 1),
+                new JobStatsBucketDTO(Map.of("company", "Initech"), null, 1)), response.getBuckets());
+    }
+
+    @Test
+    void getStats_withIntervalAndTop_keepsTopGroupsOrderedByPeriod() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+
+        JobStatsResponseDTO response = jobStatsService.getStats(new JobQueryDTO(), "field", "week", 1);
+
+        assertEquals("week", response.getInterval());
+        assertEquals(List.of(
+                new JobStatsBucketDTO(Map.of("field", "Backend"), "2025-02-03", 1),
+                new JobStatsBucketDTO(Map.of("field", "Backend"), "2025-02-10", 2)), response.getBuckets());
+    }
+
+    @Test
+    void getStats_appliesFilters() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobQueryDTO query = new JobQueryDTO();
+        query.setSeniorityLevel(List.of("senior"));
+
+        JobStatsResponseDTO response = jobStatsService.getStats(query, "field,company", null, null);
+
+        assertEquals(3, response.getMeta().getTotalRecords());
+        assertEquals(List.of("field", "company"), response.getGroupBy());
+        assertEquals(3, response.getBuckets().size());
+        assertEquals(new JobStatsBucketDTO(Map.of("field", "Backend", "company", "Acme"), null, 1),
+                response.getBuckets().get(0));
+    }
+
+    @Test
+    void getStats_invalidParameters_areRejected() {
+        JobQueryDTO query = new JobQueryDTO();
+
+        assertThrows(BadRequestException.class, () -> jobStatsService.getStats(query, "salary", null, null));
+        assertThrows(BadRequestException.class, () -> jobStatsService.getStats(query, "field,company,seniorityLevel", null, null));
+        assertThrows(BadRequestException.class, () -> jobStatsService.getStats(query, "field", "quarter", null));
+        assertThrows(BadRequestException.class, () -> jobStatsService.getStats(query, "field", null, 0));
+    }
+
+    @Test
+    void getStats_sameQuery_isServedFromCacheUntilRefresh() {
+        when(jobCatalog.getSnapshot()).thenReturn(snapshot);
+        JobStatsResponseDTO first = jobStatsService.getStats(new JobQueryDTO(), "company", "month", null);
+
+        assertSame(first, jobStatsService.getStats(new JobQueryDTO(), " company ", "MONTH", null));
+
+        jobStatsService.onCatalogRefreshed(new JobCatalogRefreshedEvent(snapshot, snapshot));
+        assertNotSame(first, jobStatsService.getStats(new JobQueryDTO(), "company", "month", null));
+    }
+
+    @Test
+    void onCatalogRefreshed_recordsBoundedHistoryWithTopValues() {
+        for (int version = 1; version <= 4; version++) {
+            JobSnapshot next = new JobSnapshot(version, List.of(
+                    job("a", "Backend", "Senior", "Acme", null),
+                    job("b" + version, "Data", "Junior", "Globex", null),
+                    job("c", "Frontend", "Senior", "Acme", null),
+                    job("d", "Data", "Mid", "Initech", null)), Instant.now());
+            jobStatsService.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, next));
+        }
+
+        JobStatsHistoryResponseDTO history = jobStatsService.getHistory("company");
+
+        assertEquals("company", history.getGroupBy());
+        assertEquals(3, history.getSamples().size());
+        assertEquals(2, history.getSamples().get(0).getVersion());
+        assertEquals(4, history.getSamples().get(2).getTotal());
+        assertEquals(Map.of("Acme", 2L, "Globex", 1L), history.getSamples().get(2).getCounts());
+        assertNull(jobStatsService.getHistory(null).getSamples().get(0).getCounts());
+    }
+
+    @Test
+    void onCatalogRefreshed_withinSampleInterval_skipsSample() {
+        jobStatsService = new JobStatsService(jobCatalog, new ConcurrentMapCacheManager(JobStatsService.CACHE_NAME),
+                historyFile, 3, Duration.ofHours(1), 2);
+
+        jobStatsService.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, snapshot));
+        jobStatsService.onCatalogRefreshed(new JobCatalogRefreshedEvent(snapshot,
+                new JobSnapshot(2, List.of(), Instant.now())));
+
+        assertEquals(1, jobStatsService.getHistory(null).getSamples().size());
+    }
+
+    @Test
+    void onCatalogRefreshed_persistsHistory() throws Exception {
+        jobStatsService.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, snapshot));
+
+        verify(historyFile).write(argThat(samples -> samples.size() == 1 && samples.get(0).version() == 1));
+    }
+
+    @Test
+    void restoreOnStartup_keepsMostRecentSamplesBeforeNewOnes() {
+        when(historyFile.read()).thenReturn(List.of(sample(1), sample(2), sample(3)));
+        jobStatsService.onCatalogRefreshed(new JobCatalogRefreshedEvent(null,
+                new JobSnapshot(4, snapshot.getStore(), Instant.now(), null)));
+
+        jobStatsService.restoreOnStartup();
+
+        List<JobStatsSampleDTO> samples = jobStatsService.getHistory("company").getSamples();
+        assertEquals(List.of(2L, 3L, 4L), samples.stream().map(JobStatsSampleDTO::getVersion).toList());
+        assertEquals(Map.of("Acme", 7L), samples.get(0).getCounts());
+    }
+
+    private static JobStatsService.Sample sample(long version) {
+        return new JobStatsService.Sample(version, Instant.parse("2025-02-01T00:00:00Z").plusSeconds(version), 7,
+                Map.of(JobFacet.COMPANY, Map.of("Acme", 7L)));
+    }
+}
@@ -0,0 +1,290 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalog;
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.JobQueryDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobStreamServiceTest {
+    @Mock
+    JobCatalog jobCatalog;
+
+    private final List<Runnable> pendingDeliveries = new ArrayList<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private final MutableClock clock = new MutableClock();
+    private SimpleMeterRegistry registry;
+    private JobChangesService jobChangesService;
+    private JobStreamService jobStreamService;
+    private JobSnapshot current;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        jobChangesService = new JobChangesService(jobCatalog, 2);
+        jobStreamService = new JobStreamService(jobCatalog, jobChangesService, new ObjectMapper(), registry, 2,
+                Duration.ofMinutes(30), pendingDeliveries::add, clock) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        current = new JobSnapshot(1, List.of(backend("1"), frontend("2")), clock.instant());
+        jobChangesService.onCatalogRefreshed(new JobCatalogRefreshedEvent(null, current));
+        lenient().when(jobCatalog.getSnapshot()).thenAnswer(invocation -> current);
+    }
+
+    private static Job backend(String id) {
+        return job(id, "Backend", "Senior", "Remote", "CLT", "Acme", true);
+    }
+
+    private static Job frontend(String id) {
+        return job(id, "Frontend", "Junior", "Hybrid", "PJ", "Globex", false);
+    }
+
+    private Job posted(String id, Duration ago) {
+        Job job = backend(id);
+        job.setPublishedDate(clock.instant().minus(ago).toString());
+        return job;
+    }
+
+    private void publish(Job... jobs) {
+        JobSnapshot previous = current;
+        current = new JobSnapshot(previous.getVersion() + 1, List.of(jobs), clock.instant());
+        JobCatalogRefreshedEvent event = new JobCatalogRefreshedEvent(previous, current);
+        jobChangesService.onCatalogRefreshed(event);
+        jobStreamService.onCatalogRefreshed(event);
+    }
+
+    private void deliver() {
+        while (!pendingDeliveries.isEmpty()) pendingDeliveries.remove(0).run();
+    }
+
+    private RecordingEmitter subscribe(JobQueryDTO query, Long lastEventId) {
+        jobStreamService.subscribe(query, lastEventId);
+        return emitters.get(emitters.size() - 1);
+    }
+
+    private static JobQueryDTO backendOnly() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setField(List.of("backend"));
+        return query;
+    }
+
+    @Test
+    void subscribe_sendsReadyEventWithCurrentVersion() {
+        RecordingEmitter emitter = subscribe(new JobQueryDTO(), null);
+        deliver();
+
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).startsWith("id:1\nevent:ready\n"));
+        assertEquals(1, jobStreamService.subscriberCount());
+        assertEquals(1.0, registry.get("jboard.jobs.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void subscribe_staleLastEventId_asksClientToResync() {
+        RecordingEmitter emitter = subscribe(new JobQueryDTO(), 0L);
+        deliver();
+
+        assertTrue(emitter.events.get(0).startsWith("id:1\nevent:resync\n"));
+        assertTrue(emitter.events.get(0).contains("\"since\":0"));
+        assertTrue(emitter.events.get(0).contains("\"fullResync\":true"));
+    }
+
+    @Test
+    void subscribe_lastEventIdInHistory_replaysMissedChanges() {
+        publish(backend("1"), frontend("2"), backend("3"));
+        publish(frontend("1"), frontend("2"), backend("3"), frontend("4"));
+
+        RecordingEmitter all = subscribe(new JobQueryDTO(), 1L);
+        RecordingEmitter backendOnly = subscribe(backendOnly(), 1L);
+        deliver();
+
+        String allChanges = all.events.get(0);
+        assertTrue(allChanges.startsWith("id:3\nevent:changes\n"));
+        assertTrue(allChanges.contains("\"since\":1"));
+        assertTrue(allChanges.contains("\"fullResync\":false"));
+        assertTrue(allChanges.contains("\"id\":\"3\""));
+        assertTrue(allChanges.contains("\"id\":\"4\""));
+        String backendChanges = backendOnly.events.get(0);
+        assertTrue(backendChanges.startsWith("id:3\nevent:changes\n"));
+        assertTrue(backendChanges.contains("\"id\":\"3\""));
+        assertFalse(backendChanges.contains("\"id\":\"4\""));
+        assertTrue(backendChanges.contains("\"removed\":[\"1\"]"));
+    }
+
+    @Test
+    void subscribe_lastEventIdOlderThanHistory_asksClientToResync() {
+        publish(backend("1"), frontend("2"), backend("3"));
+        publish(backend("1"), frontend("2"), backend("4"));
+        publish(backend("1"), frontend("2"), backend("5"));
+
+        RecordingEmitter emitter = subscribe(new JobQueryDTO(), 1L);
+        deliver();
+
+        assertTrue(emitter.events.get(0).startsWith("id:4\nevent:resync\n"));
+    }
+
+    @Test
+    void onCatalogRefreshed_postedWithin_isEvaluatedAgainstEachRefresh() {
+        JobQueryDTO query = new JobQueryDTO();
+        query.setPostedWithin("1d");
+        RecordingEmitter emitter = subscribe(query, null);
+        Job aging = posted("3", Duration.ofHours(20));
+        publish(backend("1"), frontend("2"), aging);
+        deliver();
+        clock.advance(Duration.ofHours(6));
+        publish(backend("1"), frontend("2"), aging, posted("4", Duration.ofHours(1)));
+        deliver();
+
+        assertEquals(3, emitter.events.size());
+        assertTrue(emitter.events.get(1).contains("\"id\":\"3\""));
+        String changes = emitter.events.get(2);
+        assertTrue(changes.startsWith("id:3\nevent:changes\n"));
+        assertTrue(changes.contains("\"id\":\"4\""));
+        assertTrue(changes.contains("\"removed\":[\"3\"]"));
+    }
+
+    @Test
+    void onCatalogRefreshed_pushesOnlyChangesMatchingSubscriberFilters() {
+        RecordingEmitter all = subscribe(new JobQueryDTO(), null);
+        RecordingEmitter backendOnly = subscribe(backendOnly(), null);
+        deliver();
+
+        publish(backend("1"), backend("3"), frontend("4"));
+        deliver();
+
+        String allChanges = all.events.get(1);
+        assertTrue(allChanges.startsWith("id:2\nevent:changes\n"));
+        assertTrue(allChanges.contains("\"id\":\"3\""));
+        assertTrue(allChanges.contains("\"id\":\"4\""));
+        assertTrue(allChanges.contains("\"removed\":[\"2\"]"));
+        String backendChanges = backendOnly.events.get(1);
+        assertTrue(backendChanges.contains("\"id\":\"3\""));
+        assertFalse(backendChanges.contains("\"id\":\"4\""));
+        assertTrue(backendChanges.contains("\"removed\":[]"));
+    }
+
+    @Test
+    void onCatalogRefreshed_updatedJobLeavingFilter_isReportedAsRemoved() {
+        RecordingEmitter backendOnly = subscribe(backendOnly(), null);
+        Job moved = frontend("1");
+
+        publish(moved, frontend("2"));
+        deliver();
+
+        assertTrue(backendOnly.events.get(1).contains("\"removed\":[\"1\"]"));
+    }
+
+    @Test
+    void onCatalogRefreshed_noMatchingChanges_sendsNothing() {
+        RecordingEmitter backendOnly = subscribe(backendOnly(), null);
+        deliver();
+
+        publish(backend("1"), frontend("2"), frontend("5"));
+        deliver();
+
+        assertEquals(1, backendOnly.events.size());
+    }
+
+    @Test
+    void onCatalogRefreshed_slowSubscriber_dropsBufferedEventsAndResyncs() {
+        RecordingEmitter emitter = subscribe(new JobQueryDTO(), null);
+
+        publish(backend("1"), frontend("2"), backend("3"));
+        publish(backend("1"), frontend("2"), backend("3"), backend("4"));
+        publish(backend("1"), frontend("2"), backend("3"), backend("4"), backend("5"));
+        deliver();
+
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(0).startsWith("id:3\nevent:resync\n"));
+        assertTrue(emitter.events.get(0).contains("\"since\":1"));
+        assertTrue(emitter.events.get(1).startsWith("id:4\nevent:changes\n"));
+        assertEquals(1.0, registry.get("jboard.jobs.stream.resyncs").counter().count());
+    }
+
+    @Test
+    void deliver_failingSubscriber_isRemoved() {
+        RecordingEmitter emitter = subscribe(new JobQueryDTO(), null);
+        emitter.failing = true;
+
+        deliver();
+
+        assertEquals(0, jobStreamService.subscriberCount());
+    }
+
+    @Test
+    void heartbeat_isSkippedWhileEventsArePending() {
+        RecordingEmitter emitter = subscribe(new JobQueryDTO(), null);
+
+        jobStreamService.heartbeat();
+        deliver();
+        jobStreamService.heartbeat();
+        deliver();
+
+        assertEquals(2, emitter.events.size());
+        assertEquals(":heartbeat\n\n", emitter.events.get(1));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) throw new IOException("Broken pipe");
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
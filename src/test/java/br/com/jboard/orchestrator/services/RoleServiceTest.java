@@ -23,6 +23,8 @@ import static org.mockito.Mockito.*;
 class RoleServiceTest {
     @Mock
     UserClient userClient;
+    @Mock
+    AuthorizationService authorizationService;
     @InjectMocks
     RoleService roleService;
 
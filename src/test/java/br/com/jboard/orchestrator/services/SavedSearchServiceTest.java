@@ -0,0 +1,245 @@
+package br.com.jboard.orchestrator.services;
+
+import br.com.jboard.orchestrator.catalog.JobCatalogRefreshedEvent;
+import br.com.jboard.orchestrator.catalog.JobSnapshot;
+import br.com.jboard.orchestrator.models.Job;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchMatchDTO;
+import br.com.jboard.orchestrator.models.dtos.SavedSearchMatchesResponseDTO;
+import br.com.jboard.orchestrator.models.exceptions.BadRequestException;
+import br.com.jboard.orchestrator.models.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.jboard.orchestrator.catalog.JobFixtures.job;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchServiceTest {
+    @Mock
+    SavedSearchFile savedSearchFile;
+
+    private SavedSearchService savedSearchService;
+    private JobSnapshot current;
+
+    @BeforeEach
+    void setUp() {
+        savedSearchService = new SavedSearchService(savedSearchFile, 2, 3);
+    }
+
+    private static SavedSearchDTO search(String name, String q) {
+        SavedSearchDTO search = new SavedSearchDTO();
+        search.setName(name);
+        search.setQ(q);
+        return search;
+    }
+
+    private static Job titled(String id, String title) {
+        Job job = job(id);
+        job.setTitle(title);
+        return job;
+    }
+
+    private void publish(Job... jobs) {
+        JobSnapshot previous = current;
+        current = new JobSnapshot(previous == null ? 1 : previous.getVersion() + 1, List.of(jobs), Instant.now());
+        savedSearchService.onCatalogRefreshed(new JobCatalogRefreshedEvent(previous, current));
+    }
+
+    private static Job posted(String id, Instant publishedAt) {
+        Job job = titled(id, "Desenvolvedor Java");
+        job.setPublishedDate(publishedAt.toString());
+        return job;
+    }
+
+    private List<String> matchedJobs(String username, long after) {
+        return savedSearchService.getMatches(username, after).getMatches().stream()
+                .map(match -> match.getSavedSearchName() + ":" + match.getJob().getId())
+                .toList();
+    }
+
+    @Test
+    void createSavedSearch_assignsIdAndPersists() throws IOException {
+        SavedSearchDTO created = savedSearchService.createSavedSearch("alice", search("Java", "java"));
+
+        assertNotNull(created.getId());
+        assertNotNull(created.getCreatedAt());
+        assertEquals(List.of(created), savedSearchService.getSavedSearches("alice").getSavedSearches());
+        assertTrue(savedSearchService.getSavedSearches("bob").getSavedSearches().isEmpty());
+        verify(savedSearchFile).write(Map.of("alice", List.of(created)));
+    }
+
+    @Test
+    void createSavedSearch_withoutCriteria_throwsBadRequest() {
+        assertThrows(BadRequestException.class,
+                () -> savedSearchService.createSavedSearch("alice", search("Tudo", " ")));
+    }
+
+    @Test
+    void createSavedSearch_overLimit_throwsBadRequest() {
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+        savedSearchService.createSavedSearch("alice", search("Go", "go"));
+
+        assertThrows(BadRequestException.class,
+                () -> savedSearchService.createSavedSearch("alice", search("Rust", "rust")));
+    }
+
+    @Test
+    void deleteSavedSearch_removesSearch() throws IOException {
+        SavedSearchDTO created = savedSearchService.createSavedSearch("alice", search("Java", "java"));
+
+        savedSearchService.deleteSavedSearch("alice", created.getId());
+
+        assertTrue(savedSearchService.getSavedSearches("alice").getSavedSearches().isEmpty());
+        verify(savedSearchFile).write(Map.of());
+    }
+
+    @Test
+    void deleteSavedSearch_unknownId_throwsNotFound() {
+        assertThrows(NotFoundException.class, () -> savedSearchService.deleteSavedSearch("alice", "missing"));
+    }
+
+    @Test
+    void restoreOnStartup_loadsPersistedSearches() {
+        SavedSearchDTO saved = search("Java", "java");
+        saved.setId("s1");
+        when(savedSearchFile.read()).thenReturn(Map.of("alice", List.of(saved)));
+
+        savedSearchService.restoreOnStartup();
+        publish(job("1"));
+        publish(job("1"), titled("2", "Desenvolvedor Java"));
+
+        assertEquals(List.of("Java:2"), matchedJobs("alice", 0));
+    }
+
+    @Test
+    void onCatalogRefreshed_notifiesOwnersOfNewlyMatchingJobs() {
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+        savedSearchService.createSavedSearch("bob", search("React", "react"));
+        publish(job("1"), titled("2", "Desenvolvedor Java"));
+
+        publish(job("1"), titled("2", "Desenvolvedor Java"), titled("3", "Java Backend"), titled("4", "React"));
+
+        assertEquals(List.of("Java:3"), matchedJobs("alice", 0));
+        assertEquals(List.of("React:4"), matchedJobs("bob", 0));
+    }
+
+    @Test
+    void onCatalogRefreshed_updatedJobAlreadyMatching_isNotNotifiedAgain() {
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+        publish(job("1"), titled("2", "Desenvolvedor Java"));
+
+        publish(titled("1", "Engenheiro Java"), titled("2", "Desenvolvedor Java Sênior"));
+
+        assertEquals(List.of("Java:1"), matchedJobs("alice", 0));
+    }
+
+    @Test
+    void onCatalogRefreshed_postedWithin_isEvaluatedAgainstEachRefresh() throws IOException {
+        SavedSearchDTO recent = search("Java recente", "java");
+        recent.setPostedWithin("7d");
+        SavedSearchDTO created = savedSearchService.createSavedSearch("alice", recent);
+        assertEquals("7d", created.getPostedWithin());
+        verify(savedSearchFile).write(Map.of("alice", List.of(created)));
+        Instant now = Instant.now();
+        publish(job("1"));
+
+        publish(job("1"), posted("2", now.minus(Duration.ofDays(2))), posted("3", now.minus(Duration.ofDays(30))));
+        publish(job("1"), posted("2", now.minus(Duration.ofDays(2))), posted("3", now.minus(Duration.ofDays(30))),
+                posted("4", now.minus(Duration.ofHours(1))));
+
+        assertEquals(List.of("Java recente:2", "Java recente:4"), matchedJobs("alice", 0));
+    }
+
+    @Test
+    void createSavedSearch_invalidPostedWithin_throwsBadRequest() {
+        SavedSearchDTO invalid = search("Java", "java");
+        invalid.setPostedWithin("semana");
+
+        assertThrows(BadRequestException.class, () -> savedSearchService.createSavedSearch("alice", invalid));
+    }
+
+    @Test
+    void onCatalogRefreshed_firstSnapshot_doesNotNotify() {
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+
+        publish(titled("1", "Desenvolvedor Java"));
+
+        assertTrue(matchedJobs("alice", 0).isEmpty());
+    }
+
+    @Test
+    void deleteAll_removesSearchesAndPendingMatchesOfUserOnly() throws IOException {
+        SavedSearchDTO kept = savedSearchService.createSavedSearch("bob", search("Java", "java"));
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+        publish(titled("1", "Go Developer"));
+        publish(titled("1", "Go Developer"), titled("2", "Java Developer"));
+
+        savedSearchService.deleteAll("alice");
+
+        assertTrue(savedSearchService.getSavedSearches("alice").getSavedSearches().isEmpty());
+        assertTrue(matchedJobs("alice", 0).isEmpty());
+        assertEquals(List.of("Java:2"), matchedJobs("bob", 0));
+        verify(savedSearchFile, times(2)).write(Map.of("bob", List.of(kept)));
+    }
+
+    @Test
+    void deleteAll_userWithoutSearches_doesNotPersist() throws IOException {
+        savedSearchService.deleteAll("alice");
+
+        verify(savedSearchFile, never()).write(anyMap());
+    }
+
+    @Test
+    void getMatches_afterRestart_newIdsFollowPreviousCursor() throws InterruptedException {
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+        publish(titled("1", "Go Developer"));
+        publish(titled("1", "Go Developer"), titled("2", "Java Developer"));
+        long lastId = savedSearchService.getMatches("alice", 0).getLastId();
+
+        Thread.sleep(2);
+        List<SavedSearchDTO> saved = savedSearchService.getSavedSearches("alice").getSavedSearches();
+        when(savedSearchFile.read()).thenReturn(Map.of("alice", saved));
+        savedSearchService = new SavedSearchService(savedSearchFile, 2, 3);
+        savedSearchService.restoreOnStartup();
+        publish(titled("1", "Go Developer"), titled("2", "Java Developer"), titled("3", "Java Engineer"));
+
+        assertEquals(List.of("Java:3"), matchedJobs("alice", lastId));
+    }
+
+    @Test
+    void getMatches_afterCursor_returnsOnlyNewerAndKeepsLatestPending() {
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+        publish(job("1"));
+        publish(job("1"), titled("2", "Java"), titled("3", "Java"));
+
+        SavedSearchMatchesResponseDTO first = savedSearchService.getMatches("alice", 0);
+        publish(job("1"), titled("2", "Java"), titled("3", "Java"), titled("4", "Java"), titled("5", "Java"));
+        SavedSearchMatchesResponseDTO next = savedSearchService.getMatches("alice", first.getLastId());
+
+        assertEquals(List.of("2", "3"), first.getMatches().stream().map(match -> match.getJob().getId()).toList());
+        assertEquals(List.of("4", "5"), next.getMatches().stream().map(match -> match.getJob().getId()).toList());
+        assertEquals(List.of("Java:3", "Java:4", "Java:5"), matchedJobs("alice", 0));
+        assertTrue(next.getMatches().stream().mapToLong(SavedSearchMatchDTO::getId).allMatch(id -> id > first.getLastId()));
+    }
+
+    @Test
+    void createSavedSearch_whenPersistFails_keepsSearchInMemory() throws IOException {
+        doThrow(new IOException("disk full")).when(savedSearchFile).write(anyMap());
+
+        savedSearchService.createSavedSearch("alice", search("Java", "java"));
+
+        assertEquals(1, savedSearchService.getSavedSearches("alice").getSavedSearches().size());
+    }
+}
@@ -1,16 +1,22 @@
 package br.com.jboard.orchestrator.services;
 
 import br.com.jboard.orchestrator.clients.SkillClient;
+import br.com.jboard.orchestrator.config.CacheConfig;
+import br.com.jboard.orchestrator.config.StaleWhileRevalidateCache;
 import br.com.jboard.orchestrator.models.Skill;
 import br.com.jboard.orchestrator.models.dtos.SkillDTO;
 import br.com.jboard.orchestrator.models.dtos.SkillResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.web.client.HttpClientErrorException;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,11 +29,21 @@ class SkillServiceTest {
     @Mock
     private SkillClient skillClient;
 
-    @InjectMocks
+    private StaleWhileRevalidateCache skillCache;
     private SkillService skillService;
 
     private final String testUsername = "testuser";
 
+    @BeforeEach
+    void setUp() {
+        skillCache = new StaleWhileRevalidateCache(CacheConfig.SKILLS, Duration.ofMinutes(1), Duration.ZERO,
+                Duration.ZERO, 100, Runnable::run);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(skillCache));
+        cacheManager.afterPropertiesSet();
+        skillService = new SkillService(skillClient, cacheManager);
+    }
+
     @Test
     void getAllSkills_ShouldReturnSkillResponseDTO_WhenSkillsExist() {
         List<Skill> mockSkills = List.of(
@@ -162,4 +178,115 @@ class SkillServiceTest {
         assertThrows(RuntimeException.class, () -> skillService.deleteAllSkills(testUsername));
         verify(skillClient).deleteAllSkills(testUsername);
     }
+
+    @Test
+    void getAllSkills_ShouldServeFromCache_OnRepeatedCalls() {
+        when(skillClient.getAllSkills(testUsername)).thenReturn(List.of(new Skill(testUsername, "java")));
+
+        skillService.getAllSkills(testUsername);
+        SkillResponseDTO result = skillService.getAllSkills(testUsername);
+
+        assertEquals(List.of("java"), result.getSkills());
+        verify(skillClient, times(1)).getAllSkills(testUsername);
+    }
+
+    @Test
+    void addSkill_ShouldWriteThroughCachedSkills() {
+        when(skillClient.getAllSkills(testUsername)).thenReturn(List.of(new Skill(testUsername, "java")));
+
+        skillService.getAllSkills(testUsername);
+        skillService.addSkill(new SkillDTO("Kotlin"), testUsername);
+        skillService.addSkill(new SkillDTO("java"), testUsername);
+        SkillResponseDTO result = skillService.getAllSkills(testUsername);
+
+        assertEquals(List.of("java", "kotlin"), result.getSkills());
+        assertEquals(2, result.getMeta().getTotalRecords());
+        verify(skillClient, times(1)).getAllSkills(testUsername);
+    }
+
+    @Test
+    void removeSkill_ShouldWriteThroughCachedSkills() {
+        when(skillClient.getAllSkills(testUsername))
+                .thenReturn(List.of(new Skill(testUsername, "java"), new Skill(testUsername, "kotlin")));
+
+        skillService.getAllSkills(testUsername);
+        skillService.removeSkill(new SkillDTO(" JAVA "), testUsername);
+        SkillResponseDTO result = skillService.getAllSkills(testUsername);
+
+        assertEquals(List.of("kotlin"), result.getSkills());
+        assertEquals(1, result.getMeta().getTotalRecords());
+        verify(skillClient, times(1)).getAllSkills(testUsername);
+    }
+
+    @Test
+    void deleteAllSkills_ShouldCacheEmptySkills() {
+        skillService.deleteAllSkills(testUsername);
+        SkillResponseDTO result = skillService.getAllSkills(testUsername);
+
+        assertTrue(result.getSkills().isEmpty());
+        verify(skillClient, never()).getAllSkills(any());
+    }
+
+    @Test
+    void addSkill_ShouldNotPopulateCache_WhenSkillsWereNotCached() {
+        when(skillClient.getAllSkills(testUsername))
+                .thenReturn(List.of(new Skill(testUsername, "java"), new Skill(testUsername, "kotlin")));
+
+        skillService.addSkill(new SkillDTO("kotlin"), testUsername);
+        SkillResponseDTO result = skillService.getAllSkills(testUsername);
+
+        assertEquals(List.of("java", "kotlin"), result.getSkills());
+        verify(skillClient).getAllSkills(testUsername);
+    }
+
+    @Test
+    void addSkill_ShouldKeepCachedSkills_WhenClientFails() {
+        when(skillClient.getAllSkills(testUsername)).thenReturn(List.of(new Skill(testUsername, "java")));
+        doThrow(new RuntimeException("Client error")).when(skillClient).addSkill(any());
+
+        skillService.getAllSkills(testUsername);
+        assertThrows(RuntimeException.class, () -> skillService.addSkill(new SkillDTO("kotlin"), testUsername));
+
+        assertEquals(List.of("java"), skillService.getAllSkills(testUsername).getSkills());
+    }
+
+    @Test
+    void addSkill_ShouldNotCountCacheLookups() {
+        when(skillClient.getAllSkills(testUsername)).thenReturn(List.of(new Skill(testUsername, "java")));
+
+        skillService.getAllSkills(testUsername);
+        skillService.addSkill(new SkillDTO("kotlin"), testUsername);
+        skillService.removeSkill(new SkillDTO("java"), testUsername);
+
+        assertEquals(0, skillCache.hitCount());
+        assertEquals(1, skillCache.missCount());
+    }
+
+    @Test
+    void getAllSkills_ShouldNotExposeCachedValue() {
+        when(skillClient.getAllSkills(testUsername)).thenReturn(List.of(new Skill(testUsername, "java")));
+
+        SkillResponseDTO first = skillService.getAllSkills(testUsername);
+        first.getMeta().setTotalRecords(42);
+        first.setSkills(new ArrayList<>(List.of("cobol")));
+        assertThrows(UnsupportedOperationException.class,
+                () -> skillService.getAllSkills(testUsername).getSkills().add("cobol"));
+
+        SkillResponseDTO second = skillService.getAllSkills(testUsername);
+        assertEquals(List.of("java"), second.getSkills());
+        assertEquals(1, second.getMeta().getTotalRecords());
+    }
+
+    @Test
+    void addSkill_ShouldEvictCachedSkills_WhenCacheCannotBeUpdatedInPlace() {
+        skillService = new SkillService(skillClient, new ConcurrentMapCacheManager(CacheConfig.SKILLS));
+        when(skillClient.getAllSkills(testUsername)).thenReturn(List.of(new Skill(testUsername, "java")),
+                List.of(new Skill(testUsername, "java"), new Skill(testUsername, "kotlin")));
+
+        skillService.getAllSkills(testUsername);
+        skillService.addSkill(new SkillDTO("kotlin"), testUsername);
+
+        assertEquals(List.of("java", "kotlin"), skillService.getAllSkills(testUsername).getSkills());
+        verify(skillClient, times(2)).getAllSkills(testUsername);
+    }
 }